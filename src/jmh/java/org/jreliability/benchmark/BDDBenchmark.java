@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jreliability.bdd.BDD;
+import org.jreliability.bdd.BDDReliabilityFunction;
+import org.jreliability.bdd.BDDTTRF;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The {@link BDDBenchmark} measures the construction of the {@link BDD} and
+ * the evaluation of the {@link BDDReliabilityFunction}.
+ * 
+ * @author glass
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BDDBenchmark {
+
+	/**
+	 * Converts the term of the model to a {@link BDD}.
+	 * 
+	 * @param state
+	 *            the model
+	 * @return the number of nodes
+	 */
+	@Benchmark
+	public int convertToBDD(ModelState state) {
+		BDD<String> bdd = new BDDTTRF<>(state.provider).convertToBDD(state.term);
+		int nodes = bdd.nodeCount();
+		bdd.free();
+		return nodes;
+	}
+
+	/**
+	 * Evaluates the {@link BDDReliabilityFunction} for each time point
+	 * separately.
+	 * 
+	 * @param state
+	 *            the model
+	 * @param blackhole
+	 *            the blackhole
+	 */
+	@Benchmark
+	public void getY(ModelState state, Blackhole blackhole) {
+		for (double x : state.times) {
+			blackhole.consume(state.reliabilityFunction.getY(x));
+		}
+	}
+
+	/**
+	 * Evaluates the {@link BDDReliabilityFunction} for all time points at
+	 * once.
+	 * 
+	 * @param state
+	 *            the model
+	 * @return the values
+	 */
+	@Benchmark
+	public double[] getYBatch(ModelState state) {
+		return state.reliabilityFunction.getY(state.times);
+	}
+
+}
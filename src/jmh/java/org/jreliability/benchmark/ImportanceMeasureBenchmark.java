@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.benchmark;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jreliability.importancemeasures.ABGT;
+import org.jreliability.importancemeasures.BarlowProschan;
+import org.jreliability.importancemeasures.Birnbaum;
+import org.jreliability.importancemeasures.BirnbaumAB;
+import org.jreliability.importancemeasures.RAW;
+import org.jreliability.importancemeasures.RRW;
+import org.jreliability.importancemeasures.TimeDependentImportanceMeasure;
+import org.jreliability.importancemeasures.Vaurio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link ImportanceMeasureBenchmark} measures the construction and
+ * calculation of the importance measures.
+ * 
+ * @author glass
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ImportanceMeasureBenchmark {
+
+	/**
+	 * The time-dependent importance measures.
+	 */
+	public enum Measure {
+		ABGT, BIRNBAUM, BIRNBAUM_AB, RAW, RRW, VAURIO
+	}
+
+	/**
+	 * The benchmarked time-dependent importance measure.
+	 */
+	@Param
+	public Measure measure;
+
+	/**
+	 * Calculates the time-dependent importance measure at the
+	 * mean-time-to-failure.
+	 * 
+	 * @param state
+	 *            the model
+	 * @return the importance of each component
+	 */
+	@Benchmark
+	public Map<String, Double> calculate(ModelState state) {
+		TimeDependentImportanceMeasure<String> importanceMeasure;
+		switch (measure) {
+		case ABGT:
+			importanceMeasure = new ABGT<>(state.bdd, state.transformer);
+			break;
+		case BIRNBAUM:
+			importanceMeasure = new Birnbaum<>(state.bdd, state.transformer);
+			break;
+		case BIRNBAUM_AB:
+			importanceMeasure = new BirnbaumAB<>(state.bdd, state.transformer);
+			break;
+		case RAW:
+			importanceMeasure = new RAW<>(state.bdd, state.transformer);
+			break;
+		case RRW:
+			importanceMeasure = new RRW<>(state.bdd, state.transformer);
+			break;
+		default:
+			importanceMeasure = new Vaurio<>(state.bdd, state.transformer);
+			break;
+		}
+		return importanceMeasure.calculate(state.time);
+	}
+
+	/**
+	 * Calculates the {@link BarlowProschan} importance of the model. Since the
+	 * measure is only defined for coherent systems, non-coherent models are
+	 * skipped.
+	 * 
+	 * @param state
+	 *            the model
+	 * @return the importance of each component
+	 */
+	@Benchmark
+	public Map<String, Double> calculateBarlowProschan(ModelState state) {
+		if (!state.model.isCoherent()) {
+			return Collections.emptyMap();
+		}
+		return new BarlowProschan<>(state.bdd, state.transformer).calculate();
+	}
+
+}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.benchmark;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.collections15.Transformer;
+import org.jreliability.booleanfunction.Term;
+import org.jreliability.booleanfunction.common.ANDTerm;
+import org.jreliability.booleanfunction.common.LiteralTerm;
+import org.jreliability.booleanfunction.common.ORTerm;
+import org.jreliability.function.ReliabilityFunction;
+import org.jreliability.function.common.ExponentialReliabilityFunction;
+import org.jreliability.function.common.SimpleFunctionTransformer;
+import org.jreliability.testsystems.BridgeSystem;
+import org.jreliability.testsystems.SeriesParallelSystem;
+import org.jreliability.testsystems.TCNCSystem;
+import org.jreliability.testsystems.TINCSystem;
+import org.jreliability.testsystems.TMR;
+
+/**
+ * The {@link Model} enumerates the systems used in the benchmarks, i.e., the
+ * {@code testsystems} and a {@link #SYNTHETIC} system that is a random
+ * conjunctive normal form similar to the one used in the
+ * {@code MemoryLeakTest}.
+ * 
+ * @author glass
+ * 
+ */
+public enum Model {
+
+	/**
+	 * The {@link TMR} with exponentially distributed components.
+	 */
+	TMR {
+		@Override
+		public Term getTerm(int scale) {
+			return tmr.getTerm();
+		}
+
+		@Override
+		public Transformer<String, ReliabilityFunction> getTransformer(int scale) {
+			return tmr.getTransformer();
+		}
+	},
+	/**
+	 * The {@link BridgeSystem} with exponentially distributed components.
+	 */
+	BRIDGE {
+		@Override
+		public Term getTerm(int scale) {
+			return bridge.getTerm();
+		}
+
+		@Override
+		public Transformer<String, ReliabilityFunction> getTransformer(int scale) {
+			return bridge.getTransformer();
+		}
+	},
+	/**
+	 * The {@link SeriesParallelSystem} with exponentially distributed
+	 * components.
+	 */
+	SERIES_PARALLEL {
+		@Override
+		public Term getTerm(int scale) {
+			return seriesParallel.getTerm();
+		}
+
+		@Override
+		public Transformer<String, ReliabilityFunction> getTransformer(int scale) {
+			return seriesParallel.getTransformer();
+		}
+	},
+	/**
+	 * The {@link TCNCSystem}.
+	 */
+	TCNC {
+		@Override
+		public boolean isCoherent() {
+			return false;
+		}
+
+		@Override
+		public Term getTerm(int scale) {
+			return new TCNCSystem().getTerm();
+		}
+
+		@Override
+		public Transformer<String, ReliabilityFunction> getTransformer(int scale) {
+			return new TCNCSystem().getTransformer();
+		}
+	},
+	/**
+	 * The {@link TINCSystem}.
+	 */
+	TINC {
+		@Override
+		public boolean isCoherent() {
+			return false;
+		}
+
+		@Override
+		public Term getTerm(int scale) {
+			return new TINCSystem().getTerm();
+		}
+
+		@Override
+		public Transformer<String, ReliabilityFunction> getTransformer(int scale) {
+			return new TINCSystem().getTransformer();
+		}
+	},
+	/**
+	 * A random conjunction of {@code scale} disjunctions of up to ten out of
+	 * {@link #VARIABLES} components. The disjunctions are positive such that
+	 * the system is coherent and all measures are defined.
+	 */
+	SYNTHETIC {
+		@Override
+		public Term getTerm(int scale) {
+			Random random = new Random(SEED);
+			ANDTerm term = new ANDTerm();
+			for (int i = 0; i < scale; i++) {
+				Set<Integer> variables = new LinkedHashSet<>();
+				for (int j = 0; j < 10; j++) {
+					variables.add(random.nextInt(VARIABLES));
+				}
+				ORTerm or = new ORTerm();
+				for (int variable : variables) {
+					or.add(new LiteralTerm<>(name(variable)));
+				}
+				term.add(or);
+			}
+			return term;
+		}
+
+		@Override
+		public Transformer<String, ReliabilityFunction> getTransformer(int scale) {
+			Map<String, ReliabilityFunction> reliabilityFunctions = new HashMap<>();
+			for (int i = 0; i < VARIABLES; i++) {
+				reliabilityFunctions.put(name(i), new ExponentialReliabilityFunction(0.001 * (1 + i % 10)));
+			}
+			return new SimpleFunctionTransformer<>(reliabilityFunctions);
+		}
+	};
+
+	/**
+	 * The seed of the {@link #SYNTHETIC} system.
+	 */
+	public static final long SEED = 0;
+
+	/**
+	 * The number of variables of the {@link #SYNTHETIC} system.
+	 */
+	public static final int VARIABLES = 100;
+
+	/**
+	 * The {@link TMR}.
+	 */
+	protected static final TMR tmr = new TMR(new ExponentialReliabilityFunction(0.01),
+			new ExponentialReliabilityFunction(0.02), new ExponentialReliabilityFunction(0.03));
+
+	/**
+	 * The {@link BridgeSystem}.
+	 */
+	protected static final BridgeSystem bridge = new BridgeSystem(new ExponentialReliabilityFunction(0.01),
+			new ExponentialReliabilityFunction(0.02), new ExponentialReliabilityFunction(0.03),
+			new ExponentialReliabilityFunction(0.04), new ExponentialReliabilityFunction(0.05));
+
+	/**
+	 * The {@link SeriesParallelSystem}.
+	 */
+	protected static final SeriesParallelSystem seriesParallel = new SeriesParallelSystem(
+			new ExponentialReliabilityFunction(0.01), new ExponentialReliabilityFunction(0.02),
+			new ExponentialReliabilityFunction(0.03));
+
+	/**
+	 * Returns {@code true} if the system is coherent, i.e., its structure
+	 * function is monotone.
+	 * 
+	 * @return true if the system is coherent
+	 */
+	public boolean isCoherent() {
+		return true;
+	}
+
+	/**
+	 * Returns the {@link Term} of the system.
+	 * 
+	 * @param scale
+	 *            the scale of the synthetic system
+	 * @return the term
+	 */
+	public abstract Term getTerm(int scale);
+
+	/**
+	 * Returns the element to {@link ReliabilityFunction} transformer of the
+	 * system.
+	 * 
+	 * @param scale
+	 *            the scale of the synthetic system
+	 * @return the transformer
+	 */
+	public abstract Transformer<String, ReliabilityFunction> getTransformer(int scale);
+
+	/**
+	 * Returns the name of a variable of the {@link #SYNTHETIC} system.
+	 * 
+	 * @param variable
+	 *            the variable
+	 * @return the name
+	 */
+	protected static String name(int variable) {
+		return "component" + variable;
+	}
+
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.benchmark;
+
+import org.apache.commons.collections15.Transformer;
+import org.jreliability.bdd.BDD;
+import org.jreliability.bdd.BDDProvider;
+import org.jreliability.bdd.BDDReliabilityFunction;
+import org.jreliability.bdd.BDDTTRF;
+import org.jreliability.bdd.javabdd.JBDDProviderFactory;
+import org.jreliability.booleanfunction.Term;
+import org.jreliability.evaluator.MomentEvaluator;
+import org.jreliability.function.ReliabilityFunction;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The {@link ModelState} holds a {@link Model} together with its {@link BDD}
+ * and {@link ReliabilityFunction} for all benchmarks.
+ * <p>
+ * The {@code scale} only affects the {@link Model#SYNTHETIC} system, restrict
+ * it with the JMH option {@code -p scale=5} when only the test systems are of
+ * interest.
+ * 
+ * @author glass
+ * 
+ */
+@State(Scope.Benchmark)
+public class ModelState {
+
+	/**
+	 * The number of time points of {@link #times}.
+	 */
+	public static final int TIMES = 256;
+
+	/**
+	 * The benchmarked model.
+	 */
+	@Param
+	public Model model;
+
+	/**
+	 * The number of disjunctions of the {@link Model#SYNTHETIC} system.
+	 */
+	@Param({ "5", "10", "15" })
+	public int scale;
+
+	/**
+	 * The {@link Term} of the model.
+	 */
+	protected Term term;
+
+	/**
+	 * The element to {@link ReliabilityFunction} transformer of the model.
+	 */
+	protected Transformer<String, ReliabilityFunction> transformer;
+
+	/**
+	 * The used {@link BDDProvider}.
+	 */
+	protected BDDProvider<String> provider;
+
+	/**
+	 * The {@link BDD} of the model.
+	 */
+	protected BDD<String> bdd;
+
+	/**
+	 * The {@link BDDReliabilityFunction} of the model.
+	 */
+	protected BDDReliabilityFunction<String> reliabilityFunction;
+
+	/**
+	 * Equidistant time points from zero to the upper bound of the
+	 * {@link MomentEvaluator}.
+	 */
+	protected double[] times;
+
+	/**
+	 * The mean-time-to-failure of the model.
+	 */
+	protected double time;
+
+	/**
+	 * Builds the model.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		term = model.getTerm(scale);
+		transformer = model.getTransformer(scale);
+		provider = new JBDDProviderFactory().getProvider();
+		bdd = new BDDTTRF<>(provider).convertToBDD(term);
+		reliabilityFunction = new BDDReliabilityFunction<>(bdd, transformer);
+
+		MomentEvaluator evaluator = new MomentEvaluator(1);
+		double upperBound = evaluator.getUpperBound(reliabilityFunction);
+		times = new double[TIMES];
+		for (int i = 0; i < TIMES; i++) {
+			times[i] = upperBound * i / (TIMES - 1);
+		}
+		time = evaluator.evaluate(reliabilityFunction);
+	}
+
+	/**
+	 * Frees the {@link BDD} of the model.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		bdd.free();
+	}
+
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jreliability.sl.SL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link SLBenchmark} measures the evaluation of the stochastic logic
+ * {@link SL}.
+ * 
+ * @author glass
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class SLBenchmark {
+
+	/**
+	 * The length of the bit streams.
+	 */
+	@Param({ "10000" })
+	public int bitStreamLength;
+
+	/**
+	 * The {@link SL} of the model.
+	 */
+	protected SL<String> sl;
+
+	/**
+	 * Builds the {@link SL} of the model.
+	 * 
+	 * @param state
+	 *            the model
+	 */
+	@Setup
+	public void setup(ModelState state) {
+		sl = new SL<>(state.term, bitStreamLength);
+	}
+
+	/**
+	 * Calculates the probability of the model at its mean-time-to-failure.
+	 * 
+	 * @param state
+	 *            the model
+	 * @return the probability
+	 */
+	@Benchmark
+	public double getProbabiliy(ModelState state) {
+		return sl.getProbabilityPrimitive(a -> state.transformer.transform(a).getY(state.time));
+	}
+
+	/**
+	 * Calculates the probabilities of the model at all time points in one pass.
+	 * 
+	 * @param state
+	 *            the model
+	 * @return the probabilities
+	 */
+	@Benchmark
+	public double[] getProbabilities(ModelState state) {
+		return sl.getProbabilities((a, k) -> state.transformer.transform(a).getY(state.times[k]),
+				state.times.length);
+	}
+
+}
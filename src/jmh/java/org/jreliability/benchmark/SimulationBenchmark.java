@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jreliability.bdd.BDDTTRFSimulative;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link SimulationBenchmark} measures the collection of the
+ * times-to-failure by the {@link BDDTTRFSimulative}.
+ * 
+ * @author glass
+ * 
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class SimulationBenchmark {
+
+	/**
+	 * The number of samples.
+	 */
+	@Param({ "1000" })
+	public int samples;
+
+	/**
+	 * Collects the times-to-failure of the model.
+	 * 
+	 * @param state
+	 *            the model
+	 * @return the times-to-failure
+	 */
+	@Benchmark
+	public List<Double> collectTimesToFailure(ModelState state) {
+		BDDTTRFSimulative<String> simulative = new BDDTTRFSimulative<>(state.provider);
+		return simulative.collectTimesToFailure(state.term, state.transformer, null, samples);
+	}
+
+}
@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+/**
+ * Provides JMH benchmarks for the BDD construction, the top event evaluation,
+ * the simulation, the stochastic logic, the evaluators, and the importance
+ * measures.
+ * <p>
+ * Run all benchmarks with {@code ./gradlew jmh} or select single benchmarks
+ * by a regular expression, e.g.,
+ * {@code ./gradlew jmh -PjmhIncludes=BDDBenchmark}.
+ */
+package org.jreliability.benchmark;
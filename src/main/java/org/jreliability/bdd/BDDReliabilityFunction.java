@@ -25,18 +25,28 @@ import org.jreliability.booleanfunction.common.ANDTerm;
 import org.jreliability.booleanfunction.common.LiteralTerm;
 import org.jreliability.booleanfunction.common.NOTTerm;
 import org.jreliability.common.StructureFunction;
+import org.jreliability.function.DensityFunction;
+import org.jreliability.function.DifferentiableReliabilityFunction;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.SequentialFunction;
 
 /**
  * The {@link BDDReliabilityFunction} represents the {@link ReliabilityFunction}
  * that is inherently included in a {@link BDD}.
+ * <p>
+ * The density of the system is calculated together with its reliability in a
+ * single pass over the {@link BDDTopEvent}, see
+ * {@link BDDTopEvent#calculateDual(double[], double[], double[])}, from the
+ * densities of the variables. These are exact for
+ * {@link DifferentiableReliabilityFunction}s and approximated by the
+ * {@link DensityFunction} otherwise.
  * 
  * @author glass
  * 
  * @param <T> the type of variable
  */
-public class BDDReliabilityFunction<T> extends SequentialFunction implements ReliabilityFunction, StructureFunction<T> {
+public class BDDReliabilityFunction<T> extends SequentialFunction
+		implements DifferentiableReliabilityFunction, StructureFunction<T> {
 
 	/**
 	 * The BDD representing the {@link ReliabilityFunction}.
@@ -54,6 +64,32 @@ public class BDDReliabilityFunction<T> extends SequentialFunction implements Rel
 	 */
 	protected final BDDTopEvent<T> topEvent;
 
+	/**
+	 * The variables of the {@link BDDTopEvent} in the order of their indices.
+	 */
+	protected final List<T> variables;
+
+	/**
+	 * The {@link DensityFunction} of each variable, built once and used for the
+	 * variables that are not {@link DifferentiableReliabilityFunction}s.
+	 */
+	protected final DensityFunction[] densityFunctions;
+
+	/**
+	 * The buffer for the values of the variables.
+	 */
+	protected final double[] probabilities;
+
+	/**
+	 * The buffer for the derivatives of the values of the variables.
+	 */
+	protected final double[] derivatives;
+
+	/**
+	 * The buffer for the reliability and its derivative.
+	 */
+	protected final double[] dual = new double[2];
+
 	/**
 	 * Constructs a {@link BDDReliabilityFunction} with a given {@link BDD} and
 	 * {@link Transformer}.
@@ -68,6 +104,13 @@ public class BDDReliabilityFunction<T> extends SequentialFunction implements Rel
 		this.bdd = bdd;
 		this.functionTransformer = functionTransformer;
 		this.topEvent = new BDDTopEvent<>(bdd);
+		this.variables = topEvent.getVariables();
+		this.probabilities = new double[variables.size()];
+		this.derivatives = new double[variables.size()];
+		this.densityFunctions = new DensityFunction[variables.size()];
+		for (int i = 0; i < densityFunctions.length; i++) {
+			densityFunctions[i] = new DensityFunction(functionTransformer.transform(variables.get(i)));
+		}
 	}
 
 	/*
@@ -77,21 +120,109 @@ public class BDDReliabilityFunction<T> extends SequentialFunction implements Rel
 	 */
 	@Override
 	public double getY(final double x) {
+		for (int i = 0; i < probabilities.length; i++) {
+			probabilities[i] = functionTransformer.transform(variables.get(i)).getY(x);
+		}
+		return topEvent.calculate(probabilities);
+	}
+
+	/**
+	 * Returns the density {@code f(x) = -R'(x)} of the system that is
+	 * calculated by propagating the densities of the variables through the
+	 * {@link BDDTopEvent}.
+	 * 
+	 * @param x the x value
+	 * @return the density at x
+	 */
+	@Override
+	public double getDensity(final double x) {
+		calculateDual(x);
+		return -dual[1];
+	}
 
-		final Transformer<T, Double> t = new Transformer<T, Double>() {
-			/**
-			 * Default {@link Transformer}.
-			 * 
-			 * @param a parameter a
-			 * @return the double value of a
-			 */
-			@Override
-			public Double transform(T a) {
-				return functionTransformer.transform(a).getY(x);
+	/**
+	 * Returns the failure rate {@code lambda(x) = f(x) / R(x)} of the system
+	 * with a single pass over the {@link BDDTopEvent}.
+	 * 
+	 * @param x the x value
+	 * @return the failure rate at x
+	 */
+	@Override
+	public double getFailureRate(final double x) {
+		calculateDual(x);
+		return -dual[1] / dual[0];
+	}
+
+	/**
+	 * Calculates the reliability and its derivative at {@code x} into the
+	 * {@link #dual} buffer.
+	 * 
+	 * @param x the x value
+	 */
+	protected void calculateDual(final double x) {
+		for (int i = 0; i < probabilities.length; i++) {
+			ReliabilityFunction function = functionTransformer.transform(variables.get(i));
+			probabilities[i] = function.getY(x);
+			if (function instanceof DifferentiableReliabilityFunction) {
+				derivatives[i] = -((DifferentiableReliabilityFunction) function).getDensity(x);
+			} else {
+				derivatives[i] = -densityFunctions[i].getY(x);
 			}
-		};
+		}
+		topEvent.calculateDual(probabilities, derivatives, dual);
+	}
+
+	/**
+	 * Returns the y-values for a set of x-values at once. The
+	 * {@link ReliabilityFunction} of each variable is resolved once per batch
+	 * and the {@link BDDTopEvent} is evaluated in a single sweep for all
+	 * x-values.
+	 * 
+	 * @param xs the x-values
+	 * @return the y-values
+	 */
+	public double[] getY(final double[] xs) {
+		double[] ys = new double[xs.length];
+		getY(xs, ys);
+		return ys;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.Function#getY(double[], double[])
+	 */
+	@Override
+	public void getY(final double[] xs, final double[] ys) {
+		double[][] values = new double[variables.size()][xs.length];
+		for (int i = 0; i < values.length; i++) {
+			functionTransformer.transform(variables.get(i)).getY(xs, values[i]);
+		}
+		if (ys.length == xs.length) {
+			topEvent.calculate(values, ys);
+		} else {
+			double[] tops = new double[xs.length];
+			topEvent.calculate(values, tops);
+			System.arraycopy(tops, 0, ys, 0, xs.length);
+		}
+	}
 
-		return topEvent.calculate(t);
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.SequentialFunction#getY(java.util.List)
+	 */
+	@Override
+	public List<Double> getY(final List<Double> xs) {
+		double[] x = new double[xs.size()];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = xs.get(i);
+		}
+		List<Double> ys = new ArrayList<Double>(x.length);
+		for (double y : getY(x)) {
+			ys.add(y);
+		}
+		return ys;
 	}
 
 	/**
@@ -16,6 +16,7 @@
 package org.jreliability.bdd;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -23,6 +24,7 @@ import org.apache.commons.collections15.Predicate;
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.booleanfunction.TTRF;
 import org.jreliability.booleanfunction.Term;
+import org.jreliability.booleanfunction.TermDAG;
 import org.jreliability.booleanfunction.TermUtils;
 import org.jreliability.booleanfunction.common.ANDTerm;
 import org.jreliability.booleanfunction.common.FALSETerm;
@@ -140,24 +142,59 @@ public class BDDTTRF<T> implements TTRF<T> {
 	}
 
 	/**
-	 * Transforms a {@link Term} to a {@link BDD}.
+	 * Transforms a {@link Term} to a {@link BDD}. The {@link Term} is compiled
+	 * into a {@link TermDAG} such that the {@link BDD} of each shared subterm is
+	 * built only once.
 	 * 
 	 * @param term
 	 *            the term to transform
 	 * @return a bdd representing the term
 	 */
-	@SuppressWarnings("unchecked")
 	protected BDD<T> transform(Term term) {
+		TermDAG dag = new TermDAG(term);
+		List<BDD<T>> bdds = new ArrayList<>(Collections.nCopies(dag.size(), (BDD<T>) null));
+		for (int node = 0; node < dag.size(); node++) {
+			int[] operands = dag.getOperands(node);
+			List<BDD<T>> operandBDDs = new ArrayList<>(operands.length);
+			for (int operand : operands) {
+				operandBDDs.add(bdds.get(operand));
+			}
+			bdds.set(node, transform(dag.getTerm(node), operandBDDs));
+
+			// Free the bdds of the subterms that are not needed anymore
+			for (int operand : operands) {
+				BDD<T> bdd = bdds.get(operand);
+				if (bdd != null && dag.getLastUse(operand) == node) {
+					bdd.free();
+					bdds.set(operand, null);
+				}
+			}
+		}
+		return bdds.get(dag.getRoot());
+	}
+
+	/**
+	 * Transforms a {@link Term} to a {@link BDD} given the {@link BDD}s of its
+	 * subterms.
+	 * 
+	 * @param term
+	 *            the term to transform
+	 * @param operands
+	 *            the bdds of the subterms, which are not consumed
+	 * @return a bdd representing the term
+	 */
+	@SuppressWarnings("unchecked")
+	protected BDD<T> transform(Term term, List<BDD<T>> operands) {
 		BDD<T> bdd = null;
 		if (term instanceof ANDTerm) {
 			ANDTerm andTerm = (ANDTerm) term;
-			bdd = transformAND(andTerm);
+			bdd = transformAND(andTerm, operands);
 		} else if (term instanceof ORTerm) {
 			ORTerm orTerm = (ORTerm) term;
-			bdd = transformOR(orTerm);
+			bdd = transformOR(orTerm, operands);
 		} else if (term instanceof LinearTerm) {
 			LinearTerm linearTerm = (LinearTerm) term;
-			bdd = transformLinear(linearTerm);
+			bdd = transformLinear(linearTerm, operands);
 		} else if (term instanceof LiteralTerm) {
 			LiteralTerm<T> literalTerm = (LiteralTerm<T>) term;
 			bdd = transformLiteral(literalTerm);
@@ -169,7 +206,7 @@ public class BDDTTRF<T> implements TTRF<T> {
 			bdd = transformFALSE(falseTerm);
 		} else if (term instanceof NOTTerm) {
 			NOTTerm notTerm = (NOTTerm) term;
-			bdd = transformNOT(notTerm);
+			bdd = transformNOT(notTerm, operands.get(0));
 		} else {
 			throw new IllegalArgumentException("Unknown Term class in boolean function.");
 		}
@@ -184,13 +221,25 @@ public class BDDTTRF<T> implements TTRF<T> {
 	 * @return a bdd representing the AND term
 	 */
 	protected BDD<T> transformAND(ANDTerm term) {
+		return transform(term);
+	}
+
+	/**
+	 * Transforms an {@link ANDTerm} to a {@link BDD}.
+	 * 
+	 * @param term
+	 *            the term to transform
+	 * @param operands
+	 *            the bdds of the embedded terms
+	 * @return a bdd representing the AND term
+	 */
+	protected BDD<T> transformAND(ANDTerm term, List<BDD<T>> operands) {
 		BDD<T> bdd = provider.one();
-		List<Term> terms = term.getTerms();
-		for (Term element : terms) {
-			BDD<T> elementBDD = transform(element);
-			bdd.andWith(elementBDD);
+		for (BDD<T> operand : operands) {
+			BDD<T> temp = bdd.and(operand);
+			bdd.free();
+			bdd = temp;
 		}
-
 		return bdd;
 	}
 
@@ -202,11 +251,24 @@ public class BDDTTRF<T> implements TTRF<T> {
 	 * @return a bdd representing the OR term
 	 */
 	protected BDD<T> transformOR(ORTerm term) {
+		return transform(term);
+	}
+
+	/**
+	 * Transforms an {@link ORTerm} to a {@link BDD}.
+	 * 
+	 * @param term
+	 *            the term to transform
+	 * @param operands
+	 *            the bdds of the embedded terms
+	 * @return a bdd representing the OR term
+	 */
+	protected BDD<T> transformOR(ORTerm term, List<BDD<T>> operands) {
 		BDD<T> bdd = provider.zero();
-		List<Term> terms = term.getTerms();
-		for (Term element : terms) {
-			BDD<T> elementBDD = transform(element);
-			bdd.orWith(elementBDD);
+		for (BDD<T> operand : operands) {
+			BDD<T> temp = bdd.or(operand);
+			bdd.free();
+			bdd = temp;
 		}
 		return bdd;
 	}
@@ -219,16 +281,23 @@ public class BDDTTRF<T> implements TTRF<T> {
 	 * @return a bdd representing the linear term
 	 */
 	protected BDD<T> transformLinear(LinearTerm term) {
+		return transform(term);
+	}
+
+	/**
+	 * Transforms a {@link LinearTerm} to a {@link BDD}.
+	 * 
+	 * @param term
+	 *            the term to transform
+	 * @param operands
+	 *            the bdds of the embedded terms
+	 * @return a bdd representing the linear term
+	 */
+	protected BDD<T> transformLinear(LinearTerm term, List<BDD<T>> operands) {
 		List<Integer> coefficients = term.getCoefficients();
-		List<BDD<T>> bdds = new ArrayList<>();
-		List<Term> terms = term.getTerms();
-		for (Term element : terms) {
-			BDD<T> elementBDD = transform(element);
-			bdds.add(elementBDD);
-		}
 		Comparator comparator = term.getComparator();
 		int rhs = term.getRHS();
-		return BDDs.getBDD(coefficients, bdds, comparator, rhs, provider);
+		return BDDs.getBDD(coefficients, operands, comparator, rhs, provider);
 	}
 
 	/**
@@ -273,12 +342,20 @@ public class BDDTTRF<T> implements TTRF<T> {
 	 * @return a bdd representing the NOT term
 	 */
 	protected BDD<T> transformNOT(NOTTerm term) {
-		Term element = term.get();
-		BDD<T> bdd = transform(element);
-		BDD<T> temp = bdd.not();
-		bdd.free();
-		bdd = temp;
-		return bdd;
+		return transform(term);
+	}
+
+	/**
+	 * Transforms a {@link NOTTerm} to a {@link BDD}.
+	 * 
+	 * @param term
+	 *            the term to transform
+	 * @param operand
+	 *            the bdd of the negated term
+	 * @return a bdd representing the NOT term
+	 */
+	protected BDD<T> transformNOT(NOTTerm term, BDD<T> operand) {
+		return operand.not();
 	}
 
 }
@@ -16,25 +16,73 @@
 package org.jreliability.bdd;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.SplittableRandom;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.collections15.Predicate;
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.booleanfunction.TTRF;
 import org.jreliability.booleanfunction.Term;
+import org.jreliability.common.Estimate;
 import org.jreliability.common.Failure;
+import org.jreliability.common.StandardNormal;
+import org.jreliability.function.AnalyticReliabilityFunction;
+import org.jreliability.function.CachedInverseFunction;
 import org.jreliability.function.InverseFunction;
+import org.jreliability.function.InvertibleReliabilityFunction;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.common.SampledReliabilityFunction;
+import org.jreliability.function.common.StreamingSampledReliabilityFunction;
+import org.jreliability.function.common.WeightedSampledReliabilityFunction;
 
 /**
  * The {@link BDDTTRFSimulative} performs a Monte-Carlo simulation to determine
  * the {@link ReliabilityFunction} based on a {@link BDD} representation of the
  * system structure.
+ * <p>
+ * The {@link BDD} is compiled into a {@link BDDTopEvent} once such that the
+ * simulation runs do not perform any {@link BDD} operations or allocations,
+ * the time-to-failure of a run is its first-passage time on the compiled
+ * nodes. The runs are split into chunks of {@link #CHUNK} runs that are
+ * simulated sequentially or by a given {@link ExecutorService}, e.g., a
+ * {@link java.util.concurrent.ForkJoinPool} or an executor with virtual
+ * threads. Each call splits one {@link SplittableRandom} from the random
+ * number generator of the given seed under synchronization, and each chunk
+ * uses its own generator that is split from the one of the call. Thus, the
+ * times-to-failure for a given seed are reproducible and independent of the
+ * executor, and the simulator may be used by concurrent threads.
+ * <p>
+ * Each chunk uses its own copies of the {@link InverseFunction}s of the
+ * components, see {@link InverseFunction#copy()}, such that their warm starts
+ * do not depend on the other chunks. The {@link ReliabilityFunction}s of the
+ * components are shared by all chunks of a call. Thus, if an
+ * {@link ExecutorService} is given, the {@link ReliabilityFunction}s of the
+ * components have to be thread-safe.
+ * <p>
+ * Instead of a fixed number of runs, the simulation may also run in batches
+ * until the confidence interval of the mean-time-to-failure reaches a
+ * relative half-width {@code epsilon}, see
+ * {@link #estimateMeanTimeToFailure(Term, Transformer, Predicate, double, double)}.
+ * <p>
+ * For a large number of runs, the times-to-failure may be streamed into a
+ * {@link StreamingSampledReliabilityFunction} whose memory does not grow with
+ * the number of runs, see
+ * {@link #convertStreaming(Term, Transformer, Predicate, long)}.
+ * <p>
+ * For highly reliable systems, the simulation supports importance sampling
+ * with failure biasing, see
+ * {@link #convertByImportanceSampling(Term, Transformer, Predicate, int, double)}
+ * .
  * 
  * @author glass
  * 
@@ -44,20 +92,69 @@ import org.jreliability.function.common.SampledReliabilityFunction;
 public class BDDTTRFSimulative<T> implements TTRF<T> {
 
 	/**
-	 * The used maximum error {@code epsilon} value for the simulation.
+	 * The number of simulation runs of a chunk.
+	 */
+	protected static final int CHUNK = 1 << 10;
+
+	/**
+	 * The maximal number of chunks of a streaming simulation, each with its
+	 * own {@link StreamingSampledReliabilityFunction}.
+	 */
+	protected static final int STREAMS = 64;
+
+	/**
+	 * The number of simulation runs of the first batch of an adaptive
+	 * simulation.
+	 */
+	protected static final int BATCH = 5000;
+
+	/**
+	 * The maximal number of simulation runs of an adaptive simulation.
+	 */
+	protected static final int MAX_RUNS = 1 << 24;
+
+	/**
+	 * The number of runs of each pilot iteration that adapts the failure biases
+	 * for importance sampling.
+	 */
+	protected static final int PILOT = 1 << 10;
+
+	/**
+	 * The number of pilot iterations that adapt the failure biases for
+	 * importance sampling.
+	 */
+	protected static final int ITERATIONS = 5;
+
+	/**
+	 * The maximal failure bias of a component for importance sampling.
+	 */
+	protected static final double MAX_BIAS = 0.99;
+
+	/**
+	 * The used maximum error {@code epsilon} value for the simulation, i.e.,
+	 * the default targeted half-width of the confidence interval of the
+	 * mean-time-to-failure relative to the mean-time-to-failure for an adaptive
+	 * simulation.
 	 */
 	protected final double epsilon;
 
 	/**
-	 * The used random number generator to trigger the simulation.
+	 * The used random number generator from which the random number generator
+	 * of each call is split, see {@link #split()}.
 	 */
-	protected final Random random = new Random(System.currentTimeMillis());
+	protected final SplittableRandom random;
 
 	/**
 	 * The used {@link BDDProvider}.
 	 */
 	protected final BDDProvider<T> provider;
 
+	/**
+	 * The used {@link ExecutorService} or {@code null} if the simulation runs
+	 * are performed sequentially.
+	 */
+	protected final ExecutorService executor;
+
 	/**
 	 * Constructs a {@link BDDTTRFSimulative} with a given {@link BDDProvider}
 	 * and a standard epsilon of {@code 0.001}.
@@ -79,8 +176,45 @@ public class BDDTTRFSimulative<T> implements TTRF<T> {
 	 *            the used epsilon value
 	 */
 	public BDDTTRFSimulative(BDDProvider<T> provider, double epsilon) {
+		this(provider, epsilon, System.currentTimeMillis());
+	}
+
+	/**
+	 * Constructs a {@link BDDTTRFSimulative} with a given {@link BDDProvider},
+	 * an epsilon, and a seed for reproducible simulations.
+	 * 
+	 * @param provider
+	 *            the used bddProvider
+	 * @param epsilon
+	 *            the used epsilon value
+	 * @param seed
+	 *            the seed of the random number generator
+	 */
+	public BDDTTRFSimulative(BDDProvider<T> provider, double epsilon, long seed) {
+		this(provider, epsilon, seed, null);
+	}
+
+	/**
+	 * Constructs a {@link BDDTTRFSimulative} with a given {@link BDDProvider},
+	 * an epsilon, a seed for reproducible simulations, and an
+	 * {@link ExecutorService} for parallel simulations. The
+	 * {@link ReliabilityFunction}s of the components are evaluated concurrently
+	 * by the executor and have to be thread-safe.
+	 * 
+	 * @param provider
+	 *            the used bddProvider
+	 * @param epsilon
+	 *            the used epsilon value
+	 * @param seed
+	 *            the seed of the random number generator
+	 * @param executor
+	 *            the executor or {@code null} for a sequential simulation
+	 */
+	public BDDTTRFSimulative(BDDProvider<T> provider, double epsilon, long seed, ExecutorService executor) {
 		this.provider = provider;
 		this.epsilon = epsilon;
+		this.random = new SplittableRandom(seed);
+		this.executor = executor;
 	}
 
 	/*
@@ -143,6 +277,50 @@ public class BDDTTRFSimulative<T> implements TTRF<T> {
 		return new SampledReliabilityFunction(samples);
 	}
 
+	/**
+	 * Converts a given {@link Term} to a
+	 * {@link StreamingSampledReliabilityFunction} based on {@code n} samples
+	 * without storing the samples. The runs are split into at most
+	 * {@link #STREAMS} chunks whose functions are merged.
+	 * 
+	 * @param term
+	 *            the term to convert
+	 * @param functionTransformer
+	 *            the element to reliability function transformer
+	 * @param existsPredicate
+	 *            the element to exists predicate
+	 * @param n
+	 *            the number of samples
+	 * @return the reliability function
+	 */
+	public StreamingSampledReliabilityFunction convertStreaming(Term term,
+			Transformer<T, ReliabilityFunction> functionTransformer, Predicate<T> existsPredicate, long n) {
+		BDDTopEvent<T> topEvent = getTopEvent(term, existsPredicate);
+		InverseFunction[] inverses = getInverses(topEvent, functionTransformer, (int) Math.min(n, Integer.MAX_VALUE));
+		long size = Math.max(CHUNK, (n + STREAMS - 1) / STREAMS);
+		SplittableRandom callRandom = split();
+
+		List<StreamingSampledReliabilityFunction> functions = new ArrayList<>();
+		List<Callable<Void>> chunks = new ArrayList<>();
+		for (long chunk = 0; chunk < n; chunk += size) {
+			long runs = Math.min(size, n - chunk);
+			StreamingSampledReliabilityFunction function = new StreamingSampledReliabilityFunction();
+			SplittableRandom chunkRandom = callRandom.split();
+			functions.add(function);
+			chunks.add(() -> {
+				simulate(topEvent, copy(inverses), chunkRandom, function, runs);
+				return null;
+			});
+		}
+		invoke(chunks);
+
+		StreamingSampledReliabilityFunction result = new StreamingSampledReliabilityFunction();
+		for (StreamingSampledReliabilityFunction function : functions) {
+			result.merge(function);
+		}
+		return result;
+	}
+
 	/**
 	 * Collects all times-to-failure to derive {@code 5000} samples needed to
 	 * calculate the {@link ReliabilityFunction}.
@@ -176,16 +354,588 @@ public class BDDTTRFSimulative<T> implements TTRF<T> {
 	 */
 	public List<Double> collectTimesToFailure(Term term, Transformer<T, ReliabilityFunction> functionTransformer,
 			Predicate<T> existsPredicate, int n) {
-		List<Double> times = new ArrayList<>();
-		BDDTTRF<T> bddTTRF = new BDDTTRF<>(provider);
-		BDD<T> bdd = bddTTRF.convertToBDD(term, existsPredicate);
-		for (int i = 0; i < n; i++) {
-			Double time = simulateTimeToFailure(bdd, functionTransformer);
+		double[] samples = simulateTimesToFailure(term, functionTransformer, existsPredicate, n);
+		List<Double> times = new ArrayList<>(n);
+		for (double time : samples) {
 			times.add(time);
 		}
 		return times;
 	}
 
+	/**
+	 * Simulates {@code n} times-to-failure, sequentially or with the given
+	 * {@link ExecutorService}.
+	 * 
+	 * @param term
+	 *            the term to convert
+	 * @param functionTransformer
+	 *            the element to reliability function transformer
+	 * @param existsPredicate
+	 *            the element to exists predicate
+	 * @param n
+	 *            the number of samples
+	 * @return the times-to-failure
+	 */
+	public double[] simulateTimesToFailure(Term term, Transformer<T, ReliabilityFunction> functionTransformer,
+			Predicate<T> existsPredicate, int n) {
+		BDDTopEvent<T> topEvent = getTopEvent(term, existsPredicate);
+		InverseFunction[] inverses = getInverses(topEvent, functionTransformer, n);
+		double[] times = new double[n];
+		simulateChunks(topEvent, inverses, split(), times, 0, n);
+		return times;
+	}
+
+	/**
+	 * Estimates the mean-time-to-failure with the {@code epsilon} of this
+	 * simulation as the targeted relative half-width, see
+	 * {@link #estimateMeanTimeToFailure(Term, Transformer, Predicate, double, double)}
+	 * .
+	 * 
+	 * @param term
+	 *            the term to convert
+	 * @param functionTransformer
+	 *            the element to reliability function transformer
+	 * @param existsPredicate
+	 *            the element to exists predicate
+	 * @param confidence
+	 *            the confidence level of the interval, e.g., {@code 0.95}
+	 * @return the estimate of the mean-time-to-failure
+	 */
+	public Estimate estimateMeanTimeToFailure(Term term, Transformer<T, ReliabilityFunction> functionTransformer,
+			Predicate<T> existsPredicate, double confidence) {
+		return estimateMeanTimeToFailure(term, functionTransformer, existsPredicate, epsilon, confidence);
+	}
+
+	/**
+	 * Estimates the mean-time-to-failure by simulating times-to-failure in
+	 * batches, sequentially or with the given {@link ExecutorService}, until the
+	 * half-width of the confidence interval of the mean-time-to-failure is at
+	 * most {@code epsilon} times the mean-time-to-failure. The size of the next
+	 * batch is derived from the half-width that has been achieved so far. The
+	 * simulation stops after {@link #MAX_RUNS} runs even if the precision is not
+	 * reached, the returned estimate contains the achieved interval.
+	 * 
+	 * @param term
+	 *            the term to convert
+	 * @param functionTransformer
+	 *            the element to reliability function transformer
+	 * @param existsPredicate
+	 *            the element to exists predicate
+	 * @param epsilon
+	 *            the targeted half-width of the confidence interval relative to
+	 *            the mean-time-to-failure
+	 * @param confidence
+	 *            the confidence level of the interval, e.g., {@code 0.95}
+	 * @return the estimate of the mean-time-to-failure
+	 */
+	public Estimate estimateMeanTimeToFailure(Term term, Transformer<T, ReliabilityFunction> functionTransformer,
+			Predicate<T> existsPredicate, double epsilon, double confidence) {
+		if (!(epsilon > 0)) {
+			throw new IllegalArgumentException("The epsilon has to be positive but is " + epsilon);
+		} else if (!(confidence > 0 && confidence < 1)) {
+			throw new IllegalArgumentException("The confidence has to be in (0,1) but is " + confidence);
+		}
+		BDDTopEvent<T> topEvent = getTopEvent(term, existsPredicate);
+		InverseFunction[] inverses = getInverses(topEvent, functionTransformer, MAX_RUNS);
+		SplittableRandom callRandom = split();
+
+		double[] times = new double[BATCH];
+		int n = 0;
+		int batch = BATCH;
+		while (true) {
+			if (n + batch > times.length) {
+				times = Arrays.copyOf(times, n + batch);
+			}
+			simulateChunks(topEvent, inverses, callRandom, times, n, n + batch);
+			n += batch;
+
+			Estimate estimate = getMeanTimeToFailure(times, n, confidence);
+			double target = epsilon * Math.abs(estimate.getValue());
+			if (estimate.getHalfWidth() <= target || n >= MAX_RUNS) {
+				return estimate;
+			}
+			// The half-width decreases with the square root of the runs
+			double ratio = estimate.getHalfWidth() / target;
+			double needed = Math.min(n * ratio * ratio, MAX_RUNS);
+			batch = (int) Math.min(Math.max(needed - n, CHUNK), Math.min(n, MAX_RUNS - n));
+		}
+	}
+
+	/**
+	 * Returns the mean-time-to-failure of the given times-to-failure with its
+	 * confidence interval based on the central limit theorem.
+	 * 
+	 * @param times
+	 *            the times-to-failure
+	 * @param confidence
+	 *            the confidence level of the interval, e.g., {@code 0.95}
+	 * @return the estimate of the mean-time-to-failure
+	 */
+	public static Estimate getMeanTimeToFailure(double[] times, double confidence) {
+		return getMeanTimeToFailure(times, times.length, confidence);
+	}
+
+	/**
+	 * Returns the mean-time-to-failure of the first {@code n} times-to-failure
+	 * with its confidence interval based on the central limit theorem.
+	 * 
+	 * @param times
+	 *            the times-to-failure
+	 * @param n
+	 *            the number of times-to-failure to consider
+	 * @param confidence
+	 *            the confidence level of the interval
+	 * @return the estimate of the mean-time-to-failure
+	 */
+	protected static Estimate getMeanTimeToFailure(double[] times, int n, double confidence) {
+		// Welford's algorithm for a numerically stable variance
+		double mean = 0;
+		double squares = 0;
+		for (int i = 0; i < n; i++) {
+			double delta = times[i] - mean;
+			mean += delta / (i + 1);
+			squares += delta * (times[i] - mean);
+		}
+		double variance = (n > 1) ? squares / (n - 1) : Double.POSITIVE_INFINITY;
+		double z = StandardNormal.quantile(1 - (1 - confidence) / 2);
+		double halfWidth = z * Math.sqrt(variance / n);
+		return new Estimate(mean, mean - halfWidth, mean + halfWidth, confidence, n);
+	}
+
+	/**
+	 * Converts a given {@link Term} to a {@link WeightedSampledReliabilityFunction}
+	 * based on {@code n} samples of importance sampling that targets the
+	 * unreliability at the given time, see
+	 * {@link #simulateTimesToFailure(Term, Transformer, Predicate, double, double[], double[])}
+	 * .
+	 * 
+	 * @param term
+	 *            the term to convert
+	 * @param functionTransformer
+	 *            the element to reliability function transformer
+	 * @param existsPredicate
+	 *            the element to exists predicate
+	 * @param n
+	 *            the number of samples
+	 * @param time
+	 *            the time of interest, e.g., the mission time
+	 * @return the reliability function
+	 */
+	public WeightedSampledReliabilityFunction convertByImportanceSampling(Term term,
+			Transformer<T, ReliabilityFunction> functionTransformer, Predicate<T> existsPredicate, int n, double time) {
+		double[] times = new double[n];
+		double[] weights = new double[n];
+		simulateTimesToFailure(term, functionTransformer, existsPredicate, time, times, weights);
+		return new WeightedSampledReliabilityFunction(times, weights);
+	}
+
+	/**
+	 * Simulates weighted times-to-failure by importance sampling with failure
+	 * biasing for the estimation of small unreliabilities at the given time.
+	 * Each component fails before the time with its bias probability instead of
+	 * its unreliability at the time, and its failure time is drawn from the
+	 * respective conditional distribution. The weight of a run is the likelihood
+	 * ratio of its failure times, such that the weighted times-to-failure are
+	 * unbiased for all times. The common bias of all components is adapted by
+	 * the cross-entropy method in {@link #ITERATIONS} pilot iterations of
+	 * {@link #PILOT} runs: it becomes the weighted fraction of failed components
+	 * in the system failures before the time. If no system failure occurs in a
+	 * pilot iteration, the bias is increased. A common bias (balanced failure
+	 * biasing) is used instead of individual biases since the latter tend to
+	 * concentrate on the minimal cut sets seen in the pilot runs.
+	 * 
+	 * @param term
+	 *            the term to convert
+	 * @param functionTransformer
+	 *            the element to reliability function transformer
+	 * @param existsPredicate
+	 *            the element to exists predicate
+	 * @param time
+	 *            the time of interest, e.g., the mission time
+	 * @param times
+	 *            the array to write the times-to-failure to
+	 * @param weights
+	 *            the array to write the weights to
+	 */
+	public void simulateTimesToFailure(Term term, Transformer<T, ReliabilityFunction> functionTransformer,
+			Predicate<T> existsPredicate, double time, double[] times, double[] weights) {
+		int n = times.length;
+		BDDTopEvent<T> topEvent = getTopEvent(term, existsPredicate);
+		InverseFunction[] inverses = getInverses(topEvent, functionTransformer, n + ITERATIONS * PILOT);
+		List<T> variables = topEvent.getVariables();
+		double[] reliabilities = new double[variables.size()];
+		for (int i = 0; i < reliabilities.length; i++) {
+			reliabilities[i] = functionTransformer.transform(variables.get(i)).getY(time);
+		}
+		SplittableRandom callRandom = split();
+		double[] biases = getBiases(topEvent, inverses, reliabilities, time, callRandom.split());
+
+		List<Callable<Void>> chunks = new ArrayList<>();
+		for (int chunk = 0; chunk < n; chunk += CHUNK) {
+			int start = chunk;
+			int end = Math.min(n, chunk + CHUNK);
+			SplittableRandom chunkRandom = callRandom.split();
+			chunks.add(() -> {
+				InverseFunction[] chunkInverses = copy(inverses);
+				double[] failures = new double[inverses.length];
+				double[] buffer = new double[topEvent.size() + 2];
+				for (int run = start; run < end; run++) {
+					weights[run] = sample(chunkInverses, reliabilities, biases, chunkRandom, failures);
+					times[run] = simulateTimeToFailure(topEvent, failures, buffer);
+				}
+				return null;
+			});
+		}
+		invoke(chunks);
+	}
+
+	/**
+	 * Returns the failure biases of the components with the common bias adapted
+	 * by the cross-entropy method in pilot runs.
+	 * 
+	 * @param topEvent
+	 *            the compiled bdd
+	 * @param inverses
+	 *            the inverse function of each variable of the top event
+	 * @param reliabilities
+	 *            the reliability of each variable at the time
+	 * @param time
+	 *            the time of interest
+	 * @param pilotRandom
+	 *            the random number generator of the pilot runs
+	 * @return the failure biases
+	 */
+	protected double[] getBiases(BDDTopEvent<T> topEvent, InverseFunction[] inverses, double[] reliabilities,
+			double time, SplittableRandom pilotRandom) {
+		int m = reliabilities.length;
+		double bias = Math.min(0.5, 1.0 / m);
+		double[] biases = getBiases(bias, reliabilities);
+
+		double[] failures = new double[m];
+		double[] buffer = new double[topEvent.size() + 2];
+		for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+			double total = 0;
+			double failed = 0;
+			for (int run = 0; run < PILOT; run++) {
+				double weight = sample(inverses, reliabilities, biases, pilotRandom, failures);
+				if (simulateTimeToFailure(topEvent, failures, buffer) <= time) {
+					int count = 0;
+					for (int i = 0; i < m; i++) {
+						if (failures[i] <= time) {
+							count++;
+						}
+					}
+					total += weight;
+					failed += weight * count / m;
+				}
+			}
+			bias = (total > 0) ? failed / total : bias + (1 - bias) / 2;
+			biases = getBiases(bias, reliabilities);
+		}
+		return biases;
+	}
+
+	/**
+	 * Returns the failure biases of the components for a common failure bias.
+	 * The bias of each component is restricted such that its failure is never
+	 * less likely than without bias and its survival remains possible.
+	 * 
+	 * @param bias
+	 *            the common failure bias
+	 * @param reliabilities
+	 *            the reliability of each variable at the time
+	 * @return the failure biases
+	 */
+	protected double[] getBiases(double bias, double[] reliabilities) {
+		double[] biases = new double[reliabilities.length];
+		for (int i = 0; i < biases.length; i++) {
+			double reliability = reliabilities[i];
+			if (reliability >= 1) {
+				biases[i] = 0;
+			} else if (reliability <= 0) {
+				biases[i] = 1;
+			} else {
+				biases[i] = Math.max(1 - reliability, Math.min(bias, MAX_BIAS));
+			}
+		}
+		return biases;
+	}
+
+	/**
+	 * Samples the failure times of all components with failure biasing and
+	 * returns the likelihood ratio of the sample.
+	 * 
+	 * @param inverses
+	 *            the inverse function of each variable of the top event
+	 * @param reliabilities
+	 *            the reliability of each variable at the time
+	 * @param biases
+	 *            the failure bias of each variable
+	 * @param random
+	 *            the random number generator
+	 * @param failures
+	 *            the array to write the failure times to
+	 * @return the likelihood ratio
+	 */
+	protected double sample(InverseFunction[] inverses, double[] reliabilities, double[] biases,
+			SplittableRandom random, double[] failures) {
+		double weight = 1;
+		for (int i = 0; i < inverses.length; i++) {
+			double reliability = reliabilities[i];
+			double bias = biases[i];
+			// A uniformly distributed value in (0,1]
+			double u = 1 - random.nextDouble();
+			if (random.nextDouble() < bias) {
+				// Fails before the time, i.e., with a reliability in (R(time),1]
+				failures[i] = inverses[i].getY(reliability + (1 - reliability) * u);
+				weight *= (1 - reliability) / bias;
+			} else {
+				// Fails after the time, i.e., with a reliability in (0,R(time)]
+				failures[i] = inverses[i].getY(reliability * u);
+				weight *= reliability / (1 - bias);
+			}
+		}
+		return weight;
+	}
+
+	/**
+	 * Returns the compiled {@link BDD} of a {@link Term}.
+	 * 
+	 * @param term
+	 *            the term to compile
+	 * @param existsPredicate
+	 *            the element to exists predicate
+	 * @return the compiled bdd
+	 */
+	protected BDDTopEvent<T> getTopEvent(Term term, Predicate<T> existsPredicate) {
+		BDDTTRF<T> bddTTRF = new BDDTTRF<>(provider);
+		BDD<T> bdd = bddTTRF.convertToBDD(term, existsPredicate);
+		BDDTopEvent<T> topEvent = new BDDTopEvent<>(bdd);
+		bdd.free();
+		return topEvent;
+	}
+
+	/**
+	 * Returns the {@link InverseFunction} of each variable of the compiled
+	 * {@link BDD}.
+	 * 
+	 * @param topEvent
+	 *            the compiled bdd
+	 * @param functionTransformer
+	 *            the element to reliability function transformer
+	 * @param n
+	 *            the expected number of samples
+	 * @return the inverse functions
+	 */
+	protected InverseFunction[] getInverses(BDDTopEvent<T> topEvent,
+			Transformer<T, ReliabilityFunction> functionTransformer, int n) {
+		List<T> variables = topEvent.getVariables();
+		InverseFunction[] inverses = new InverseFunction[variables.size()];
+		for (int i = 0; i < inverses.length; i++) {
+			inverses[i] = getInverse(functionTransformer.transform(variables.get(i)), n);
+		}
+		return inverses;
+	}
+
+	/**
+	 * Returns copies of the {@link InverseFunction}s for a chunk.
+	 * 
+	 * @param inverses
+	 *            the inverse functions
+	 * @return the copies of the inverse functions
+	 */
+	protected static InverseFunction[] copy(InverseFunction[] inverses) {
+		InverseFunction[] copies = new InverseFunction[inverses.length];
+		for (int i = 0; i < inverses.length; i++) {
+			copies[i] = inverses[i].copy();
+		}
+		return copies;
+	}
+
+	/**
+	 * Performs the simulation runs {@code from} (inclusive) to {@code to}
+	 * (exclusive) in chunks, sequentially or with the given
+	 * {@link ExecutorService}, and writes their times-to-failure to the given
+	 * array.
+	 * 
+	 * @param topEvent
+	 *            the compiled bdd
+	 * @param inverses
+	 *            the inverse function of each variable of the top event
+	 * @param random
+	 *            the random number generator of the call from which the
+	 *            generators of the chunks are split
+	 * @param times
+	 *            the times-to-failure of all runs
+	 * @param from
+	 *            the first run
+	 * @param to
+	 *            the run after the last run
+	 */
+	protected void simulateChunks(BDDTopEvent<T> topEvent, InverseFunction[] inverses, SplittableRandom random,
+			double[] times, int from, int to) {
+		List<Callable<Void>> chunks = new ArrayList<>();
+		for (int chunk = from; chunk < to; chunk += CHUNK) {
+			int start = chunk;
+			int end = Math.min(to, chunk + CHUNK);
+			SplittableRandom chunkRandom = random.split();
+			chunks.add(() -> {
+				simulate(topEvent, copy(inverses), chunkRandom, times, start, end);
+				return null;
+			});
+		}
+		invoke(chunks);
+	}
+
+	/**
+	 * Splits the random number generator of a call from the shared random
+	 * number generator. The {@link SplittableRandom} is not thread-safe, thus,
+	 * the split is synchronized.
+	 * 
+	 * @return the random number generator of a call
+	 */
+	protected SplittableRandom split() {
+		synchronized (random) {
+			return random.split();
+		}
+	}
+
+	/**
+	 * Invokes the chunks, sequentially or with the given
+	 * {@link ExecutorService}.
+	 * 
+	 * @param chunks
+	 *            the chunks
+	 */
+	protected void invoke(List<Callable<Void>> chunks) {
+		try {
+			if (executor == null) {
+				for (Callable<Void> chunk : chunks) {
+					chunk.call();
+				}
+			} else {
+				for (Future<Void> future : executor.invokeAll(chunks)) {
+					future.get();
+				}
+			}
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while simulating the times-to-failure.", e);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns the {@link InverseFunction} that samples the failure times of a
+	 * component. The inverse of an {@link InvertibleReliabilityFunction} or an
+	 * equivalent {@link AnalyticReliabilityFunction} is used directly.
+	 * Otherwise, a {@link CachedInverseFunction} is used if the number of
+	 * samples outweighs the effort to build its spline.
+	 * 
+	 * @param reliabilityFunction
+	 *            the reliability function of the component
+	 * @param n
+	 *            the number of samples
+	 * @return the inverse function
+	 */
+	protected InverseFunction getInverse(ReliabilityFunction reliabilityFunction, int n) {
+		if (AnalyticReliabilityFunction.of(reliabilityFunction, InvertibleReliabilityFunction.class) != null
+				|| n <= CachedInverseFunction.KNOTS) {
+			return new InverseFunction(reliabilityFunction);
+		}
+		return new CachedInverseFunction(reliabilityFunction);
+	}
+
+	/**
+	 * Performs the simulation runs {@code from} (inclusive) to {@code to}
+	 * (exclusive) and writes their times-to-failure to the given array.
+	 * 
+	 * @param topEvent
+	 *            the compiled bdd
+	 * @param inverses
+	 *            the inverse function of each variable of the top event
+	 * @param random
+	 *            the random number generator of the runs
+	 * @param times
+	 *            the times-to-failure of all runs
+	 * @param from
+	 *            the first run
+	 * @param to
+	 *            the run after the last run
+	 */
+	protected void simulate(BDDTopEvent<T> topEvent, InverseFunction[] inverses, SplittableRandom random,
+			double[] times, int from, int to) {
+		double[] failures = new double[inverses.length];
+		double[] buffer = new double[topEvent.size() + 2];
+
+		for (int run = from; run < to; run++) {
+			for (int i = 0; i < inverses.length; i++) {
+				// A uniformly distributed reliability in (0,1]
+				failures[i] = inverses[i].getY(1 - random.nextDouble());
+			}
+			times[run] = simulateTimeToFailure(topEvent, failures, buffer);
+		}
+	}
+
+	/**
+	 * Performs {@code n} simulation runs and adds their times-to-failure to the
+	 * given {@link StreamingSampledReliabilityFunction}.
+	 * 
+	 * @param topEvent
+	 *            the compiled bdd
+	 * @param inverses
+	 *            the inverse function of each variable of the top event
+	 * @param random
+	 *            the random number generator of the runs
+	 * @param function
+	 *            the function that collects the times-to-failure
+	 * @param n
+	 *            the number of runs
+	 */
+	protected void simulate(BDDTopEvent<T> topEvent, InverseFunction[] inverses, SplittableRandom random,
+			StreamingSampledReliabilityFunction function, long n) {
+		double[] failures = new double[inverses.length];
+		double[] buffer = new double[topEvent.size() + 2];
+
+		for (long run = 0; run < n; run++) {
+			for (int i = 0; i < inverses.length; i++) {
+				// A uniformly distributed reliability in (0,1]
+				failures[i] = inverses[i].getY(1 - random.nextDouble());
+			}
+			function.add(simulateTimeToFailure(topEvent, failures, buffer));
+		}
+	}
+
+	/**
+	 * Determines the time-to-failure of a single simulation run, i.e., the
+	 * failure time of the first component after which the system is failed
+	 * independent of the remaining components. If the system never fails,
+	 * {@code 0} is returned.
+	 * 
+	 * @param topEvent
+	 *            the compiled bdd
+	 * @param failures
+	 *            the failure time of each variable of the top event
+	 * @param buffer
+	 *            the buffer of the top event
+	 * @return a single time-to-failure
+	 */
+	protected double simulateTimeToFailure(BDDTopEvent<T> topEvent, double[] failures, double[] buffer) {
+		double time = topEvent.calculateFirstPassage(failures, buffer);
+		return Double.isInfinite(time) ? 0 : time;
+	}
+
 	/**
 	 * Performs a single simulation run to gather one time-to-failure.
 	 * 
@@ -194,21 +944,27 @@ public class BDDTTRFSimulative<T> implements TTRF<T> {
 	 * @param functionTransformer
 	 *            the element to reliability function transformer
 	 * @return a single time-to-failure
+	 * @deprecated compiles the {@link BDD} for each run, use
+	 *             {@link #simulateTimeToFailure(BDDTopEvent, double[], double[])}
+	 *             on a {@link BDDTopEvent} instead
 	 */
+	@Deprecated
 	protected double simulateTimeToFailure(BDD<T> bdd, Transformer<T, ReliabilityFunction> functionTransformer) {
-		double time = 0;
-		BDD<T> myBDD = bdd.copy();
-		Set<Failure<T>> failures = getFailures(bdd, functionTransformer);
-		for (Failure<T> failure : failures) {
-			BDD<T> objectVariable = provider.get(failure.getObject());
-			myBDD.restrictWith(objectVariable.not());
-			if (myBDD.isZero()) {
-				time = failure.getTime();
-				break;
+		BDDTopEvent<T> topEvent = new BDDTopEvent<>(bdd);
+		List<T> variables = topEvent.getVariables();
+		Map<T, Integer> indices = new HashMap<>();
+		for (int i = 0; i < variables.size(); i++) {
+			indices.put(variables.get(i), i);
+		}
+		double[] failures = new double[variables.size()];
+		Arrays.fill(failures, Double.POSITIVE_INFINITY);
+		for (Failure<T> failure : getFailures(bdd, functionTransformer)) {
+			Integer index = indices.get(failure.getObject());
+			if (index != null) {
+				failures[index] = failure.getTime();
 			}
 		}
-
-		return time;
+		return simulateTimeToFailure(topEvent, failures, new double[topEvent.size() + 2]);
 	}
 
 	/**
@@ -221,16 +977,18 @@ public class BDDTTRFSimulative<T> implements TTRF<T> {
 	 * @param functionTransformer
 	 *            the element to reliability function transformer
 	 * @return the failure occurrences for a single simulation run
+	 * @deprecated allocates a {@link Failure} per component and run, the
+	 *             simulation samples the failure times into an array instead
 	 */
+	@Deprecated
 	protected Set<Failure<T>> getFailures(BDD<T> bdd, Transformer<T, ReliabilityFunction> functionTransformer) {
 		SortedSet<Failure<T>> failureTimes = new TreeSet<>();
-		Set<T> elements = bdd.getVariables();
-		for (T element : elements) {
-			ReliabilityFunction relFunction = functionTransformer.transform(element);
-			InverseFunction inverse = new InverseFunction(relFunction);
-			double x = inverse.getY(random.nextDouble());
-			Failure<T> failureTime = new Failure<>(element, x);
-			failureTimes.add(failureTime);
+		SplittableRandom random = split();
+		for (T element : bdd.getVariables()) {
+			InverseFunction inverse = getInverse(functionTransformer.transform(element), 1);
+			// A uniformly distributed reliability in (0,1]
+			double x = inverse.getY(1 - random.nextDouble());
+			failureTimes.add(new Failure<>(element, x));
 		}
 		return failureTimes;
 	}
@@ -15,11 +15,15 @@
 
 package org.jreliability.bdd;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.function.ToDoubleFunction;
 
 import org.apache.commons.collections15.Transformer;
 
@@ -27,8 +31,12 @@ import org.apache.commons.collections15.Transformer;
  * The {@link BDDTopEvent} allows the fast calculation of the top event for a
  * given {@link BDD}.
  * <p>
- * Here, the {@link BDD} is copied to an internal structure such that the
- * {@link BDD#free()} method does not interfere with this class.
+ * Here, the {@link BDD} is compiled once into an internal structure such that
+ * the {@link BDD#free()} method does not interfere with this class. The
+ * internal structure consists of parallel primitive arrays that hold the
+ * variable index, the high successor, and the low successor of each node. The
+ * nodes are ordered from the bottom to the root such that the top event is
+ * calculated by a single sweep over these arrays without any allocation.
  * 
  * @author lukasiewycz
  * 
@@ -38,301 +46,722 @@ import org.apache.commons.collections15.Transformer;
 public class BDDTopEvent<T> {
 
 	/**
-	 * Map of the original variables to the internal structure of the variables.
+	 * The {@link Unateness} of a variable describes the direction in which the
+	 * top event depends on the variable.
 	 */
-	protected Map<T, Var> variables = new HashMap<>();
+	public enum Unateness {
+		/**
+		 * The top event is monotonically increasing in the variable.
+		 */
+		POSITIVE,
+		/**
+		 * The top event is monotonically decreasing in the variable.
+		 */
+		NEGATIVE,
+		/**
+		 * The top event is neither monotonically increasing nor decreasing in
+		 * the variable.
+		 */
+		BINATE
+	}
 
 	/**
-	 * A list of all variables nodes (ordered from bottom to the root).
+	 * The index of the zero node.
 	 */
-	protected List<VarNode> nodes = new ArrayList<>();
+	protected static final int ZERO = 0;
 
 	/**
-	 * The instance of the zero node.
+	 * The index of the one node.
 	 */
-	protected Node zero = new NodeZero();
+	protected static final int ONE = 1;
 
 	/**
-	 * The instance of the one node.
+	 * The number of time points that are processed at once by the batched
+	 * calculation.
 	 */
-	protected Node one = new NodeOne();
+	protected static final int BLOCK = 256;
 
 	/**
-	 * The root of the bdd.
+	 * The {@link PairMemo} memorizes a result for pairs of nodes in parallel
+	 * primitive arrays. It uses open addressing with linear probing and keeps
+	 * the load factor below one half. Since dense arrays over all pairs of
+	 * nodes would be quadratic in the number of nodes, only the visited pairs
+	 * are stored.
 	 */
-	protected Node root;
+	protected static class PairMemo {
 
-	/**
-	 * 
-	 * The {@link Var} is an internal variable class.
-	 * 
-	 * @author lukasiewycz
-	 * 
-	 */
-	class Var {
+		/**
+		 * The first node of each slot or {@code 0} if the slot is empty.
+		 */
+		protected int[] as = new int[64];
+
+		/**
+		 * The second node of each slot.
+		 */
+		protected int[] bs = new int[64];
+
+		/**
+		 * The result of each slot.
+		 */
+		protected double[] results = new double[64];
 
 		/**
-		 * The variable.
+		 * The number of used slots.
 		 */
-		protected final T variable;
+		protected int size = 0;
 
 		/**
-		 * The vale of the variable.
+		 * Returns the result for a pair of nodes or {@code NaN} if it is not
+		 * known.
+		 * 
+		 * @param a
+		 *            the first node (not a terminal node)
+		 * @param b
+		 *            the second node
+		 * @return the result or NaN
 		 */
-		protected double value;
+		protected double get(int a, int b) {
+			int mask = as.length - 1;
+			for (int i = index(a, b) & mask; as[i] != 0; i = (i + 1) & mask) {
+				if (as[i] == a && bs[i] == b) {
+					return results[i];
+				}
+			}
+			return Double.NaN;
+		}
 
 		/**
-		 * Constructs a {@link Var}.
+		 * Stores the result for a pair of nodes that is not known yet.
 		 * 
-		 * @param variable
-		 *            the original variable
+		 * @param a
+		 *            the first node (not a terminal node)
+		 * @param b
+		 *            the second node
+		 * @param result
+		 *            the result
 		 */
-		public Var(T variable) {
-			super();
-			this.variable = variable;
+		protected void put(int a, int b, double result) {
+			if (2 * (size + 1) > as.length) {
+				int[] oldAs = as;
+				int[] oldBs = bs;
+				double[] oldResults = results;
+				as = new int[2 * oldAs.length];
+				bs = new int[2 * oldAs.length];
+				results = new double[2 * oldAs.length];
+				for (int i = 0; i < oldAs.length; i++) {
+					if (oldAs[i] != 0) {
+						insert(oldAs[i], oldBs[i], oldResults[i]);
+					}
+				}
+			}
+			insert(a, b, result);
+			size++;
 		}
 
 		/**
-		 * Returns the current value of this variable.
+		 * Inserts the result for a pair of nodes into a free slot.
 		 * 
-		 * @return the current value
+		 * @param a
+		 *            the first node
+		 * @param b
+		 *            the second node
+		 * @param result
+		 *            the result
 		 */
-		public double getValue() {
-			return value;
+		private void insert(int a, int b, double result) {
+			int mask = as.length - 1;
+			int i = index(a, b) & mask;
+			while (as[i] != 0) {
+				i = (i + 1) & mask;
+			}
+			as[i] = a;
+			bs[i] = b;
+			results[i] = result;
 		}
 
 		/**
-		 * Sets the current value of this variable.
+		 * Returns the hash of a pair of nodes.
 		 * 
-		 * @param value
-		 *            the value to be set
+		 * @param a
+		 *            the first node
+		 * @param b
+		 *            the second node
+		 * @return the hash
 		 */
-		public void setValue(double value) {
-			this.value = value;
+		private static int index(int a, int b) {
+			int h = a * 0x9E3779B9 + b * 0x85EBCA6B;
+			return h ^ (h >>> 15);
 		}
 	}
 
 	/**
-	 * The {@link Node} is an internal BDD node.
-	 * 
-	 * @author lukasiewycz
-	 * 
+	 * The variables in the order of their indices.
 	 */
-	interface Node {
+	protected final List<T> variables = new ArrayList<>();
 
-		/**
-		 * Returns the current value of this node.
-		 * 
-		 * @return the
-		 */
-		public double getValue();
+	/**
+	 * The level of each variable in the variable order of the {@link BDD}.
+	 */
+	protected int[] levels = new int[16];
 
-	}
+	/**
+	 * The unateness of each variable, determined on demand.
+	 */
+	protected Unateness[] unateness;
 
 	/**
-	 * The {@link VarNode} is an internal variable BDD node.
-	 * 
-	 * @author lukasiewycz
-	 * 
+	 * The variable index of each node.
 	 */
-	class VarNode implements Node {
+	protected int[] var;
 
-		/**
-		 * The variable represented by this node.
-		 */
-		protected final Var var;
-		/**
-		 * The value of the node.
-		 */
-		protected double value;
-		/**
-		 * The successor node at the high edge.
-		 */
-		protected Node hi = null;
-		/**
-		 * The successor node at the low edge.
-		 */
-		protected Node lo = null;
+	/**
+	 * The index of the successor node at the high edge of each node.
+	 */
+	protected int[] hi;
 
-		/**
-		 * Constructs a {@link VarNode}.
-		 * 
-		 * @param var
-		 *            the variable of this node
-		 */
-		public VarNode(Var var) {
-			this.var = var;
-		}
+	/**
+	 * The index of the successor node at the low edge of each node.
+	 */
+	protected int[] lo;
 
-		/*
-		 * (non-Javadoc)
-		 * 
-		 * @see org.jreliability.bdd.BDDTopEvent.Node#getValue()
-		 */
-		@Override
-		public double getValue() {
-			return value;
-		}
+	/**
+	 * The index of the last node that uses each node as a successor.
+	 */
+	protected int[] lastUse;
 
-		/**
-		 * Sets the current value of this node.
-		 * 
-		 * @param value
-		 *            the value to be set
-		 */
-		public void setValue(double value) {
-			this.value = value;
-		}
+	/**
+	 * The current value of each node. The first two entries are the values of
+	 * the zero and the one node.
+	 */
+	protected double[] values;
 
-		/**
-		 * Returns the {@link Node} of the high-branch.
-		 * 
-		 * @return the {@link Node} of the high-branch
-		 */
-		public Node getHi() {
-			return hi;
-		}
+	/**
+	 * The current derivative of each node for the forward mode, allocated on
+	 * demand.
+	 */
+	protected double[] tangents;
 
-		/**
-		 * Sets the {@link Node} of the high-branch.
-		 * 
-		 * @param hi
-		 *            the {@link Node} of the high-branch
-		 */
-		public void setHi(Node hi) {
-			this.hi = hi;
-		}
+	/**
+	 * The index of the root of the bdd.
+	 */
+	protected int root;
 
-		/**
-		 * Returns the {@link Node} of the low-branch.
-		 * 
-		 * @return the {@link Node} of the low-branch
-		 */
-		public Node getLo() {
-			return lo;
-		}
+	/**
+	 * The buffer for the values of the variables.
+	 */
+	protected double[] probabilities;
 
-		/**
-		 * Sets the {@link Node} of the low-branch.
-		 * 
-		 * @param lo
-		 *            the {@link Node} of the low-branch
-		 */
-		public void setLo(Node lo) {
-			this.lo = lo;
-		}
+	/**
+	 * Constructs the {@link BDDTopEvent} calculator for a given {@link BDD}.
+	 * 
+	 * @param bdd
+	 *            the given BDD
+	 */
+	public BDDTopEvent(BDD<T> bdd) {
+		Map<T, Integer> variableIndices = new HashMap<>();
+		Map<BDD<T>, Integer> map = new HashMap<>();
+		List<int[]> nodes = new ArrayList<>();
 
-		/**
-		 * Returns the variable of this node.
-		 * 
-		 * @return the variable of this node
-		 */
-		public Var getVar() {
-			return var;
+		root = build(bdd, map, variableIndices, nodes);
+		for (BDD<T> b : map.keySet()) {
+			b.free();
+		}
+		levels = Arrays.copyOf(levels, variables.size());
+
+		int size = nodes.size() + 2;
+		var = new int[size];
+		hi = new int[size];
+		lo = new int[size];
+		lastUse = new int[size];
+		values = new double[size];
+		values[ZERO] = 0.0;
+		values[ONE] = 1.0;
+		for (int i = 2; i < size; i++) {
+			int[] node = nodes.get(i - 2);
+			var[i] = node[0];
+			hi[i] = node[1];
+			lo[i] = node[2];
+			lastUse[hi[i]] = i;
+			lastUse[lo[i]] = i;
 		}
+		probabilities = new double[variables.size()];
+	}
 
+	/**
+	 * Calculates the top event for the values given by the functionTransformer.
+	 * 
+	 * @param transformer
+	 *            the transformer from the variables to the values
+	 * @return the top event
+	 */
+	public double calculate(Transformer<T, Double> transformer) {
+		return calculatePrimitive(transformer::transform);
 	}
 
 	/**
-	 * The one node.
+	 * Calculates the top event for the values given by the function without
+	 * boxing the values.
 	 * 
-	 * @author lukasiewycz
+	 * @param function
+	 *            the function from the variables to the values
+	 * @return the top event
+	 */
+	public double calculatePrimitive(ToDoubleFunction<T> function) {
+		for (int i = 0; i < probabilities.length; i++) {
+			probabilities[i] = function.applyAsDouble(variables.get(i));
+		}
+		return calculate(probabilities);
+	}
+
+	/**
+	 * Calculates the top event for the given values of the variables. The
+	 * {@code i}-th value corresponds to the {@code i}-th variable in
+	 * {@link #getVariables()}.
 	 * 
+	 * @param probabilities
+	 *            the values of the variables
+	 * @return the top event
 	 */
-	class NodeOne implements Node {
+	public double calculate(double[] probabilities) {
+		final int[] var = this.var;
+		final int[] hi = this.hi;
+		final int[] lo = this.lo;
+		final double[] values = this.values;
+
+		for (int i = 2; i < values.length; i++) {
+			double r = probabilities[var[i]];
+			// Shannon decomposition
+			values[i] = r * values[hi[i]] + (1 - r) * values[lo[i]];
+		}
+		return values[root];
+	}
 
-		/*
-		 * (non-Javadoc)
-		 * 
-		 * @see org.jreliability.bdd.BDDTopEvent.Node#getValue()
-		 */
-		@Override
-		public double getValue() {
-			return 1;
+	/**
+	 * Calculates the top event for the given values of the variables with a
+	 * given buffer for the values of the nodes. Since the compiled nodes are
+	 * only read, concurrent calls on the same {@link BDDTopEvent} with
+	 * different buffers are possible.
+	 * 
+	 * @param probabilities
+	 *            the values of the variables
+	 * @param buffer
+	 *            the buffer for the values of the nodes with a length of
+	 *            {@code size() + 2}
+	 * @return the top event
+	 */
+	public double calculate(double[] probabilities, double[] buffer) {
+		final int[] var = this.var;
+		final int[] hi = this.hi;
+		final int[] lo = this.lo;
+
+		buffer[ZERO] = 0.0;
+		buffer[ONE] = 1.0;
+		for (int i = 2; i < var.length; i++) {
+			double r = probabilities[var[i]];
+			buffer[i] = r * buffer[hi[i]] + (1 - r) * buffer[lo[i]];
 		}
+		return buffer[root];
 	}
 
 	/**
-	 * The zero node.
+	 * Calculates the first-passage time of the top event, i.e., the earliest
+	 * time at which the top event is identically zero if each variable is
+	 * fixed to zero at its given failure time. This corresponds to the
+	 * successive restriction of the {@link BDD} with the negated literals of
+	 * the variables in the order of their failure times and a check for the
+	 * zero terminal after each restriction.
+	 * <p>
+	 * The time of each node is calculated in a single sweep from the bottom to
+	 * the root. A node with the variable {@code x} that fails at {@code t} is
+	 * identically zero before {@code t} if both successors are, and from
+	 * {@code t} on if the low successor is. Since the buffer for the
+	 * intermediate results is given, concurrent calls on the same
+	 * {@link BDDTopEvent} are possible.
 	 * 
-	 * @author lukasiewycz
+	 * @param failureTimes
+	 *            the failure time of each variable
+	 * @param times
+	 *            the buffer for the intermediate results with a length of
+	 *            {@code size() + 2}
+	 * @return the first-passage time, negative infinity if the top event is
+	 *         always zero or positive infinity if it is never zero
+	 */
+	public double calculateFirstPassage(double[] failureTimes, double[] times) {
+		final int[] var = this.var;
+		final int[] hi = this.hi;
+		final int[] lo = this.lo;
+
+		times[ZERO] = Double.NEGATIVE_INFINITY;
+		times[ONE] = Double.POSITIVE_INFINITY;
+		for (int i = 2; i < var.length; i++) {
+			double high = times[hi[i]];
+			double low = times[lo[i]];
+			times[i] = Math.min(Math.max(high, low), Math.max(failureTimes[var[i]], low));
+		}
+		return times[root];
+	}
+
+	/**
+	 * Calculates the top event and its partial derivatives with respect to all
+	 * variables, i.e., the Birnbaum importance {@code dR/dp_i} of each variable.
+	 * The top event is calculated in an upward pass and the derivatives are
+	 * accumulated in a single downward pass (adjoint or reverse mode) such that
+	 * the effort is linear in the size of the {@link BDD} for all variables
+	 * together.
 	 * 
+	 * @param probabilities
+	 *            the values of the variables
+	 * @param derivatives
+	 *            the array for the derivative of each variable
+	 * @return the top event
 	 */
-	class NodeZero implements Node {
+	public double calculateDerivatives(double[] probabilities, double[] derivatives) {
+		double top = calculate(probabilities);
 
-		/*
-		 * (non-Javadoc)
-		 * 
-		 * @see org.jreliability.bdd.BDDTopEvent.Node#getValue()
-		 */
-		@Override
-		public double getValue() {
-			return 0;
+		Arrays.fill(derivatives, 0.0);
+		double[] adjoints = new double[values.length];
+		if (root >= 2) {
+			adjoints[root] = 1.0;
 		}
+		for (int i = values.length - 1; i >= 2; i--) {
+			double adjoint = adjoints[i];
+			double r = probabilities[var[i]];
+			adjoints[hi[i]] += adjoint * r;
+			adjoints[lo[i]] += adjoint * (1 - r);
+			derivatives[var[i]] += adjoint * (values[hi[i]] - values[lo[i]]);
+		}
+		return top;
 	}
 
 	/**
-	 * Constructs the {@link BDDTopEvent} calculator for a given {@link BDD}.
+	 * Calculates the top event and its derivative with respect to a common
+	 * parameter, e.g., the time, for given values and derivatives of the
+	 * variables. Each node carries its value and its derivative as a dual
+	 * number through the Shannon decomposition
+	 * <p>
+	 * {@code v' = r' * (v_hi - v_lo) + r * v_hi' + (1 - r) * v_lo'}
+	 * <p>
+	 * such that both are calculated in a single upward pass (forward mode).
 	 * 
-	 * @param bdd
-	 *            the given BDD
+	 * @param probabilities
+	 *            the values of the variables
+	 * @param derivatives
+	 *            the derivatives of the values of the variables
+	 * @param result
+	 *            the array for the top event at index {@code 0} and its
+	 *            derivative at index {@code 1}
 	 */
-	public BDDTopEvent(BDD<T> bdd) {
+	public void calculateDual(double[] probabilities, double[] derivatives, double[] result) {
+		final int[] var = this.var;
+		final int[] hi = this.hi;
+		final int[] lo = this.lo;
+		final double[] values = this.values;
+		if (tangents == null) {
+			tangents = new double[values.length];
+		}
+		final double[] tangents = this.tangents;
+
+		for (int i = 2; i < values.length; i++) {
+			double r = probabilities[var[i]];
+			double high = values[hi[i]];
+			double low = values[lo[i]];
+			values[i] = r * high + (1 - r) * low;
+			tangents[i] = derivatives[var[i]] * (high - low) + r * tangents[hi[i]] + (1 - r) * tangents[lo[i]];
+		}
+		result[0] = values[root];
+		result[1] = tangents[root];
+	}
 
-		Map<BDD<T>, VarNode> map = new HashMap<>();
-		root = build(bdd, map);
-		for (BDD<T> b : map.keySet()) {
-			b.free();
+	/**
+	 * Calculates the failure or repair criticality of the {@code i}-th variable
+	 * in {@link #getVariables()}, i.e., the probability that the top event
+	 * holds if the variable is fixed to 1 but not if it is fixed to 0
+	 * (failure) or vice versa (repair). This corresponds to the probability of
+	 * the {@link BDD} {@code f|x=1 AND NOT f|x=0} (or {@code f|x=0 AND NOT
+	 * f|x=1}), which is calculated on the compiled nodes by a simultaneous
+	 * descent into both restrictions without any further {@link BDD}
+	 * operations. Since all buffers are allocated per call, concurrent calls
+	 * on the same {@link BDDTopEvent} are possible.
+	 * 
+	 * @param probabilities
+	 *            the values of the variables
+	 * @param variable
+	 *            the index of the variable
+	 * @param failure
+	 *            {@code true} for the failure criticality, {@code false} for
+	 *            the repair criticality
+	 * @return the criticality of the variable
+	 */
+	public double calculateCriticality(double[] probabilities, int variable, boolean failure) {
+		double[] fixed = probabilities.clone();
+		double[] ones = new double[values.length];
+		double[] zeros = new double[values.length];
+		fixed[variable] = 1.0;
+		calculate(fixed, ones);
+		fixed[variable] = 0.0;
+		calculate(fixed, zeros);
+
+		PairMemo memo = new PairMemo();
+		if (failure) {
+			return calculateDifference(root, root, variable, true, fixed, ones, zeros, memo);
 		}
+		return calculateDifference(root, root, variable, false, fixed, zeros, ones, memo);
 	}
 
 	/**
-	 * Calculates the top event for the values given by the functionTransformer.
+	 * Calculates the probability of {@code a AND NOT b} where {@code a} is
+	 * restricted to the given value of the variable and {@code b} to its
+	 * complement.
 	 * 
-	 * @param transformer
-	 *            the transformer from the variables to the values
-	 * @return the top event
+	 * @param a
+	 *            the first node
+	 * @param b
+	 *            the second node
+	 * @param variable
+	 *            the index of the restricted variable
+	 * @param high
+	 *            the value of the variable for the first node
+	 * @param probabilities
+	 *            the values of the variables
+	 * @param valuesA
+	 *            the values of the nodes under the restriction of the first
+	 *            node
+	 * @param valuesB
+	 *            the values of the nodes under the restriction of the second
+	 *            node
+	 * @param memo
+	 *            the already calculated pairs of nodes
+	 * @return the probability of a AND NOT b
 	 */
-	public double calculate(Transformer<T, Double> transformer) {
+	private double calculateDifference(int a, int b, int variable, boolean high, double[] probabilities,
+			double[] valuesA, double[] valuesB, PairMemo memo) {
+		if (a >= 2 && var[a] == variable) {
+			a = high ? hi[a] : lo[a];
+		}
+		if (b >= 2 && var[b] == variable) {
+			b = high ? lo[b] : hi[b];
+		}
+		if (a == ZERO || b == ONE) {
+			return 0.0;
+		} else if (b == ZERO) {
+			return valuesA[a];
+		} else if (a == ONE) {
+			return 1 - valuesB[b];
+		} else if (a == b && levels[var[a]] > levels[variable]) {
+			/* Both restrictions of a node below the variable are equal */
+			return 0.0;
+		}
+		double known = memo.get(a, b);
+		if (!Double.isNaN(known)) {
+			return known;
+		}
+
+		int levelA = levels[var[a]];
+		int levelB = levels[var[b]];
+		int level = Math.min(levelA, levelB);
+		int a1 = levelA == level ? hi[a] : a;
+		int a0 = levelA == level ? lo[a] : a;
+		int b1 = levelB == level ? hi[b] : b;
+		int b0 = levelB == level ? lo[b] : b;
+		double r = probabilities[levelA == level ? var[a] : var[b]];
+
+		double result = r * calculateDifference(a1, b1, variable, high, probabilities, valuesA, valuesB, memo)
+				+ (1 - r) * calculateDifference(a0, b0, variable, high, probabilities, valuesA, valuesB, memo);
+		memo.put(a, b, result);
+		return result;
+	}
 
-		for (Entry<T, Var> entry : variables.entrySet()) {
-			T t = entry.getKey();
-			Var var = entry.getValue();
-			double value = transformer.transform(t);
-			var.setValue(value);
+	/**
+	 * Returns the {@link Unateness} of the {@code i}-th variable in
+	 * {@link #getVariables()}.
+	 * <p>
+	 * A variable is positive unate if the low successor implies the high
+	 * successor at each node of this variable and negative unate if the high
+	 * successor implies the low successor at each such node. The implications
+	 * are checked on the compiled nodes without any further {@link BDD}
+	 * operations.
+	 * 
+	 * @param variable
+	 *            the index of the variable
+	 * @return the unateness of the variable
+	 */
+	public Unateness getUnateness(int variable) {
+		if (unateness == null) {
+			boolean[] positive = new boolean[variables.size()];
+			boolean[] negative = new boolean[variables.size()];
+			Arrays.fill(positive, true);
+			Arrays.fill(negative, true);
+			PairMemo implications = new PairMemo();
+			for (int i = 2; i < values.length; i++) {
+				int v = var[i];
+				if (positive[v]) {
+					positive[v] = implies(lo[i], hi[i], implications);
+				}
+				if (negative[v]) {
+					negative[v] = implies(hi[i], lo[i], implications);
+				}
+			}
+			Unateness[] result = new Unateness[variables.size()];
+			for (int v = 0; v < result.length; v++) {
+				result[v] = positive[v] ? Unateness.POSITIVE : (negative[v] ? Unateness.NEGATIVE : Unateness.BINATE);
+			}
+			unateness = result;
+		}
+		return unateness[variable];
+	}
+
+	/**
+	 * Returns {@code true} if the function of node {@code a} implies the
+	 * function of node {@code b}.
+	 * 
+	 * @param a
+	 *            the first node
+	 * @param b
+	 *            the second node
+	 * @param implications
+	 *            the already known implications
+	 * @return true if a implies b
+	 */
+	protected boolean implies(int a, int b, PairMemo implications) {
+		if (a == ZERO || b == ONE || a == b) {
+			return true;
+		} else if (a == ONE || b == ZERO) {
+			return false;
+		}
+		double known = implications.get(a, b);
+		if (!Double.isNaN(known)) {
+			return known == 1.0;
 		}
 
-		for (VarNode node : nodes) {
+		int levelA = levels[var[a]];
+		int levelB = levels[var[b]];
+		int level = Math.min(levelA, levelB);
+		int a1 = levelA == level ? hi[a] : a;
+		int a0 = levelA == level ? lo[a] : a;
+		int b1 = levelB == level ? hi[b] : b;
+		int b0 = levelB == level ? lo[b] : b;
+
+		boolean result = implies(a1, b1, implications) && implies(a0, b0, implications);
+		implications.put(a, b, result ? 1.0 : 0.0);
+		return result;
+	}
+
+	/**
+	 * Calculates the top event for a batch of value assignments at once, e.g.,
+	 * for several points in time. The entry {@code probabilities[i][j]} is the
+	 * value of the {@code i}-th variable in {@link #getVariables()} for the
+	 * {@code j}-th assignment and the top event of the {@code j}-th assignment
+	 * is written to {@code tops[j]}.
+	 * <p>
+	 * The nodes are swept only once per block of assignments and each node
+	 * updates a whole row of assignments such that the inner loop operates on
+	 * contiguous arrays. Rows of nodes that are no longer needed are recycled.
+	 * 
+	 * @param probabilities
+	 *            the values of the variables (variables &times; assignments)
+	 * @param tops
+	 *            the array for the top events of each assignment
+	 */
+	public void calculate(double[][] probabilities, double[] tops) {
+		final int m = tops.length;
+		if (root < 2) {
+			Arrays.fill(tops, values[root]);
+			return;
+		}
 
-			double r = node.getVar().getValue();
+		final int size = values.length;
+		double[][] rows = new double[size][];
+		rows[ZERO] = new double[BLOCK];
+		rows[ONE] = new double[BLOCK];
+		Arrays.fill(rows[ONE], 1.0);
+		Deque<double[]> pool = new ArrayDeque<>();
+
+		for (int from = 0; from < m; from += BLOCK) {
+			final int length = Math.min(BLOCK, m - from);
+
+			for (int i = 2; i < size; i++) {
+				final double[] r = probabilities[var[i]];
+				final double[] high = rows[hi[i]];
+				final double[] low = rows[lo[i]];
+				final double[] y = pool.isEmpty() ? new double[BLOCK] : pool.pop();
+
+				// Shannon decomposition for the whole row
+				for (int k = 0; k < length; k++) {
+					double p = r[from + k];
+					y[k] = p * high[k] + (1 - p) * low[k];
+				}
+				rows[i] = y;
+
+				release(hi[i], i, rows, pool);
+				release(lo[i], i, rows, pool);
+			}
 
-			double low = node.getLo().getValue();
-			double high = node.getHi().getValue();
+			System.arraycopy(rows[root], 0, tops, from, length);
+			pool.push(rows[root]);
+			rows[root] = null;
+		}
+	}
 
-			// Shannon decomposition
-			double y = r * high + (1 - r) * low;
-			node.setValue(y);
+	/**
+	 * Returns the row of a node to the pool if the node is not used by any
+	 * further node.
+	 * 
+	 * @param node
+	 *            the node
+	 * @param current
+	 *            the currently processed node
+	 * @param rows
+	 *            the rows of all nodes
+	 * @param pool
+	 *            the pool of unused rows
+	 */
+	protected void release(int node, int current, double[][] rows, Deque<double[]> pool) {
+		if (node >= 2 && lastUse[node] == current) {
+			pool.push(rows[node]);
+			rows[node] = null;
 		}
+	}
+
+	/**
+	 * Returns the variables of the {@link BDD} in the order of their indices.
+	 * 
+	 * @return the variables
+	 */
+	public List<T> getVariables() {
+		return Collections.unmodifiableList(variables);
+	}
 
-		return root.getValue();
+	/**
+	 * Returns the number of (non-terminal) nodes.
+	 * 
+	 * @return the number of nodes
+	 */
+	public int size() {
+		return values.length - 2;
 	}
 
 	/**
-	 * Returns the internal variable for a {@link BDD}.
+	 * Returns the index of the internal variable for a {@link BDD}.
 	 * 
 	 * @param bdd
 	 *            the BDD
-	 * @return the corresponding internal variable
+	 * @param variableIndices
+	 *            the indices of the already known variables
+	 * @return the index of the corresponding internal variable
 	 */
-	protected Var getVariable(BDD<T> bdd) {
+	private int getVariable(BDD<T> bdd, Map<T, Integer> variableIndices) {
 		T t = bdd.var();
-		Var var = variables.get(t);
-		if (var == null) {
-			var = new Var(t);
-			variables.put(t, var);
+		Integer index = variableIndices.get(t);
+		if (index == null) {
+			index = variables.size();
+			if (index == levels.length) {
+				levels = Arrays.copyOf(levels, 2 * index);
+			}
+			variables.add(t);
+			levels[index] = bdd.level();
+			variableIndices.put(t, index);
 		}
-		return var;
-
+		return index;
 	}
 
 	/**
@@ -341,33 +770,39 @@ public class BDDTopEvent<T> {
 	 * @param bdd
 	 *            the original BDD node
 	 * @param map
-	 *            a map from the internal node to the BDD node
-	 * @return the internal node
+	 *            a map from the BDD node to the index of the internal node
+	 * @param variableIndices
+	 *            the indices of the already known variables
+	 * @param nodes
+	 *            the internal nodes (variable, high, low) ordered from the
+	 *            bottom to the root
+	 * @return the index of the internal node
 	 */
-	protected Node build(BDD<T> bdd, Map<BDD<T>, VarNode> map) {
+	private int build(BDD<T> bdd, Map<BDD<T>, Integer> map, Map<T, Integer> variableIndices, List<int[]> nodes) {
 		if (bdd.isOne()) {
-			return one;
+			return ONE;
 		} else if (bdd.isZero()) {
-			return zero;
+			return ZERO;
 		} else {
-			VarNode node = map.get(bdd);
-			if (node != null) {
-				return node;
+			Integer index = map.get(bdd);
+			if (index != null) {
+				return index;
 			}
 		}
-		VarNode node = new VarNode(getVariable(bdd));
-		map.put(bdd.copy(), node);
+		int variable = getVariable(bdd, variableIndices);
 
 		BDD<T> high = bdd.high();
-		node.setHi(build(high, map));
+		int h = build(high, map, variableIndices, nodes);
 		high.free();
 		BDD<T> low = bdd.low();
-		node.setLo(build(low, map));
+		int l = build(low, map, variableIndices, nodes);
 		low.free();
 
-		nodes.add(node);
+		nodes.add(new int[] { variable, h, l });
+		int index = nodes.size() + 1;
+		map.put(bdd.copy(), index);
 
-		return node;
+		return index;
 	}
 
 }
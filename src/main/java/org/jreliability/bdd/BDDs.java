@@ -21,11 +21,11 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.ToDoubleFunction;
 
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.bdd.BDDConstraint.Literal;
@@ -224,107 +224,29 @@ public abstract class BDDs {
 	 * @return the top event of the bdd
 	 */
 	public static <T> double calculateTop(BDD<T> bdd, Transformer<T, Double> transformer) {
-		if (bdd.isOne()) {
-			return 1.0;
-		}
-		if (bdd.isZero()) {
-			return 0.0;
-		}
-
-		Set<BDD<T>> upSort = new LinkedHashSet<>();
-		traverseBDD(bdd, upSort);
-		double top = evaluate(bdd, transformer, upSort);
-		for (BDD<T> ups : upSort) {
-			ups.free();
-		}
-		return top;
+		return calculateTopPrimitive(bdd, transformer::transform);
 	}
 
 	/**
-	 * Traverses the BDD to sort the nodes.
+	 * Calculates the top event of the {@link BDD} based on a function that
+	 * delivers for each variable {@code T} a primitive double value.
 	 * 
 	 * @param <T>
-	 *            the type of variables
-	 * @param bdd
-	 *            the bdd
-	 * @param upSort
-	 *            the sorted bdd nodes
-	 */
-	protected static <T> void traverseBDD(BDD<T> bdd, Set<BDD<T>> upSort) {
-		if (bdd.isOne() || bdd.isZero() || upSort.contains(bdd)) {
-			return;
-		}
-		BDD<T> high = bdd.high();
-		traverseBDD(high, upSort);
-		high.free();
-		BDD<T> low = bdd.low();
-		traverseBDD(low, upSort);
-		low.free();
-
-		upSort.add(bdd.copy());
-	}
-
-	/**
-	 * Evaluates the BDD to determine the top event.
-	 * 
-	 * @param <T>
-	 *            the type of the variables
+	 *            the type of variable
 	 * @param bdd
 	 *            the bdd
-	 * @param transformer
-	 *            the transformer
-	 * @param upSort
-	 *            the sorted bdd nodes
-	 * @return the top event
+	 * @param function
+	 *            the function that returns a double value for each variable
+	 * @return the top event of the bdd
 	 */
-	protected static <T> double evaluate(BDD<T> bdd, Transformer<T, Double> transformer, Set<BDD<T>> upSort) {
-		Map<T, Double> values = new HashMap<>();
-		HashMap<BDD<T>, Double> bddToDouble = new HashMap<>();
-
-		for (BDD<T> tmpBdd : upSort) {
-
-			T t = tmpBdd.var();
-			Double r = values.get(t);
-			if (r == null) {
-				r = transformer.transform(t);
-				values.put(t, r);
-			}
-
-			double high;
-			double low;
-			BDD<T> highBdd = tmpBdd.high();
-			if (highBdd.isOne()) {
-				high = 1.0;
-			} else if (highBdd.isZero()) {
-				high = 0.0;
-			} else {
-				high = bddToDouble.get(highBdd);
-			}
-			highBdd.free();
-
-			BDD<T> lowBdd = tmpBdd.low();
-			if (lowBdd.isOne()) {
-				low = 1.0;
-			} else if (lowBdd.isZero()) {
-				low = 0.0;
-			} else {
-				low = bddToDouble.get(lowBdd);
-			}
-			lowBdd.free();
-
-			// Shannon decomposition
-			double y = r * high + (1 - r) * low;
-
-			bddToDouble.put(tmpBdd, y);
+	public static <T> double calculateTopPrimitive(BDD<T> bdd, ToDoubleFunction<T> function) {
+		if (bdd.isOne()) {
+			return 1.0;
 		}
-
-		double x = bddToDouble.get(bdd);
-
-		for (BDD<T> freeBdd : bddToDouble.keySet()) {
-			freeBdd.free();
+		if (bdd.isZero()) {
+			return 0.0;
 		}
-
-		return x;
+		return new BDDTopEvent<>(bdd).calculatePrimitive(function);
 	}
 
 	/**
@@ -0,0 +1,508 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.bdd.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.jreliability.bdd.BDD;
+import org.jreliability.bdd.BDDProvider;
+import org.jreliability.bdd.BDDs;
+
+/**
+ * The {@link CBDD} is a pure Java implementation of the {@link BDD} interface
+ * that refers to a node of the {@link NodeTable} of its {@link CBDDProvider}.
+ * <p>
+ * Since the nodes are canonical, two {@link CBDD}s are equal if they refer to
+ * the same node. A {@link CBDD} object itself is not thread-safe, while
+ * different {@link CBDD}s of the same provider can be used concurrently.
+ * 
+ * @author glass
+ * 
+ * @param <T>
+ *            the type of variables
+ */
+public class CBDD<T> implements BDD<T> {
+
+	/**
+	 * The used {@link CBDDProvider}.
+	 */
+	protected final CBDDProvider<T> provider;
+
+	/**
+	 * The used {@link Operations}.
+	 */
+	protected final Operations operations;
+
+	/**
+	 * The node of this {@link CBDD}.
+	 */
+	protected int node;
+
+	/**
+	 * Constructs a {@link CBDD} with a given {@link CBDDProvider} and node.
+	 * 
+	 * @param provider
+	 *            the used provider
+	 * @param node
+	 *            the node
+	 */
+	CBDD(CBDDProvider<T> provider, int node) {
+		this.provider = provider;
+		this.operations = provider.getOperations();
+		this.node = node;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#allsat()
+	 */
+	@Override
+	public Iterator<BDD<T>> allsat() {
+		List<BDD<T>> cubes = new ArrayList<>();
+		for (int cube : operations.allSat(node)) {
+			cubes.add(new CBDD<>(provider, cube));
+		}
+		return cubes.iterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#and(org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public BDD<T> and(BDD<T> that) {
+		return new CBDD<>(provider, operations.apply(Operations.AND, node, node(that)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#andWith(org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public void andWith(BDD<T> that) {
+		node = operations.apply(Operations.AND, node, node(that));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#andWith(java.util.Collection)
+	 */
+	@Override
+	public void andWith(Collection<T> that) {
+		for (T variable : that) {
+			andWith(variable);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#andWith(java.lang.Object)
+	 */
+	@Override
+	public void andWith(T that) {
+		andWith(provider.get(that));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object that) {
+		if (!(that instanceof CBDD)) {
+			return false;
+		}
+		CBDD<?> other = (CBDD<?>) that;
+		return provider == other.provider && node == other.node;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return node;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#exist(java.lang.Object)
+	 */
+	@Override
+	public BDD<T> exist(T variable) {
+		return new CBDD<>(provider, operations.exist(node, provider.getIndex(variable)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#forAll(java.lang.Object)
+	 */
+	@Override
+	public BDD<T> forAll(T variable) {
+		return new CBDD<>(provider, operations.forAll(node, provider.getIndex(variable)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#sat()
+	 */
+	@Override
+	public BDD<T> sat() {
+		return new CBDD<>(provider, operations.satOne(node));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#high()
+	 */
+	@Override
+	public BDD<T> high() {
+		checkNonTerminal();
+		return new CBDD<>(provider, operations.getTable().high(node));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#getProvider()
+	 */
+	@Override
+	public BDDProvider<T> getProvider() {
+		return provider;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#isOne()
+	 */
+	@Override
+	public boolean isOne() {
+		return node == NodeTable.ONE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#isZero()
+	 */
+	@Override
+	public boolean isZero() {
+		return node == NodeTable.ZERO;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#ite(org.jreliability.bdd.BDD,
+	 * org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public BDD<T> ite(BDD<T> thenBDD, BDD<T> elseBDD) {
+		return new CBDD<>(provider, operations.ite(node, node(thenBDD), node(elseBDD)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#level()
+	 */
+	@Override
+	public int level() {
+		return operations.getTable().var(node);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#low()
+	 */
+	@Override
+	public BDD<T> low() {
+		checkNonTerminal();
+		return new CBDD<>(provider, operations.getTable().low(node));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#not()
+	 */
+	@Override
+	public BDD<T> not() {
+		return new CBDD<>(provider, operations.not(node));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#nodeCount()
+	 */
+	@Override
+	public int nodeCount() {
+		return operations.nodeCount(node);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#or(org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public BDD<T> or(BDD<T> that) {
+		return new CBDD<>(provider, operations.apply(Operations.OR, node, node(that)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#orWith(org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public void orWith(BDD<T> that) {
+		node = operations.apply(Operations.OR, node, node(that));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#orWith(java.util.Collection)
+	 */
+	@Override
+	public void orWith(Collection<T> that) {
+		for (T variable : that) {
+			orWith(variable);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#orWith(java.lang.Object)
+	 */
+	@Override
+	public void orWith(T that) {
+		orWith(provider.get(that));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#replace(java.lang.Object,
+	 * java.lang.Object)
+	 */
+	@Override
+	public BDD<T> replace(T variable1, T variable2) {
+		return new CBDD<>(provider,
+				operations.replace(node, provider.getIndex(variable1), provider.getIndex(variable2)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#replaceWith(java.lang.Object,
+	 * java.lang.Object)
+	 */
+	@Override
+	public void replaceWith(T variable1, T variable2) {
+		node = operations.replace(node, provider.getIndex(variable1), provider.getIndex(variable2));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#restrict(org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public BDD<T> restrict(BDD<T> that) {
+		return new CBDD<>(provider, operations.restrict(node, node(that)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#restrictWith(org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public void restrictWith(BDD<T> that) {
+		node = operations.restrict(node, node(that));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#var()
+	 */
+	@Override
+	public T var() {
+		return provider.get(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#xor(org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public BDD<T> xor(BDD<T> that) {
+		return new CBDD<>(provider, operations.apply(Operations.XOR, node, node(that)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#xorWith(org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public void xorWith(BDD<T> that) {
+		node = operations.apply(Operations.XOR, node, node(that));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#xorWith(java.lang.Object)
+	 */
+	@Override
+	public void xorWith(T that) {
+		xorWith(provider.get(that));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#imp(org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public BDD<T> imp(BDD<T> that) {
+		return new CBDD<>(provider, operations.apply(Operations.IMP, node, node(that)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#impWith(org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public void impWith(BDD<T> that) {
+		node = operations.apply(Operations.IMP, node, node(that));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#impWith(java.lang.Object)
+	 */
+	@Override
+	public void impWith(T that) {
+		impWith(provider.get(that));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#copy()
+	 */
+	@Override
+	public BDD<T> copy() {
+		return new CBDD<>(provider, node);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDD#getVariables()
+	 */
+	@Override
+	public Set<T> getVariables() {
+		return BDDs.getVariables(this);
+	}
+
+	/**
+	 * Does nothing since the nodes are never freed.
+	 */
+	@Override
+	public void free() {
+		// Nodes are shared between threads and never freed
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		if (isZero()) {
+			return "F";
+		} else if (isOne()) {
+			return "T";
+		}
+		NodeTable table = operations.getTable();
+		StringBuilder sb = new StringBuilder();
+		for (int cube : operations.allSat(node)) {
+			sb.append("<");
+			boolean first = true;
+			for (int c = cube; c != NodeTable.ONE;) {
+				if (!first) {
+					sb.append(", ");
+				}
+				first = false;
+				boolean positive = table.low(c) == NodeTable.ZERO;
+				sb.append(table.var(c)).append(":").append(positive ? 1 : 0);
+				c = positive ? table.high(c) : table.low(c);
+			}
+			sb.append(">");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the node of a {@link BDD} of the same provider.
+	 * 
+	 * @param bdd
+	 *            the bdd
+	 * @return the node of the bdd
+	 */
+	protected int node(BDD<T> bdd) {
+		return ((CBDD<T>) bdd).node;
+	}
+
+	/**
+	 * Checks that this {@link CBDD} is not a terminal.
+	 */
+	protected void checkNonTerminal() {
+		if (node == NodeTable.ZERO || node == NodeTable.ONE) {
+			throw new IllegalStateException("A terminal has no successors.");
+		}
+	}
+}
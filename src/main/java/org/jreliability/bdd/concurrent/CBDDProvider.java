@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.bdd.concurrent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jreliability.bdd.BDD;
+import org.jreliability.bdd.BDDProvider;
+
+/**
+ * The {@link CBDDProvider} is a thread-safe {@link BDDProvider} for the pure
+ * Java {@link CBDD}s.
+ * <p>
+ * All {@link CBDD}s of a provider share one {@link NodeTable} and one
+ * {@link ComputedCache}, which may be accessed concurrently by any number of
+ * threads. Optionally, a {@link ForkJoinPool} parallelizes each single binary
+ * operation. The variables are never reordered, i.e., the level of a variable
+ * is the order in which it was added to the provider. Nodes are never freed.
+ * 
+ * @author glass
+ * @param <T>
+ *            the type of the variables
+ */
+public class CBDDProvider<T> implements BDDProvider<T> {
+
+	/**
+	 * The used {@link Operations}.
+	 */
+	protected final Operations operations;
+
+	/**
+	 * The used {@link NodeTable}.
+	 */
+	protected final NodeTable table;
+
+	/**
+	 * A translation of the variable to an {@link Integer}.
+	 */
+	protected final ConcurrentMap<T, Integer> variableToInt = new ConcurrentHashMap<>();
+
+	/**
+	 * A translation of the {@link Integer} to the variable.
+	 */
+	protected final ConcurrentMap<Integer, T> intToVariable = new ConcurrentHashMap<>();
+
+	/**
+	 * The offset of the next variable.
+	 */
+	protected final AtomicInteger variableOffset = new AtomicInteger();
+
+	/**
+	 * Constructs a {@link CBDDProvider} with sequential operations.
+	 * 
+	 * @param initialNumberOfNodes
+	 *            the initial number of nodes of the unique table
+	 * @param cacheSize
+	 *            the number of slots of the computed cache
+	 */
+	public CBDDProvider(int initialNumberOfNodes, int cacheSize) {
+		this(initialNumberOfNodes, cacheSize, null, 0);
+	}
+
+	/**
+	 * Constructs a {@link CBDDProvider} that parallelizes each binary operation
+	 * with a {@link ForkJoinPool}.
+	 * 
+	 * @param initialNumberOfNodes
+	 *            the initial number of nodes of the unique table
+	 * @param cacheSize
+	 *            the number of slots of the computed cache
+	 * @param pool
+	 *            the pool for the parallel operations or {@code null}
+	 * @param parallelDepth
+	 *            the depth of the recursion up to which tasks are forked
+	 */
+	public CBDDProvider(int initialNumberOfNodes, int cacheSize, ForkJoinPool pool, int parallelDepth) {
+		table = new NodeTable(initialNumberOfNodes);
+		operations = new Operations(table, new ComputedCache(cacheSize), pool, pool == null ? 0 : parallelDepth);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDDProvider#add(java.util.List)
+	 */
+	@Override
+	public void add(List<T> variables) {
+		for (T variable : variables) {
+			getIndex(variable);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDDProvider#add(T[])
+	 */
+	@Override
+	public void add(@SuppressWarnings("unchecked") T... variables) {
+		add(Arrays.asList(variables));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDDProvider#zero()
+	 */
+	@Override
+	public BDD<T> zero() {
+		return new CBDD<>(this, NodeTable.ZERO);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDDProvider#one()
+	 */
+	@Override
+	public BDD<T> one() {
+		return new CBDD<>(this, NodeTable.ONE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDDProvider#get(java.lang.Object)
+	 */
+	@Override
+	public BDD<T> get(T variable) {
+		int var = getIndex(variable);
+		return new CBDD<>(this, table.mk(var, NodeTable.ZERO, NodeTable.ONE));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDDProvider#get(org.jreliability.bdd.BDD)
+	 */
+	@Override
+	public T get(BDD<T> bdd) {
+		return intToVariable.get(table.var(((CBDD<T>) bdd).node));
+	}
+
+	/**
+	 * Returns the index of a variable. Unknown variables are added. A known
+	 * variable keeps its index but replaces the stored variable to update its
+	 * attributes.
+	 * 
+	 * @param variable
+	 *            the variable
+	 * @return the index of the variable
+	 */
+	protected int getIndex(T variable) {
+		int index = variableToInt.computeIfAbsent(variable, v -> variableOffset.getAndIncrement());
+		intToVariable.put(index, variable);
+		return index;
+	}
+
+	/**
+	 * Returns the used {@link Operations}.
+	 * 
+	 * @return the operations
+	 */
+	public Operations getOperations() {
+		return operations;
+	}
+}
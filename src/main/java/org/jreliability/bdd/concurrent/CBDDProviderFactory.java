@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.bdd.concurrent;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.jreliability.bdd.BDDProvider;
+import org.jreliability.bdd.BDDProviderFactory;
+
+/**
+ * The {@link CBDDProviderFactory} is a {@link BDDProviderFactory} for the pure
+ * Java {@link CBDDProvider}.
+ * 
+ * @author glass
+ * 
+ */
+public class CBDDProviderFactory implements BDDProviderFactory {
+
+	/**
+	 * The initial number of nodes of the unique table.
+	 */
+	protected static final int INITIAL_NODES = 1 << 16;
+
+	/**
+	 * The default number of slots of the computed cache.
+	 */
+	protected static final int CACHE_SIZE = 1 << 18;
+
+	/**
+	 * The default depth of the recursion up to which parallel tasks are forked.
+	 */
+	protected static final int PARALLEL_DEPTH = 8;
+
+	/**
+	 * The {@link ForkJoinPool} for the parallel operations or {@code null}.
+	 */
+	protected final ForkJoinPool pool;
+
+	/**
+	 * Constructs a {@link CBDDProviderFactory} for providers with sequential
+	 * operations.
+	 */
+	public CBDDProviderFactory() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a {@link CBDDProviderFactory} for providers that parallelize
+	 * each binary operation with the given {@link ForkJoinPool}.
+	 * 
+	 * @param pool
+	 *            the pool for the parallel operations or {@code null}
+	 */
+	public CBDDProviderFactory(ForkJoinPool pool) {
+		super();
+		this.pool = pool;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.BDDProviderFactory#getProvider()
+	 */
+	@Override
+	public <T> BDDProvider<T> getProvider() {
+		return new CBDDProvider<>(INITIAL_NODES, CACHE_SIZE, pool, PARALLEL_DEPTH);
+	}
+
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.bdd.concurrent;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The {@link ComputedCache} memorizes the results of the operations on the
+ * {@link NodeTable}.
+ * <p>
+ * The cache is direct-mapped and lossy: each operation is hashed to exactly
+ * one slot and a newer result simply overwrites the older one. The entries are
+ * immutable and the slots are written with release and read with acquire
+ * semantics. Thus, a thread either sees a complete entry or an outdated one,
+ * which only costs a recomputation, and it also sees the variable and the
+ * successors of the resulting node that were stored in the {@link NodeTable}
+ * before the entry was published.
+ * 
+ * @author glass
+ * 
+ */
+public class ComputedCache {
+
+	/**
+	 * The immutable {@link Entry} of the cache.
+	 */
+	protected static final class Entry {
+		final int operation;
+		final int a;
+		final int b;
+		final int result;
+
+		Entry(int operation, int a, int b, int result) {
+			this.operation = operation;
+			this.a = a;
+			this.b = b;
+			this.result = result;
+		}
+	}
+
+	/**
+	 * The slots of the cache.
+	 */
+	protected final AtomicReferenceArray<Entry> entries;
+
+	/**
+	 * Constructs a {@link ComputedCache} with a given number of slots, which is
+	 * rounded up to a power of two.
+	 * 
+	 * @param size
+	 *            the number of slots
+	 */
+	public ComputedCache(int size) {
+		int length = 1;
+		while (length < size && length < (1 << 30)) {
+			length <<= 1;
+		}
+		entries = new AtomicReferenceArray<>(length);
+	}
+
+	/**
+	 * Returns the cached result of an operation or {@code -1} if it is not
+	 * cached.
+	 * 
+	 * @param operation
+	 *            the operation
+	 * @param a
+	 *            the first operand
+	 * @param b
+	 *            the second operand
+	 * @return the result or -1
+	 */
+	public int get(int operation, int a, int b) {
+		Entry entry = entries.getAcquire(index(operation, a, b));
+		if (entry != null && entry.operation == operation && entry.a == a && entry.b == b) {
+			return entry.result;
+		}
+		return -1;
+	}
+
+	/**
+	 * Caches the result of an operation.
+	 * 
+	 * @param operation
+	 *            the operation
+	 * @param a
+	 *            the first operand
+	 * @param b
+	 *            the second operand
+	 * @param result
+	 *            the result
+	 */
+	public void put(int operation, int a, int b, int result) {
+		entries.setRelease(index(operation, a, b), new Entry(operation, a, b, result));
+	}
+
+	/**
+	 * Returns the slot of an operation.
+	 * 
+	 * @param operation
+	 *            the operation
+	 * @param a
+	 *            the first operand
+	 * @param b
+	 *            the second operand
+	 * @return the slot
+	 */
+	protected int index(int operation, int a, int b) {
+		int h = operation * 0x27D4EB2F + a * 0x9E3779B9 + b * 0x85EBCA6B;
+		h ^= h >>> 15;
+		return h & (entries.length() - 1);
+	}
+}
@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.bdd.concurrent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * The {@link NodeTable} stores the nodes of all {@link CBDD}s of a
+ * {@link CBDDProvider} and guarantees that each node exists only once.
+ * <p>
+ * Each node is identified by an {@code int} and consists of its variable and
+ * its low and high successor. The nodes are stored in chunks of {@code long}
+ * arrays that are allocated on demand, such that the store grows without
+ * copying. The unique table is an open addressing hash table of node
+ * identifiers. Nodes are inserted by a compare-and-set such that concurrent
+ * threads never block each other. Lookups and insertions run under an
+ * optimistic stamp of a {@link StampedLock} without any shared write. Only an
+ * insertion that overlaps with the rare resizing of the unique table is
+ * repeated on the resized table.
+ * <p>
+ * The variable and the successors of a node are written with plain stores
+ * before the node is published by the compare-and-set into the unique table,
+ * which thus orders them for all threads that read the node from the table.
+ * <p>
+ * Nodes are never removed. A node that was allocated by a thread that lost the
+ * race for a slot of the unique table remains unused.
+ * 
+ * @author glass
+ * 
+ */
+public class NodeTable {
+
+	/**
+	 * The identifier of the zero terminal.
+	 */
+	public static final int ZERO = 0;
+
+	/**
+	 * The identifier of the one terminal.
+	 */
+	public static final int ONE = 1;
+
+	/**
+	 * The variable of the terminals, which is below all other variables.
+	 */
+	public static final int TERMINAL = Integer.MAX_VALUE;
+
+	/**
+	 * The number of bits of the node identifier that address a node within a
+	 * chunk.
+	 */
+	protected static final int CHUNK_BITS = 16;
+
+	/**
+	 * The number of nodes per chunk.
+	 */
+	protected static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+	/**
+	 * The maximal number of chunks.
+	 */
+	protected static final int CHUNKS = 1 << (31 - CHUNK_BITS);
+
+	/**
+	 * The minimal size of the unique table.
+	 */
+	protected static final int MINIMAL_TABLE_SIZE = 1 << 10;
+
+	/**
+	 * The chunks of the node store. Each node occupies two entries: its variable
+	 * and its low and high successor.
+	 */
+	protected final AtomicReferenceArray<long[]> chunks = new AtomicReferenceArray<>(CHUNKS);
+
+	/**
+	 * The identifier of the next allocated node.
+	 */
+	protected final AtomicInteger next = new AtomicInteger(2);
+
+	/**
+	 * The unique table of node identifiers, {@code 0} marks an empty slot.
+	 */
+	protected volatile AtomicIntegerArray table;
+
+	/**
+	 * The number of nodes in the unique table.
+	 */
+	protected final AtomicInteger size = new AtomicInteger();
+
+	/**
+	 * The lock whose write lock is held while the unique table is resized and
+	 * that is validated optimistically by insertions.
+	 */
+	protected final StampedLock lock = new StampedLock();
+
+	/**
+	 * Constructs a {@link NodeTable} with an initial capacity.
+	 * 
+	 * @param initialNumberOfNodes
+	 *            the number of nodes the unique table holds without resizing
+	 */
+	public NodeTable(int initialNumberOfNodes) {
+		int length = MINIMAL_TABLE_SIZE;
+		while (length < initialNumberOfNodes * 2L && length < (1 << 30)) {
+			length <<= 1;
+		}
+		table = new AtomicIntegerArray(length);
+
+		long[] chunk = new long[CHUNK_SIZE << 1];
+		chunk[ZERO << 1] = TERMINAL;
+		chunk[ONE << 1] = TERMINAL;
+		chunks.set(0, chunk);
+	}
+
+	/**
+	 * Returns the variable of a node.
+	 * 
+	 * @param node
+	 *            the node
+	 * @return the variable of the node
+	 */
+	public int var(int node) {
+		return (int) chunks.get(node >>> CHUNK_BITS)[(node & (CHUNK_SIZE - 1)) << 1];
+	}
+
+	/**
+	 * Returns the low successor of a node.
+	 * 
+	 * @param node
+	 *            the node
+	 * @return the low successor
+	 */
+	public int low(int node) {
+		return (int) (chunks.get(node >>> CHUNK_BITS)[((node & (CHUNK_SIZE - 1)) << 1) + 1] >>> 32);
+	}
+
+	/**
+	 * Returns the high successor of a node.
+	 * 
+	 * @param node
+	 *            the node
+	 * @return the high successor
+	 */
+	public int high(int node) {
+		return (int) chunks.get(node >>> CHUNK_BITS)[((node & (CHUNK_SIZE - 1)) << 1) + 1];
+	}
+
+	/**
+	 * Returns the unique node for the given variable and successors.
+	 * 
+	 * @param var
+	 *            the variable
+	 * @param low
+	 *            the low successor
+	 * @param high
+	 *            the high successor
+	 * @return the node
+	 */
+	public int mk(int var, int low, int high) {
+		if (low == high) {
+			return low;
+		}
+		int hash = hash(var, low, high);
+		int candidate = -1;
+
+		while (true) {
+			long stamp = lock.tryOptimisticRead();
+			if (stamp == 0) {
+				/* Wait for a running resize */
+				lock.unlockRead(lock.readLock());
+				continue;
+			}
+			AtomicIntegerArray t = table;
+			int mask = t.length() - 1;
+			for (int i = hash & mask;; i = (i + 1) & mask) {
+				int node = t.get(i);
+				if (node == 0) {
+					if (candidate < 0) {
+						candidate = allocate(var, low, high);
+					}
+					if (t.compareAndSet(i, 0, candidate)) {
+						break;
+					}
+					node = t.get(i);
+				}
+				if (var(node) == var && low(node) == low && high(node) == high) {
+					if (node != candidate) {
+						/* Nodes are never removed, thus a found node is valid */
+						return node;
+					}
+					/* The candidate was copied by an overlapping resize */
+					break;
+				}
+			}
+
+			if (lock.validate(stamp)) {
+				int n = size.incrementAndGet();
+				if (n * 4L > table.length() * 3L) {
+					resize();
+				}
+				return candidate;
+			}
+			/*
+			 * A resize overlapped with the insertion, which might not have been
+			 * copied. Repeat the insertion on the resized table, where the
+			 * candidate is found if it was copied.
+			 */
+		}
+	}
+
+	/**
+	 * Returns the number of allocated nodes including the terminals.
+	 * 
+	 * @return the number of allocated nodes
+	 */
+	public int getAllocatedNodes() {
+		return next.get();
+	}
+
+	/**
+	 * Allocates a new node in the store.
+	 * 
+	 * @param var
+	 *            the variable
+	 * @param low
+	 *            the low successor
+	 * @param high
+	 *            the high successor
+	 * @return the new node
+	 */
+	protected int allocate(int var, int low, int high) {
+		int node = next.getAndIncrement();
+		if (node < 0 || (node >>> CHUNK_BITS) >= CHUNKS) {
+			throw new IllegalStateException("The node table is full.");
+		}
+		int index = node >>> CHUNK_BITS;
+		long[] chunk = chunks.get(index);
+		if (chunk == null) {
+			chunks.compareAndSet(index, null, new long[CHUNK_SIZE << 1]);
+			chunk = chunks.get(index);
+		}
+		int offset = (node & (CHUNK_SIZE - 1)) << 1;
+		chunk[offset] = var;
+		chunk[offset + 1] = ((long) low << 32) | (high & 0xFFFFFFFFL);
+		return node;
+	}
+
+	/**
+	 * Doubles the size of the unique table if its load factor is exceeded.
+	 */
+	protected void resize() {
+		long stamp = lock.writeLock();
+		try {
+			AtomicIntegerArray old = table;
+			if (size.get() * 4L <= old.length() * 3L) {
+				return;
+			}
+			AtomicIntegerArray t = new AtomicIntegerArray(old.length() << 1);
+			int mask = t.length() - 1;
+			for (int j = 0; j < old.length(); j++) {
+				int node = old.get(j);
+				if (node != 0) {
+					int i = hash(var(node), low(node), high(node)) & mask;
+					while (t.get(i) != 0) {
+						i = (i + 1) & mask;
+					}
+					t.set(i, node);
+				}
+			}
+			table = t;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Returns the hash of a node.
+	 * 
+	 * @param var
+	 *            the variable
+	 * @param low
+	 *            the low successor
+	 * @param high
+	 *            the high successor
+	 * @return the hash
+	 */
+	protected static int hash(int var, int low, int high) {
+		int h = var * 0x9E3779B9 + low * 0x85EBCA6B + high * 0xC2B2AE35;
+		return h ^ (h >>> 16);
+	}
+}
@@ -0,0 +1,545 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.bdd.concurrent;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The {@link Operations} implement the operations on the nodes of a
+ * {@link NodeTable}. All results are memorized in a {@link ComputedCache}.
+ * <p>
+ * The operations may be called concurrently. If a {@link ForkJoinPool} is
+ * given, the binary operations additionally split the recursion into tasks up
+ * to a given depth such that idle threads of the pool steal the computation of
+ * the high successors.
+ * 
+ * @author glass
+ * 
+ */
+public class Operations {
+
+	/**
+	 * The logical and.
+	 */
+	public static final int AND = 0;
+
+	/**
+	 * The logical or.
+	 */
+	public static final int OR = 1;
+
+	/**
+	 * The logical xor.
+	 */
+	public static final int XOR = 2;
+
+	/**
+	 * The logical implication.
+	 */
+	public static final int IMP = 3;
+
+	/**
+	 * The negation.
+	 */
+	protected static final int NOT = 4;
+
+	/**
+	 * The restriction to a cube.
+	 */
+	protected static final int RESTRICT = 5;
+
+	/**
+	 * The existential quantification.
+	 */
+	protected static final int EXIST = 6;
+
+	/**
+	 * The universal quantification.
+	 */
+	protected static final int FORALL = 7;
+
+	/**
+	 * The used {@link NodeTable}.
+	 */
+	protected final NodeTable table;
+
+	/**
+	 * The used {@link ComputedCache}.
+	 */
+	protected final ComputedCache cache;
+
+	/**
+	 * The {@link ForkJoinPool} for the parallel operations or {@code null}.
+	 */
+	protected final ForkJoinPool pool;
+
+	/**
+	 * The depth of the recursion up to which tasks are forked.
+	 */
+	protected final int parallelDepth;
+
+	/**
+	 * The {@link ApplyTask} computes a binary operation as {@link ForkJoinTask}.
+	 * 
+	 * @author glass
+	 * 
+	 */
+	protected class ApplyTask extends RecursiveTask<Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		protected final int operation;
+		protected final int f;
+		protected final int g;
+		protected final int depth;
+
+		/**
+		 * Constructs an {@link ApplyTask}.
+		 * 
+		 * @param operation
+		 *            the operation
+		 * @param f
+		 *            the first operand
+		 * @param g
+		 *            the second operand
+		 * @param depth
+		 *            the depth of the recursion
+		 */
+		protected ApplyTask(int operation, int f, int g, int depth) {
+			this.operation = operation;
+			this.f = f;
+			this.g = g;
+			this.depth = depth;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override
+		protected Integer compute() {
+			return apply(operation, f, g, depth);
+		}
+	}
+
+	/**
+	 * Constructs the {@link Operations}.
+	 * 
+	 * @param table
+	 *            the node table
+	 * @param cache
+	 *            the computed cache
+	 * @param pool
+	 *            the pool for parallel operations or {@code null}
+	 * @param parallelDepth
+	 *            the depth of the recursion up to which tasks are forked
+	 */
+	public Operations(NodeTable table, ComputedCache cache, ForkJoinPool pool, int parallelDepth) {
+		this.table = table;
+		this.cache = cache;
+		this.pool = pool;
+		this.parallelDepth = parallelDepth;
+	}
+
+	/**
+	 * Returns the used {@link NodeTable}.
+	 * 
+	 * @return the node table
+	 */
+	public NodeTable getTable() {
+		return table;
+	}
+
+	/**
+	 * Applies a binary operation ({@link #AND}, {@link #OR}, {@link #XOR}, or
+	 * {@link #IMP}) to two nodes.
+	 * 
+	 * @param operation
+	 *            the operation
+	 * @param f
+	 *            the first operand
+	 * @param g
+	 *            the second operand
+	 * @return the result
+	 */
+	public int apply(int operation, int f, int g) {
+		if (pool == null) {
+			return apply(operation, f, g, parallelDepth);
+		} else if (ForkJoinTask.getPool() == pool) {
+			return apply(operation, f, g, 0);
+		}
+		return pool.invoke(new ApplyTask(operation, f, g, 0));
+	}
+
+	/**
+	 * Applies a binary operation and forks the high successors as long as the
+	 * depth is below the parallel depth.
+	 * 
+	 * @param operation
+	 *            the operation
+	 * @param f
+	 *            the first operand
+	 * @param g
+	 *            the second operand
+	 * @param depth
+	 *            the depth of the recursion
+	 * @return the result
+	 */
+	protected int apply(int operation, int f, int g, int depth) {
+		int result = terminal(operation, f, g);
+		if (result >= 0) {
+			return result;
+		}
+		if (operation != IMP && f > g) {
+			int tmp = f;
+			f = g;
+			g = tmp;
+		}
+		result = cache.get(operation, f, g);
+		if (result >= 0) {
+			return result;
+		}
+
+		int varF = table.var(f);
+		int varG = table.var(g);
+		int var = Math.min(varF, varG);
+		int f0 = varF == var ? table.low(f) : f;
+		int f1 = varF == var ? table.high(f) : f;
+		int g0 = varG == var ? table.low(g) : g;
+		int g1 = varG == var ? table.high(g) : g;
+
+		int low;
+		int high;
+		if (depth < parallelDepth) {
+			ApplyTask task = new ApplyTask(operation, f1, g1, depth + 1);
+			task.fork();
+			low = apply(operation, f0, g0, depth + 1);
+			high = task.join();
+		} else {
+			low = apply(operation, f0, g0, depth);
+			high = apply(operation, f1, g1, depth);
+		}
+
+		result = table.mk(var, low, high);
+		cache.put(operation, f, g, result);
+		return result;
+	}
+
+	/**
+	 * Returns the result of a binary operation if it is determined by a
+	 * terminal or equal operands, otherwise {@code -1}.
+	 * 
+	 * @param operation
+	 *            the operation
+	 * @param f
+	 *            the first operand
+	 * @param g
+	 *            the second operand
+	 * @return the result or -1
+	 */
+	protected int terminal(int operation, int f, int g) {
+		switch (operation) {
+		case AND:
+			if (f == NodeTable.ZERO || g == NodeTable.ZERO) {
+				return NodeTable.ZERO;
+			} else if (f == NodeTable.ONE || f == g) {
+				return g;
+			} else if (g == NodeTable.ONE) {
+				return f;
+			}
+			break;
+		case OR:
+			if (f == NodeTable.ONE || g == NodeTable.ONE) {
+				return NodeTable.ONE;
+			} else if (f == NodeTable.ZERO || f == g) {
+				return g;
+			} else if (g == NodeTable.ZERO) {
+				return f;
+			}
+			break;
+		case XOR:
+			if (f == g) {
+				return NodeTable.ZERO;
+			} else if (f == NodeTable.ZERO) {
+				return g;
+			} else if (g == NodeTable.ZERO) {
+				return f;
+			} else if (f == NodeTable.ONE) {
+				return not(g);
+			} else if (g == NodeTable.ONE) {
+				return not(f);
+			}
+			break;
+		case IMP:
+			if (f == NodeTable.ZERO || g == NodeTable.ONE || f == g) {
+				return NodeTable.ONE;
+			} else if (f == NodeTable.ONE) {
+				return g;
+			} else if (g == NodeTable.ZERO) {
+				return not(f);
+			}
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown operation " + operation);
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the negation of a node.
+	 * 
+	 * @param f
+	 *            the node
+	 * @return the negation
+	 */
+	public int not(int f) {
+		if (f == NodeTable.ZERO) {
+			return NodeTable.ONE;
+		} else if (f == NodeTable.ONE) {
+			return NodeTable.ZERO;
+		}
+		int result = cache.get(NOT, f, 0);
+		if (result >= 0) {
+			return result;
+		}
+		result = table.mk(table.var(f), not(table.low(f)), not(table.high(f)));
+		cache.put(NOT, f, 0, result);
+		return result;
+	}
+
+	/**
+	 * Returns the if-then-else of three nodes.
+	 * 
+	 * @param f
+	 *            the condition
+	 * @param g
+	 *            the then node
+	 * @param h
+	 *            the else node
+	 * @return the result
+	 */
+	public int ite(int f, int g, int h) {
+		return apply(OR, apply(AND, f, g), apply(AND, not(f), h));
+	}
+
+	/**
+	 * Restricts a node to the assignment of a cube, i.e., a conjunction of
+	 * literals.
+	 * 
+	 * @param f
+	 *            the node
+	 * @param cube
+	 *            the cube
+	 * @return the restricted node
+	 */
+	public int restrict(int f, int cube) {
+		if (f == NodeTable.ZERO || f == NodeTable.ONE || cube == NodeTable.ONE) {
+			return f;
+		}
+		int varF = table.var(f);
+		int varC = table.var(cube);
+		if (varC < varF) {
+			return restrict(f, table.low(cube) == NodeTable.ZERO ? table.high(cube) : table.low(cube));
+		}
+		int result = cache.get(RESTRICT, f, cube);
+		if (result >= 0) {
+			return result;
+		}
+		if (varC == varF) {
+			if (table.low(cube) == NodeTable.ZERO) {
+				result = restrict(table.high(f), table.high(cube));
+			} else {
+				result = restrict(table.low(f), table.low(cube));
+			}
+		} else {
+			result = table.mk(varF, restrict(table.low(f), cube), restrict(table.high(f), cube));
+		}
+		cache.put(RESTRICT, f, cube, result);
+		return result;
+	}
+
+	/**
+	 * Quantifies a variable of a node existentially.
+	 * 
+	 * @param f
+	 *            the node
+	 * @param var
+	 *            the variable
+	 * @return the quantified node
+	 */
+	public int exist(int f, int var) {
+		return quantify(EXIST, f, var);
+	}
+
+	/**
+	 * Quantifies a variable of a node universally.
+	 * 
+	 * @param f
+	 *            the node
+	 * @param var
+	 *            the variable
+	 * @return the quantified node
+	 */
+	public int forAll(int f, int var) {
+		return quantify(FORALL, f, var);
+	}
+
+	/**
+	 * Quantifies a variable of a node.
+	 * 
+	 * @param operation
+	 *            the quantification ({@link #EXIST} or {@link #FORALL})
+	 * @param f
+	 *            the node
+	 * @param var
+	 *            the variable
+	 * @return the quantified node
+	 */
+	protected int quantify(int operation, int f, int var) {
+		int varF = table.var(f);
+		if (varF > var) {
+			return f;
+		}
+		int result = cache.get(operation, f, var);
+		if (result >= 0) {
+			return result;
+		}
+		if (varF == var) {
+			result = apply(operation == EXIST ? OR : AND, table.low(f), table.high(f));
+		} else {
+			result = table.mk(varF, quantify(operation, table.low(f), var), quantify(operation, table.high(f), var));
+		}
+		cache.put(operation, f, var, result);
+		return result;
+	}
+
+	/**
+	 * Replaces a variable of a node by another variable.
+	 * 
+	 * @param f
+	 *            the node
+	 * @param var1
+	 *            the replaced variable
+	 * @param var2
+	 *            the new variable
+	 * @return the resulting node
+	 */
+	public int replace(int f, int var1, int var2) {
+		int high = restrict(f, table.mk(var1, NodeTable.ZERO, NodeTable.ONE));
+		int low = restrict(f, table.mk(var1, NodeTable.ONE, NodeTable.ZERO));
+		return ite(table.mk(var2, NodeTable.ZERO, NodeTable.ONE), high, low);
+	}
+
+	/**
+	 * Returns one satisfying assignment of a node as cube.
+	 * 
+	 * @param f
+	 *            the node
+	 * @return the cube of a satisfying assignment
+	 */
+	public int satOne(int f) {
+		if (f == NodeTable.ZERO || f == NodeTable.ONE) {
+			return f;
+		}
+		int low = table.low(f);
+		if (low != NodeTable.ZERO) {
+			return table.mk(table.var(f), satOne(low), NodeTable.ZERO);
+		}
+		return table.mk(table.var(f), NodeTable.ZERO, satOne(table.high(f)));
+	}
+
+	/**
+	 * Returns all satisfying assignments of a node as cubes, one for each path
+	 * to the one terminal.
+	 * 
+	 * @param f
+	 *            the node
+	 * @return the cubes of all satisfying assignments
+	 */
+	public List<Integer> allSat(int f) {
+		List<Integer> cubes = new ArrayList<>();
+		allSat(f, new ArrayList<>(), cubes);
+		return cubes;
+	}
+
+	/**
+	 * Collects the satisfying assignments of a node.
+	 * 
+	 * @param f
+	 *            the node
+	 * @param path
+	 *            the literals on the path to the node (variable, positive as 1 or
+	 *            negative as 0)
+	 * @param cubes
+	 *            the cubes of all satisfying assignments
+	 */
+	protected void allSat(int f, List<int[]> path, List<Integer> cubes) {
+		if (f == NodeTable.ZERO) {
+			return;
+		} else if (f == NodeTable.ONE) {
+			int cube = NodeTable.ONE;
+			for (int i = path.size() - 1; i >= 0; i--) {
+				int[] literal = path.get(i);
+				cube = literal[1] == 1 ? table.mk(literal[0], NodeTable.ZERO, cube)
+						: table.mk(literal[0], cube, NodeTable.ZERO);
+			}
+			cubes.add(cube);
+			return;
+		}
+		int var = table.var(f);
+		path.add(new int[] { var, 0 });
+		allSat(table.low(f), path, cubes);
+		path.set(path.size() - 1, new int[] { var, 1 });
+		allSat(table.high(f), path, cubes);
+		path.remove(path.size() - 1);
+	}
+
+	/**
+	 * Returns the number of non-terminal nodes of a node.
+	 * 
+	 * @param f
+	 *            the node
+	 * @return the number of nodes
+	 */
+	public int nodeCount(int f) {
+		Set<Integer> nodes = new HashSet<>();
+		collectNodes(f, nodes);
+		return nodes.size();
+	}
+
+	/**
+	 * Collects all non-terminal nodes of a node.
+	 * 
+	 * @param f
+	 *            the node
+	 * @param nodes
+	 *            the collected nodes
+	 */
+	protected void collectNodes(int f, Set<Integer> nodes) {
+		if (f == NodeTable.ZERO || f == NodeTable.ONE || !nodes.add(f)) {
+			return;
+		}
+		collectNodes(table.low(f), nodes);
+		collectNodes(table.high(f), nodes);
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.bdd.javabdd;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jreliability.bdd.BDD;
+
+import com.github.javabdd.BDDException;
+import com.github.javabdd.BDDFactory;
+
+/**
+ * The {@link ConcurrentJBDDProvider} is a thread-safe {@link JBDDProvider}.
+ * <p>
+ * The {@link BDDFactory} of JavaBDD must not be accessed concurrently.
+ * Therefore, each thread uses its own {@link BDDFactory}, while all threads
+ * share one registry of the variables such that a variable has the same index
+ * in each factory. A {@link BDD} belongs to the factory of the thread that
+ * created it and must only be used by this thread. Independent terms can thus
+ * be converted and evaluated in parallel without any synchronization between
+ * the threads.
+ * 
+ * @author glass, reimann
+ * @param <T> the type of the variables
+ */
+public class ConcurrentJBDDProvider<T> extends JBDDProvider<T> {
+
+	/**
+	 * The offset of the next variable.
+	 */
+	protected final AtomicInteger nextVariable = new AtomicInteger();
+
+	/**
+	 * The {@link BDDFactory} of each thread.
+	 */
+	protected final ThreadLocal<BDDFactory> factories;
+
+	/**
+	 * Constructs a {@link ConcurrentJBDDProvider} with a given number of
+	 * variables.
+	 * 
+	 * @param vars the number of variables
+	 */
+	public ConcurrentJBDDProvider(int vars) {
+		this(vars, 2, 20000);
+	}
+
+	/**
+	 * Constructs a {@link ConcurrentJBDDProvider} with a given number of
+	 * variables, the growth rate of the number of variables, and the initial
+	 * number of nodes of the factory of each thread.
+	 * 
+	 * @param vars                 the number of variables
+	 * @param variableGrowthFactor the factor by which to extend the number of
+	 *                             variables if required
+	 * @param initialNumberofNodes the initial number of nodes reserved in the BDD
+	 *                             factory of each thread
+	 */
+	public ConcurrentJBDDProvider(int vars, int variableGrowthFactor, int initialNumberofNodes) {
+		super(null, vars, variableGrowthFactor);
+		variableToInt = new ConcurrentHashMap<>();
+		intToVariable = new ConcurrentHashMap<>();
+		factories = ThreadLocal.withInitial(() -> createFactory(vars, initialNumberofNodes));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.javabdd.JBDDProvider#add(java.util.List)
+	 */
+	@Override
+	public void add(List<T> variables) {
+		for (T variable : variables) {
+			register(variable);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.bdd.javabdd.JBDDProvider#getIndex(java.lang.Object)
+	 */
+	@Override
+	protected int getIndex(T variable) {
+		int index = register(variable);
+
+		BDDFactory factory = getFactory();
+		int varNum = factory.varNum();
+		if (index >= varNum) {
+			int size = Math.max(varNum * variableGrowthFactor, index + 1);
+			try {
+				factory.setVarNum(size);
+			} catch (BDDException e) {
+				throw new IndexOutOfBoundsException("Setting variable number to " + size + " failed");
+			}
+		}
+
+		return index;
+	}
+
+	/**
+	 * Registers a variable and returns its index. A known variable keeps its
+	 * index but replaces the stored variable to update its attributes as in
+	 * {@link JBDDProvider#get(Object)}.
+	 * 
+	 * @param variable the variable
+	 * @return the index of the variable
+	 */
+	protected int register(T variable) {
+		int index = variableToInt.computeIfAbsent(variable, v -> nextVariable.getAndIncrement());
+		intToVariable.put(index, variable);
+		return index;
+	}
+
+	/**
+	 * Returns the {@link BDDFactory} of the current thread.
+	 * 
+	 * @return the bdd factory of the current thread
+	 */
+	@Override
+	public BDDFactory getFactory() {
+		return factories.get();
+	}
+
+	/**
+	 * Releases the {@link BDDFactory} of the current thread. All {@link BDD}s
+	 * that were created by the current thread become invalid.
+	 */
+	public void release() {
+		factories.remove();
+	}
+}
@@ -84,14 +84,41 @@ public class JBDDProvider<T> implements BDDProvider<T> {
 	 *                             factory
 	 */
 	public JBDDProvider(int vars, int variableGrowthFactor, int initialNumberofNodes) {
-		factory = JFactory.init(initialNumberofNodes, initialNumberofNodes);
-		factory.autoReorder(BDDFactory.REORDER_SIFT);
+		this(createFactory(vars, initialNumberofNodes), vars, variableGrowthFactor);
+	}
 
-		factory.setVarNum(vars);
+	/**
+	 * Constructs a {@link JBDDProvider} with a given {@link BDDFactory}, number of
+	 * variables, and growth rate of the number of variables.
+	 * 
+	 * @param factory              the used bdd factory
+	 * @param vars                 the number of variables
+	 * @param variableGrowthFactor the factor by which to extend the number of
+	 *                             variables if required
+	 */
+	protected JBDDProvider(BDDFactory factory, int vars, int variableGrowthFactor) {
+		this.factory = factory;
 		this.vars = vars;
 		this.variableGrowthFactor = variableGrowthFactor;
 	}
 
+	/**
+	 * Creates a {@link BDDFactory} with a given number of variables and initial
+	 * number of nodes.
+	 * 
+	 * @param vars                 the number of variables
+	 * @param initialNumberofNodes the initial number of nodes reserved in the BDD
+	 *                             factory
+	 * @return the bdd factory
+	 */
+	protected static BDDFactory createFactory(int vars, int initialNumberofNodes) {
+		BDDFactory factory = JFactory.init(initialNumberofNodes, initialNumberofNodes);
+		factory.autoReorder(BDDFactory.REORDER_SIFT);
+
+		factory.setVarNum(vars);
+		return factory;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -123,7 +150,7 @@ public class JBDDProvider<T> implements BDDProvider<T> {
 	 */
 	@Override
 	public BDD<T> zero() {
-		com.github.javabdd.BDD bdd = factory.zero();
+		com.github.javabdd.BDD bdd = getFactory().zero();
 		return new JBDD<>(this, bdd);
 	}
 
@@ -134,7 +161,7 @@ public class JBDDProvider<T> implements BDDProvider<T> {
 	 */
 	@Override
 	public BDD<T> one() {
-		return new JBDD<>(this, factory.one());
+		return new JBDD<>(this, getFactory().one());
 	}
 
 	/*
@@ -143,8 +170,29 @@ public class JBDDProvider<T> implements BDDProvider<T> {
 	 * @see org.jreliability.bdd.BDDProvider#get(java.lang.Object)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public BDD<T> get(T variable) {
+		int var = getIndex(variable);
+
+		com.github.javabdd.BDD bdd;
+		try {
+			bdd = getFactory().ithVar(var);
+		} catch (BDDException e) {
+			throw new IndexOutOfBoundsException("Unknown variable " + var + " (size: " + vars + ")");
+		}
+
+		return new JBDD<>(this, bdd);
+	}
+
+	/**
+	 * Returns the index of a variable in the {@link BDDFactory}. Unknown
+	 * variables are added and the number of variables of the factory is extended
+	 * if required.
+	 * 
+	 * @param variable the variable
+	 * @return the index of the variable
+	 */
+	@SuppressWarnings("unchecked")
+	protected int getIndex(T variable) {
 		if (!variableToInt.containsKey(variable)) {
 			add(variable);
 		} else {
@@ -171,16 +219,7 @@ public class JBDDProvider<T> implements BDDProvider<T> {
 			}
 		}
 
-		int var = variableToInt.get(variable);
-
-		com.github.javabdd.BDD bdd;
-		try {
-			bdd = factory.ithVar(var);
-		} catch (BDDException e) {
-			throw new IndexOutOfBoundsException("Unknown variable " + var + " (size: " + vars + ")");
-		}
-
-		return new JBDD<>(this, bdd);
+		return variableToInt.get(variable);
 	}
 
 	/*
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.booleanfunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jreliability.booleanfunction.common.ANDTerm;
+import org.jreliability.booleanfunction.common.FALSETerm;
+import org.jreliability.booleanfunction.common.LinearTerm;
+import org.jreliability.booleanfunction.common.LiteralTerm;
+import org.jreliability.booleanfunction.common.NOTTerm;
+import org.jreliability.booleanfunction.common.ORTerm;
+import org.jreliability.booleanfunction.common.TRUETerm;
+
+/**
+ * The {@link TermDAG} compiles a {@link Term} into a directed acyclic graph in
+ * which structurally equal subterms are represented by a single node
+ * (hash-consing). Two subterms are structurally equal if they are of the same
+ * class and have equal operands (in any order for {@link ANDTerm}s and
+ * {@link ORTerm}s), or if they are equal {@link LiteralTerm}s. The nodes are
+ * numbered in topological order, i.e., the operands of a node always have
+ * smaller numbers than the node itself. Thus, each node can be evaluated
+ * exactly once by a sequential pass over the nodes.
+ * 
+ * @author glass
+ *
+ */
+public class TermDAG {
+
+	/**
+	 * A representative {@link Term} of each node.
+	 */
+	protected final List<Term> terms = new ArrayList<>();
+	/**
+	 * The operands of each node.
+	 */
+	protected final List<int[]> operands = new ArrayList<>();
+	/**
+	 * The last node that uses each node as operand.
+	 */
+	protected int[] lastUses;
+	/**
+	 * The root node.
+	 */
+	protected final int root;
+	/**
+	 * The nodes of the already compiled {@link Term} objects.
+	 */
+	protected final Map<Term, Integer> compiled = new IdentityHashMap<>();
+	/**
+	 * The nodes of the structural keys.
+	 */
+	protected final Map<Object, Integer> nodes = new HashMap<>();
+
+	/**
+	 * Constructs a {@link TermDAG} for a given {@link Term}.
+	 * 
+	 * @param term
+	 *            the term to compile
+	 */
+	public TermDAG(Term term) {
+		root = compile(term);
+		lastUses = new int[terms.size()];
+		Arrays.fill(lastUses, -1);
+		for (int node = 0; node < terms.size(); node++) {
+			for (int operand : operands.get(node)) {
+				lastUses[operand] = node;
+			}
+		}
+	}
+
+	/**
+	 * Compiles a {@link Term} and returns its node.
+	 * 
+	 * @param term
+	 *            the term to compile
+	 * @return the node of the term
+	 */
+	private int compile(Term term) {
+		Integer node = compiled.get(term);
+		if (node != null) {
+			return node;
+		}
+
+		List<Term> subTerms = new ArrayList<>();
+		if (term instanceof NOTTerm) {
+			subTerms.add(((NOTTerm) term).get());
+		} else if (term instanceof AbstractHierarchicalTerm) {
+			subTerms.addAll(((AbstractHierarchicalTerm) term).getTerms());
+		}
+		int[] ops = new int[subTerms.size()];
+		for (int i = 0; i < ops.length; i++) {
+			ops[i] = compile(subTerms.get(i));
+		}
+
+		Object key = getKey(term, ops);
+		node = nodes.get(key);
+		if (node == null) {
+			node = terms.size();
+			terms.add(term);
+			operands.add(ops);
+			nodes.put(key, node);
+		}
+		compiled.put(term, node);
+		return node;
+	}
+
+	/**
+	 * Returns the structural key of a {@link Term} with the given operand
+	 * nodes.
+	 * 
+	 * @param term
+	 *            the term
+	 * @param ops
+	 *            the nodes of the operands
+	 * @return the structural key
+	 */
+	private Object getKey(Term term, int[] ops) {
+		if (term instanceof LiteralTerm) {
+			return term;
+		} else if (term instanceof TRUETerm || term instanceof FALSETerm) {
+			return term.getClass();
+		} else if (term instanceof NOTTerm || term instanceof AbstractHierarchicalTerm) {
+			List<Object> key = new ArrayList<>();
+			key.add(term.getClass());
+			int[] sorted = ops;
+			if (term instanceof ANDTerm || term instanceof ORTerm) {
+				sorted = ops.clone();
+				Arrays.sort(sorted);
+			}
+			for (int operand : sorted) {
+				key.add(operand);
+			}
+			if (term instanceof LinearTerm) {
+				LinearTerm linearTerm = (LinearTerm) term;
+				key.add(linearTerm.getCoefficients());
+				key.add(linearTerm.getComparator());
+				key.add(linearTerm.getRHS());
+			}
+			return key;
+		}
+		// Unknown terms are only shared if they are the same object
+		return new IdentityKey(term);
+	}
+
+	/**
+	 * Returns the number of nodes.
+	 * 
+	 * @return the number of nodes
+	 */
+	public int size() {
+		return terms.size();
+	}
+
+	/**
+	 * Returns the root node, i.e., the node of the compiled {@link Term}.
+	 * 
+	 * @return the root node
+	 */
+	public int getRoot() {
+		return root;
+	}
+
+	/**
+	 * Returns a representative {@link Term} of a node.
+	 * 
+	 * @param node
+	 *            the node
+	 * @return the term of the node
+	 */
+	public Term getTerm(int node) {
+		return terms.get(node);
+	}
+
+	/**
+	 * Returns the operand nodes of a node in the order of the operands of its
+	 * {@link Term}.
+	 * 
+	 * @param node
+	 *            the node
+	 * @return the operands of the node
+	 */
+	public int[] getOperands(int node) {
+		return operands.get(node);
+	}
+
+	/**
+	 * Returns the last node that uses a node as operand or {@code -1} if the
+	 * node is not an operand, i.e., the root. The result of a node is not needed
+	 * anymore after its last use has been evaluated.
+	 * 
+	 * @param node
+	 *            the node
+	 * @return the last node using the node
+	 */
+	public int getLastUse(int node) {
+		return lastUses[node];
+	}
+
+	/**
+	 * The {@link IdentityKey} wraps a {@link Term} such that it only equals
+	 * itself.
+	 * 
+	 * @author glass
+	 *
+	 */
+	protected static class IdentityKey {
+
+		/**
+		 * The wrapped {@link Term}.
+		 */
+		protected final Term term;
+
+		/**
+		 * Constructs an {@link IdentityKey} for a {@link Term}.
+		 * 
+		 * @param term
+		 *            the term
+		 */
+		public IdentityKey(Term term) {
+			this.term = term;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(term);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof IdentityKey && ((IdentityKey) obj).term == term;
+		}
+
+	}
+
+}
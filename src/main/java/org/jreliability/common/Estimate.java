@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.common;
+
+/**
+ * The {@link Estimate} represents a statistical estimate of a value together
+ * with its confidence interval, the confidence level of the interval, and the
+ * number of samples the estimate is based on.
+ * 
+ * @author glass
+ * 
+ */
+public class Estimate {
+
+	/**
+	 * The estimated value.
+	 */
+	protected final double value;
+
+	/**
+	 * The lower bound of the confidence interval.
+	 */
+	protected final double lower;
+
+	/**
+	 * The upper bound of the confidence interval.
+	 */
+	protected final double upper;
+
+	/**
+	 * The confidence level of the interval.
+	 */
+	protected final double confidence;
+
+	/**
+	 * The number of samples.
+	 */
+	protected final long samples;
+
+	/**
+	 * Constructs an {@link Estimate} with a given value, confidence interval,
+	 * confidence level, and number of samples.
+	 * 
+	 * @param value
+	 *            the estimated value
+	 * @param lower
+	 *            the lower bound of the confidence interval
+	 * @param upper
+	 *            the upper bound of the confidence interval
+	 * @param confidence
+	 *            the confidence level of the interval
+	 * @param samples
+	 *            the number of samples
+	 */
+	public Estimate(double value, double lower, double upper, double confidence, long samples) {
+		this.value = value;
+		this.lower = lower;
+		this.upper = upper;
+		this.confidence = confidence;
+		this.samples = samples;
+	}
+
+	/**
+	 * Returns the estimated value.
+	 * 
+	 * @return the estimated value
+	 */
+	public double getValue() {
+		return value;
+	}
+
+	/**
+	 * Returns the lower bound of the confidence interval.
+	 * 
+	 * @return the lower bound
+	 */
+	public double getLower() {
+		return lower;
+	}
+
+	/**
+	 * Returns the upper bound of the confidence interval.
+	 * 
+	 * @return the upper bound
+	 */
+	public double getUpper() {
+		return upper;
+	}
+
+	/**
+	 * Returns the half-width of the confidence interval.
+	 * 
+	 * @return the half-width of the confidence interval
+	 */
+	public double getHalfWidth() {
+		return (upper - lower) / 2;
+	}
+
+	/**
+	 * Returns the confidence level of the interval.
+	 * 
+	 * @return the confidence level
+	 */
+	public double getConfidence() {
+		return confidence;
+	}
+
+	/**
+	 * Returns the number of samples.
+	 * 
+	 * @return the number of samples
+	 */
+	public long getSamples() {
+		return samples;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return value + " [" + lower + ", " + upper + "] (" + confidence + ", " + samples + " samples)";
+	}
+
+}
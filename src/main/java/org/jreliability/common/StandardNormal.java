@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.common;
+
+/**
+ * The {@link StandardNormal} provides the quantile function of the standard
+ * normal distribution, e.g., for the confidence intervals of an
+ * {@link Estimate}.
+ * 
+ * @author glass
+ * 
+ */
+public abstract class StandardNormal {
+
+	/**
+	 * Returns the quantile of the standard normal distribution for a given
+	 * probability {@code p} by the rational approximation of Acklam with a
+	 * relative error below {@code 1.2E-9}.
+	 * 
+	 * @param p
+	 *            the probability
+	 * @return the quantile
+	 */
+	public static double quantile(double p) {
+		// constants
+		final double a1 = -3.969683028665376e+01;
+		final double a2 = 2.209460984245205e+02;
+		final double a3 = -2.759285104469687e+02;
+		final double a4 = 1.383577518672690e+02;
+		final double a5 = -3.066479806614716e+01;
+		final double a6 = 2.506628277459239e+00;
+		final double b1 = -5.447609879822406e+01;
+		final double b2 = 1.615858368580409e+02;
+		final double b3 = -1.556989798598866e+02;
+		final double b4 = 6.680131188771972e+01;
+		final double b5 = -1.328068155288572e+01;
+		final double c1 = -7.784894002430293e-03;
+		final double c2 = -3.223964580411365e-01;
+		final double c3 = -2.400758277161838e+00;
+		final double c4 = -2.549732539343734e+00;
+		final double c5 = 4.374664141464968e+00;
+		final double c6 = 2.938163982698783e+00;
+		final double d1 = 7.784695709041462e-03;
+		final double d2 = 3.224671290700398e-01;
+		final double d3 = 2.445134137142996e+00;
+		final double d4 = 3.754408661907416e+00;
+		final double low = 0.02425;
+
+		if (p <= 0) {
+			return Double.NEGATIVE_INFINITY;
+		} else if (p >= 1) {
+			return Double.POSITIVE_INFINITY;
+		} else if (p < low) {
+			double q = Math.sqrt(-2 * Math.log(p));
+			return (((((c1 * q + c2) * q + c3) * q + c4) * q + c5) * q + c6)
+					/ ((((d1 * q + d2) * q + d3) * q + d4) * q + 1);
+		} else if (p > 1 - low) {
+			double q = Math.sqrt(-2 * Math.log(1 - p));
+			return -(((((c1 * q + c2) * q + c3) * q + c4) * q + c5) * q + c6)
+					/ ((((d1 * q + d2) * q + d3) * q + d4) * q + 1);
+		}
+		double q = p - 0.5;
+		double r = q * q;
+		return (((((a1 * r + a2) * r + a3) * r + a4) * r + a5) * r + a6) * q
+				/ (((((b1 * r + b2) * r + b3) * r + b4) * r + b5) * r + 1);
+	}
+
+}
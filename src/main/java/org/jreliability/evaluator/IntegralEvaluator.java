@@ -15,14 +15,27 @@
 
 package org.jreliability.evaluator;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jreliability.function.Function;
+import org.jreliability.function.SequentialFunction;
 
 /**
  * The {@link IntegralEvaluator} determines the integral of a {@link Function}
- * using Romberg's method.
+ * using adaptive Gauss-Kronrod quadrature.
+ * <p>
+ * Each interval is integrated by the 15-point Kronrod rule, and the difference
+ * to the embedded 7-point Gauss rule estimates its error. The interval with the
+ * largest error is bisected until the sum of the errors is below the allowed
+ * error. Thus, the function is only refined where it changes, e.g., near the
+ * wear-out of a reliability function that is flat for long stretches. The
+ * points of both halves of a bisected interval are evaluated at once by
+ * {@link Function#getY(double[], double[])}.
+ * <p>
+ * Integrals from {@code a} to {@code infinity} are transformed to the finite
+ * interval {@code [0,1)} by {@code x = a + s * t / (1 - t)}, see
+ * {@link #evaluateToInfinity(Function, double, double)}.
  * 
  * @author lukasiewycz
  * 
@@ -30,10 +43,56 @@ import org.jreliability.function.Function;
 public class IntegralEvaluator {
 
 	/**
-	 * The allowed error / {@code epsilon} for Romberg's method.
+	 * The nodes of the 15-point Kronrod rule on {@code [0,1]}, the odd ones
+	 * are the nodes of the 7-point Gauss rule.
+	 */
+	protected static final double[] NODES = { 0.991455371120812639206854697526329,
+			0.949107912342758524526189684047851, 0.864864423359769072789712788640926,
+			0.741531185599394439863864773280788, 0.586087235467691130294144845693013,
+			0.405845151377397166906606412076961, 0.207784955007898467600689403773245, 0.0 };
+
+	/**
+	 * The weights of the 15-point Kronrod rule.
+	 */
+	protected static final double[] KRONROD_WEIGHTS = { 0.022935322010529224963732008058970,
+			0.063092092629978553290700663189204, 0.104790010322250183839876322541518,
+			0.140653259715525918745189590510238, 0.169004726639267902826583426598550,
+			0.190350578064785409913256402421014, 0.204432940075298892414161999234649,
+			0.209482141084727828012999174891714 };
+
+	/**
+	 * The weights of the 7-point Gauss rule for the odd nodes.
+	 */
+	protected static final double[] GAUSS_WEIGHTS = { 0.129484966168869693270611432679082,
+			0.279705391489276667901467771423780, 0.381830050505118944950369775488975,
+			0.417959183673469387755102040816327 };
+
+	/**
+	 * The number of points of the Kronrod rule.
+	 */
+	protected static final int POINTS = 15;
+
+	/**
+	 * The maximal number of intervals.
+	 */
+	protected static final int LIMIT = 2000;
+
+	/**
+	 * The error relative to the integral below which the intervals are not
+	 * refined further, independent of {@code epsilon}.
+	 */
+	protected static final double RELATIVE = 1.0E-13;
+
+	/**
+	 * The allowed error / {@code epsilon} of the integral.
 	 */
 	protected final double epsilon;
 
+	/**
+	 * The number of function evaluations of all integrations.
+	 */
+	protected final AtomicLong evaluations = new AtomicLong();
+
 	/**
 	 * Constructs the {@link IntegralEvaluator} with the epsilon value
 	 * {@code 1.0E-8}.
@@ -46,7 +105,7 @@ public class IntegralEvaluator {
 	 * Constructs the {@link IntegralEvaluator}.
 	 * 
 	 * @param epsilon
-	 *            the allowed error for Romberg's method.
+	 *            the allowed error of the integral
 	 */
 	public IntegralEvaluator(double epsilon) {
 		super();
@@ -65,62 +124,384 @@ public class IntegralEvaluator {
 	 * @return the value of the integral from {@code a} to {@code b}
 	 */
 	public double evaluate(Function f, double a, double b) {
-		double error;
-		double r;
+		if (a == b) {
+			return 0.0;
+		} else if (a > b) {
+			return -evaluate(f, b, a);
+		}
+
+		Intervals intervals = new Intervals();
+		double[] xs = new double[2 * POINTS];
+		double[] ys = new double[2 * POINTS];
+		double[] single = new double[POINTS];
+		double[] singleYs = new double[POINTS];
 
-		class Table {
-			protected List<List<Double>> tab = new ArrayList<>();
+		setPoints(a, b, single, 0);
+		f.getY(single, singleYs);
+		long count = POINTS;
+		intervals.add(a, b, singleYs, 0);
 
-			public double get(int n, int m) {
-				return tab.get(n).get(m);
+		double value = intervals.values[0];
+		double error = intervals.errors[0];
+
+		while (error > Math.max(epsilon, RELATIVE * Math.abs(value)) && intervals.size < LIMIT) {
+			int i = intervals.peek();
+			double lower = intervals.lowers[i];
+			double upper = intervals.uppers[i];
+			double mid = 0.5 * (lower + upper);
+			if (!(lower < mid && mid < upper)) {
+				// The interval cannot be bisected in double precision
+				break;
 			}
+			setPoints(lower, mid, xs, 0);
+			setPoints(mid, upper, xs, POINTS);
+			f.getY(xs, ys);
+			count += 2 * POINTS;
 
-			public void set(int n, int m, double value) {
-				if (tab.size() == n) {
-					tab.add(new ArrayList<Double>());
+			value -= intervals.values[i];
+			error -= intervals.errors[i];
+			intervals.replace(i, lower, mid, ys, 0);
+			intervals.add(mid, upper, ys, POINTS);
+			value += intervals.values[i] + intervals.values[intervals.size - 1];
+			error += intervals.errors[i] + intervals.errors[intervals.size - 1];
+			if (Double.isNaN(error)) {
+				// An infinite error has been removed
+				error = 0.0;
+				for (int j = 0; j < intervals.size; j++) {
+					error += intervals.errors[j];
 				}
-				List<Double> row = tab.get(n);
-				assert (row.size() == m);
-				row.add(value);
 			}
 		}
+		evaluations.addAndGet(count);
+
+		// Sum up again to avoid the cancellation of the updates
+		double sum = 0.0;
+		for (int i = 0; i < intervals.size; i++) {
+			sum += intervals.values[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * Calculates the integral from {@code a} to {@code infinity} by the
+	 * substitution {@code x = a + s * t / (1 - t)} that maps {@code [0,1)} to
+	 * {@code [a,infinity)}. The scale {@code s} should be of the order of the
+	 * extent of the function, e.g., its median, such that the function is
+	 * resolved evenly on {@code [0,1)}. The function is never evaluated at
+	 * {@code infinity}.
+	 * 
+	 * @param f
+	 *            the function to be integrated
+	 * @param a
+	 *            the lower bound
+	 * @param s
+	 *            the scale of the substitution
+	 * @return the value of the integral from {@code a} to {@code infinity}
+	 */
+	public double evaluateToInfinity(Function f, double a, double s) {
+		if (!(s > 0)) {
+			throw new IllegalArgumentException("The scale must be greater 0.");
+		}
+		return evaluate(new SemiInfiniteFunction(f, a, s), 0, 1);
+	}
+
+	/**
+	 * Returns the number of function evaluations of all integrations performed
+	 * by this evaluator.
+	 * 
+	 * @return the number of function evaluations
+	 */
+	public long getEvaluations() {
+		return evaluations.get();
+	}
+
+	/**
+	 * Sets the points of the Kronrod rule on the interval from {@code a} to
+	 * {@code b}, starting at the given offset.
+	 * 
+	 * @param a
+	 *            the lower bound
+	 * @param b
+	 *            the upper bound
+	 * @param xs
+	 *            the array of points
+	 * @param offset
+	 *            the offset in the array
+	 */
+	protected static void setPoints(double a, double b, double[] xs, int offset) {
+		double center = 0.5 * (a + b);
+		double half = 0.5 * (b - a);
+		for (int j = 0; j < 7; j++) {
+			xs[offset + j] = center - half * NODES[j];
+			xs[offset + 7 + j] = center + half * NODES[j];
+		}
+		xs[offset + 14] = center;
+	}
+
+	/**
+	 * The {@link SemiInfiniteFunction} is the integrand
+	 * {@code f(a + s * t / (1 - t)) * s / (1 - t)^2} on {@code [0,1)} for an
+	 * integral of {@code f} from {@code a} to {@code infinity}.
+	 * 
+	 * @author lukasiewycz
+	 * 
+	 */
+	protected static class SemiInfiniteFunction extends SequentialFunction {
+
+		/**
+		 * The integrated function.
+		 */
+		protected final Function f;
+
+		/**
+		 * The lower bound.
+		 */
+		protected final double a;
+
+		/**
+		 * The scale.
+		 */
+		protected final double s;
+
+		/**
+		 * Constructs a {@link SemiInfiniteFunction}.
+		 * 
+		 * @param f
+		 *            the integrated function
+		 * @param a
+		 *            the lower bound
+		 * @param s
+		 *            the scale
+		 */
+		protected SemiInfiniteFunction(Function f, double a, double s) {
+			this.f = f;
+			this.a = a;
+			this.s = s;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jreliability.function.Function#getY(double)
+		 */
+		@Override
+		public double getY(double t) {
+			double u = 1 / (1 - t);
+			double y = f.getY(a + s * t * u);
+			return y == 0 ? 0 : y * s * u * u;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jreliability.function.Function#getY(double[], double[])
+		 */
+		@Override
+		public void getY(double[] ts, double[] ys) {
+			double[] xs = new double[ts.length];
+			for (int i = 0; i < ts.length; i++) {
+				xs[i] = a + s * ts[i] * (1 / (1 - ts[i]));
+			}
+			f.getY(xs, ys);
+			for (int i = 0; i < ts.length; i++) {
+				double u = 1 / (1 - ts[i]);
+				ys[i] = ys[i] == 0 ? 0 : ys[i] * s * u * u;
+			}
+		}
+	}
 
-		Table R = new Table();
+	/**
+	 * The {@link Intervals} of an adaptive integration on primitive arrays,
+	 * organized as a max-heap of their errors.
+	 * 
+	 * @author lukasiewycz
+	 * 
+	 */
+	protected static class Intervals {
+
+		/**
+		 * The lower bound of each interval.
+		 */
+		protected double[] lowers = new double[16];
+
+		/**
+		 * The upper bound of each interval.
+		 */
+		protected double[] uppers = new double[16];
 
-		double fa = f.getY(a);
-		double fb = f.getY(b);
-		double h1 = h(1, a, b);
-		r = h1 * (fa + fb);
+		/**
+		 * The integral of each interval.
+		 */
+		protected double[] values = new double[16];
 
-		R.set(0, 0, r);
+		/**
+		 * The error estimate of each interval.
+		 */
+		protected double[] errors = new double[16];
 
-		int n = 1;
-		while (true) {
-			double hn = h(n, a, b);
+		/**
+		 * The intervals as a max-heap of their errors.
+		 */
+		protected int[] heap = new int[16];
 
-			double sum = 0.0;
-			for (int k = 1; k <= Math.pow(2, n - 1); k++) {
-				double x = a + (2 * k - 1) * hn;
-				sum += f.getY(x);
+		/**
+		 * The position of each interval in the heap.
+		 */
+		protected int[] positions = new int[16];
+
+		/**
+		 * The number of intervals.
+		 */
+		protected int size = 0;
+
+		/**
+		 * Returns the interval with the largest error.
+		 * 
+		 * @return the interval with the largest error
+		 */
+		protected int peek() {
+			return heap[0];
+		}
+
+		/**
+		 * Adds an interval with the function values at the points of the
+		 * Kronrod rule.
+		 * 
+		 * @param a
+		 *            the lower bound
+		 * @param b
+		 *            the upper bound
+		 * @param ys
+		 *            the function values
+		 * @param offset
+		 *            the offset of the function values
+		 */
+		protected void add(double a, double b, double[] ys, int offset) {
+			if (size == heap.length) {
+				int capacity = 2 * size;
+				lowers = Arrays.copyOf(lowers, capacity);
+				uppers = Arrays.copyOf(uppers, capacity);
+				values = Arrays.copyOf(values, capacity);
+				errors = Arrays.copyOf(errors, capacity);
+				heap = Arrays.copyOf(heap, capacity);
+				positions = Arrays.copyOf(positions, capacity);
 			}
+			int i = size++;
+			set(i, a, b, ys, offset);
+			heap[i] = i;
+			positions[i] = i;
+			siftUp(i);
+		}
 
-			r = 0.5 * R.get(n - 1, 0) + hn * sum;
-			R.set(n, 0, r);
+		/**
+		 * Replaces an interval with an interval of a smaller error.
+		 * 
+		 * @param i
+		 *            the interval to replace
+		 * @param a
+		 *            the lower bound
+		 * @param b
+		 *            the upper bound
+		 * @param ys
+		 *            the function values
+		 * @param offset
+		 *            the offset of the function values
+		 */
+		protected void replace(int i, double a, double b, double[] ys, int offset) {
+			set(i, a, b, ys, offset);
+			siftDown(positions[i]);
+			siftUp(positions[i]);
+		}
 
-			for (int m = 1; m <= n; m++) {
-				r = R.get(n, m - 1) + (R.get(n, m - 1) - R.get(n - 1, m - 1)) / Math.pow(4, m - 1);
-				R.set(n, m, r);
+		/**
+		 * Sets the bounds, the integral and the error of an interval.
+		 * 
+		 * @param i
+		 *            the interval
+		 * @param a
+		 *            the lower bound
+		 * @param b
+		 *            the upper bound
+		 * @param ys
+		 *            the function values
+		 * @param offset
+		 *            the offset of the function values
+		 */
+		protected void set(int i, double a, double b, double[] ys, int offset) {
+			double center = ys[offset + 14];
+			double kronrod = KRONROD_WEIGHTS[7] * center;
+			double gauss = GAUSS_WEIGHTS[3] * center;
+			for (int j = 0; j < 7; j++) {
+				double sum = ys[offset + j] + ys[offset + 7 + j];
+				kronrod += KRONROD_WEIGHTS[j] * sum;
+				if (j % 2 == 1) {
+					gauss += GAUSS_WEIGHTS[j / 2] * sum;
+				}
 			}
+			double half = 0.5 * (b - a);
+			lowers[i] = a;
+			uppers[i] = b;
+			values[i] = half * kronrod;
+			double error = Math.abs(half * (kronrod - gauss));
+			// A non-finite error is refined first
+			errors[i] = Double.isNaN(error) ? Double.POSITIVE_INFINITY : error;
+		}
 
-			error = Math.abs(R.get(n, n) - R.get(n, n - 1));
-			if (error < epsilon) {
-				return R.get(n, n);
+		/**
+		 * Moves the interval at the given heap position up.
+		 * 
+		 * @param position
+		 *            the heap position
+		 */
+		protected void siftUp(int position) {
+			int i = heap[position];
+			while (position > 0) {
+				int parent = (position - 1) / 2;
+				if (errors[heap[parent]] >= errors[i]) {
+					break;
+				}
+				move(heap[parent], position);
+				position = parent;
 			}
-			n++;
+			move(i, position);
 		}
-	}
 
-	private double h(int n, double a, double b) {
-		return (b - a) / Math.pow(2, n);
+		/**
+		 * Moves the interval at the given heap position down.
+		 * 
+		 * @param position
+		 *            the heap position
+		 */
+		protected void siftDown(int position) {
+			int i = heap[position];
+			while (true) {
+				int child = 2 * position + 1;
+				if (child >= size) {
+					break;
+				}
+				if (child + 1 < size && errors[heap[child + 1]] > errors[heap[child]]) {
+					child++;
+				}
+				if (errors[heap[child]] <= errors[i]) {
+					break;
+				}
+				move(heap[child], position);
+				position = child;
+			}
+			move(i, position);
+		}
+
+		/**
+		 * Puts an interval at a heap position.
+		 * 
+		 * @param i
+		 *            the interval
+		 * @param position
+		 *            the heap position
+		 */
+		protected void move(int i, int position) {
+			heap[position] = i;
+			positions[i] = position;
+		}
 	}
 }
@@ -22,6 +22,11 @@ import org.jreliability.function.ReliabilityFunction;
  * The {@link InverseEvaluator} calculates the {@code x} value in {@code y =
  * R(x)} for a given {@code y} of the {@link ReliabilityFunction} {@code R(t)}.
  * This is typically used to derive measures like, e.g., the Mission Time (MT).
+ * The inverse of an {@link org.jreliability.function.InvertibleReliabilityFunction}
+ * or of an equivalent
+ * {@link org.jreliability.function.AnalyticReliabilityFunction} is used
+ * directly, any other function is inverted by the safeguarded Newton or secant
+ * iteration of the {@link org.jreliability.function.InverseFunction}.
  * 
  * @author glass
  */
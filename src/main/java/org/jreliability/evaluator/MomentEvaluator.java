@@ -15,6 +15,9 @@
 
 package org.jreliability.evaluator;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jreliability.function.AnalyticReliabilityFunction;
 import org.jreliability.function.Function;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.SequentialFunction;
@@ -24,9 +27,14 @@ import org.jreliability.function.SequentialFunction;
  * function {@code f(x)} given a {@link ReliabilityFunction} {@code R(x)}.<br>
  * {@code E(X^n) = integral_0^infinity x^n f(x) dx}.
  * <p>
- * It performs an integration from {@code 0} to {@code infinity} using Romberg's
- * integration. This is commonly used to derived measures like, e.g., Mean Time
- * To Failure (MTTF) ({@code E(X)}) and its variance ({@code E(X^2)-E(X)^2}).
+ * It performs an integration from {@code 0} to {@code infinity} using the
+ * adaptive {@link IntegralEvaluator} on the substitution
+ * {@code x = s * t / (1 - t)}, where the scale {@code s} is close to the bulk
+ * of the integral. This is commonly used to derived measures like, e.g., Mean Time To
+ * Failure (MTTF) ({@code E(X)}) and its variance ({@code E(X^2)-E(X)^2}). The
+ * moments of an {@link AnalyticReliabilityFunction} or a function with an
+ * equivalent one, see {@link AnalyticReliabilityFunction#of(ReliabilityFunction)},
+ * are not integrated but calculated directly.
  * 
  * @author glass, lukasiewycz
  * 
@@ -34,10 +42,26 @@ import org.jreliability.function.SequentialFunction;
 public class MomentEvaluator implements Evaluator {
 
 	/**
-	 * The allowed error {@code epsilon} for Romberg's integration.
+	 * The allowed error {@code epsilon} for the integration.
 	 */
 	protected final double epsilon;
 
+	/**
+	 * The {@link IntegralEvaluator} for the integration.
+	 */
+	protected final IntegralEvaluator integral;
+
+	/**
+	 * The number of powers that are evaluated to find the scale of the
+	 * integration.
+	 */
+	protected static final int SCALES = 71;
+
+	/**
+	 * The number of function evaluations to find the scales.
+	 */
+	protected final AtomicLong evaluations = new AtomicLong();
+
 	/**
 	 * The {@code n}-th moment.
 	 */
@@ -74,7 +98,21 @@ public class MomentEvaluator implements Evaluator {
 		 */
 		@Override
 		public double getY(double x) {
-			return n * Math.pow(x, n - 1) * reliabilityFunction.getY(x);
+			double y = reliabilityFunction.getY(x);
+			return y == 0 ? 0 : n * Math.pow(x, n - 1) * y;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.jreliability.function.Function#getY(double[], double[])
+		 */
+		@Override
+		public void getY(double[] xs, double[] ys) {
+			reliabilityFunction.getY(xs, ys);
+			for (int i = 0; i < xs.length; i++) {
+				ys[i] = ys[i] == 0 ? 0 : n * Math.pow(xs[i], n - 1) * ys[i];
+			}
 		}
 
 	}
@@ -105,6 +143,7 @@ public class MomentEvaluator implements Evaluator {
 		super();
 		this.n = n;
 		this.epsilon = epsilon;
+		this.integral = new IntegralEvaluator(epsilon);
 		if (n < 1) {
 			throw new IllegalArgumentException("An n-th moment with n < 1 is undefined.");
 		}
@@ -119,9 +158,45 @@ public class MomentEvaluator implements Evaluator {
 	 * @return the value derived from the integration of the reliabilityFunction
 	 */
 	public double evaluate(ReliabilityFunction reliabilityFunction) {
-		double upperBound = getUpperBound(reliabilityFunction);
-		return integrate(reliabilityFunction, 0, upperBound);
+		AnalyticReliabilityFunction analyticFunction = AnalyticReliabilityFunction.of(reliabilityFunction);
+		if (analyticFunction != null) {
+			return analyticFunction.getMoment(n);
+		}
+		Function f = new MomentFunction(reliabilityFunction, n);
+		return integral.evaluateToInfinity(f, 0, getScale(f));
+	}
 
+	/**
+	 * Returns the scale of the substitution of the integration to
+	 * {@code infinity}. The moment function {@code g(x)} is evaluated at the
+	 * powers of four from {@code 4^-20} to {@code 4^50} and the scale is the
+	 * power where {@code x * g(x)}, i.e., the integrand over {@code ln(x)}, is
+	 * maximal. If the moment function is zero at all powers, the scale is
+	 * {@code 1}.
+	 * 
+	 * @param f
+	 *            the moment function
+	 * @return the scale
+	 */
+	protected double getScale(Function f) {
+		double[] xs = new double[SCALES];
+		double[] ys = new double[SCALES];
+		for (int i = 0; i < SCALES; i++) {
+			xs[i] = Math.scalb(1.0, 2 * (i - 20));
+		}
+		f.getY(xs, ys);
+		evaluations.addAndGet(SCALES);
+
+		double scale = 1.0;
+		double max = 0.0;
+		for (int i = 0; i < SCALES; i++) {
+			double mass = xs[i] * ys[i];
+			if (mass > max) {
+				max = mass;
+				scale = xs[i];
+			}
+		}
+		return scale;
 	}
 
 	/**
@@ -149,7 +224,19 @@ public class MomentEvaluator implements Evaluator {
 	}
 
 	/**
-	 * Calculates the integral between a and b using Romberg's integration.
+	 * Returns the number of evaluations of the moment function by all
+	 * integrations of this evaluator, including the evaluations to find their
+	 * scales. Analytically calculated moments need no evaluations.
+	 * 
+	 * @return the number of function evaluations
+	 */
+	public long getEvaluations() {
+		return evaluations.get() + integral.getEvaluations();
+	}
+
+	/**
+	 * Calculates the integral between a and b using the
+	 * {@link IntegralEvaluator}.
 	 * 
 	 * @param reliabilityFunction
 	 *            the reliabilityFunction
@@ -162,7 +249,6 @@ public class MomentEvaluator implements Evaluator {
 	protected double integrate(ReliabilityFunction reliabilityFunction, double a, double b) {
 		Function f = new MomentFunction(reliabilityFunction, n);
 
-		IntegralEvaluator integral = new IntegralEvaluator(epsilon);
 		double value = integral.evaluate(f, a, b);
 		return value;
 	}
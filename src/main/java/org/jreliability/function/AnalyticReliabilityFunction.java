@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.function;
+
+/**
+ * The {@link AnalyticReliabilityFunction} is an
+ * {@link InvertibleReliabilityFunction} {@code R(x)} that also provides its
+ * moments {@code E(X^n)} and its density {@code f(x) = -R'(x)} in closed form.
+ * The {@link org.jreliability.evaluator.MomentEvaluator} and the
+ * {@link org.jreliability.evaluator.InverseEvaluator} use these instead of a
+ * numerical integration or inversion.
+ * <p>
+ * A {@link ReliabilityFunctionSet} may have an equivalent
+ * {@link AnalyticReliabilityFunction}, e.g., a serial structure of exponential
+ * functions, see {@link #of(ReliabilityFunction)}.
+ * 
+ * @author glass
+ * 
+ */
+public interface AnalyticReliabilityFunction extends InvertibleReliabilityFunction, DifferentiableReliabilityFunction {
+
+	/**
+	 * Returns the {@code n}-th moment {@code E(X^n)} of the time-to-failure
+	 * {@code X}.
+	 * 
+	 * @param n
+	 *            the moment
+	 * @return the n-th moment
+	 */
+	public double getMoment(int n);
+
+	/**
+	 * Returns the {@link AnalyticReliabilityFunction} that is equivalent to a
+	 * given {@link ReliabilityFunction} or {@code null} if there is none.
+	 * 
+	 * @param reliabilityFunction
+	 *            the reliability function
+	 * @return the equivalent analytic reliability function or {@code null}
+	 */
+	public static AnalyticReliabilityFunction of(ReliabilityFunction reliabilityFunction) {
+		if (reliabilityFunction instanceof AnalyticReliabilityFunction) {
+			return (AnalyticReliabilityFunction) reliabilityFunction;
+		} else if (reliabilityFunction instanceof ReliabilityFunctionSet) {
+			return ((ReliabilityFunctionSet) reliabilityFunction).getAnalyticFunction();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a given {@link ReliabilityFunction} as the given type, e.g., an
+	 * {@link InvertibleReliabilityFunction}, or, otherwise, its equivalent
+	 * {@link AnalyticReliabilityFunction}, or {@code null} if there is none.
+	 * Since a {@link ReliabilityFunctionSet} may change, the result reflects
+	 * only its current functions and is to be determined for each use.
+	 * 
+	 * @param <F>
+	 *            the type of the reliability function
+	 * @param reliabilityFunction
+	 *            the reliability function
+	 * @param type
+	 *            the type, i.e., {@link InvertibleReliabilityFunction} or
+	 *            {@link DifferentiableReliabilityFunction}
+	 * @return the reliability function as the given type or {@code null}
+	 */
+	public static <F extends ReliabilityFunction> F of(ReliabilityFunction reliabilityFunction, Class<F> type) {
+		if (type.isInstance(reliabilityFunction)) {
+			return type.cast(reliabilityFunction);
+		}
+		AnalyticReliabilityFunction analyticFunction = of(reliabilityFunction);
+		return type.isInstance(analyticFunction) ? type.cast(analyticFunction) : null;
+	}
+
+}
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.function;
+
+/**
+ * The {@link CachedInverseFunction} is an {@link InverseFunction} for
+ * {@link ReliabilityFunction}s without a closed-form inverse that is evaluated
+ * many times, e.g., to sample times-to-failure in a simulation.
+ * <p>
+ * The inverse {@code R^-1(y)} is determined by the iteration of the
+ * {@link InverseFunction} without error bound, i.e., until no further
+ * progress is possible, once at
+ * {@link #KNOTS} + 1 points that are equidistant in the logarithm of the
+ * cumulative hazard {@code ln(-ln(y))} between {@link #MIN_HAZARD} and
+ * {@link #MAX_HAZARD}. In this scale, the inverses of the exponential and the
+ * Weibull distribution are exponential functions that are smooth at both
+ * ends. In between, the inverse is interpolated by a monotone cubic Hermite
+ * spline (Fritsch-Carlson) such that the interpolated inverse is
+ * non-decreasing as well. Reliabilities outside the spline are determined by
+ * the iteration of the {@link InverseFunction}.
+ * <p>
+ * The {@link CachedInverseFunction} is immutable after its construction and
+ * can be shared between threads if the {@link ReliabilityFunction} is
+ * thread-safe.
+ * 
+ * @author glass
+ * 
+ */
+public class CachedInverseFunction extends InverseFunction {
+
+	/**
+	 * The number of intervals of the spline.
+	 */
+	public static final int KNOTS = 256;
+
+	/**
+	 * The minimal cumulative hazard {@code -ln(y)} that is covered by the
+	 * spline, i.e., a reliability of about {@code 1 - 1.0E-10}.
+	 */
+	protected static final double MIN_HAZARD = 1.0E-10;
+
+	/**
+	 * The maximal cumulative hazard {@code -ln(y)} that is covered by the
+	 * spline, i.e., a reliability of {@code 1.0E-12}.
+	 */
+	protected static final double MAX_HAZARD = 12 * Math.log(10);
+
+	/**
+	 * The logarithm of {@link #MIN_HAZARD}.
+	 */
+	protected static final double MIN_LOG_HAZARD = Math.log(MIN_HAZARD);
+
+	/**
+	 * The distance of two knots in the logarithm of the cumulative hazard.
+	 */
+	protected static final double STEP = (Math.log(MAX_HAZARD) - MIN_LOG_HAZARD) / KNOTS;
+
+	/**
+	 * The inverse at each knot.
+	 */
+	protected final double[] xs;
+
+	/**
+	 * The derivative of the inverse with respect to the logarithm of the
+	 * cumulative hazard at each knot.
+	 */
+	protected final double[] slopes;
+
+	/**
+	 * Constructs a {@link CachedInverseFunction} with a given
+	 * {@link ReliabilityFunction}.
+	 * 
+	 * @param reliabilityFunction
+	 *            the reliabilityFunction
+	 */
+	public CachedInverseFunction(ReliabilityFunction reliabilityFunction) {
+		super(reliabilityFunction, 0);
+		InverseFunction inverse = new InverseFunction(reliabilityFunction, 0);
+		xs = new double[KNOTS + 1];
+		for (int i = 0; i <= KNOTS; i++) {
+			double hazard = Math.exp(MIN_LOG_HAZARD + i * STEP);
+			xs[i] = inverse.getY(Math.exp(-hazard));
+			if (i > 0 && xs[i] < xs[i - 1]) {
+				xs[i] = xs[i - 1];
+			}
+		}
+		slopes = getSlopes(xs, STEP);
+	}
+
+	/**
+	 * Constructs a {@link CachedInverseFunction} that shares the spline of a
+	 * given {@link CachedInverseFunction} but has its own warm start.
+	 * 
+	 * @param inverse
+	 *            the cached inverse function to copy
+	 */
+	protected CachedInverseFunction(CachedInverseFunction inverse) {
+		super(inverse.reliabilityFunction, 0);
+		xs = inverse.xs;
+		slopes = inverse.slopes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.InverseFunction#copy()
+	 */
+	@Override
+	public InverseFunction copy() {
+		return new CachedInverseFunction(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.InverseFunction#getY(double)
+	 */
+	@Override
+	public double getY(double x) {
+		double position = (Math.log(-Math.log(x)) - MIN_LOG_HAZARD) / STEP;
+		if (!(position >= 0 && position < KNOTS)) {
+			return super.getY(x);
+		}
+		int i = (int) position;
+		double t = position - i;
+		double t2 = t * t;
+		double t3 = t2 * t;
+
+		// Cubic Hermite basis functions
+		double h00 = 2 * t3 - 3 * t2 + 1;
+		double h10 = t3 - 2 * t2 + t;
+		double h01 = -2 * t3 + 3 * t2;
+		double h11 = t3 - t2;
+		return h00 * xs[i] + h10 * STEP * slopes[i] + h01 * xs[i + 1] + h11 * STEP * slopes[i + 1];
+	}
+	/**
+	 * Calculates the slopes of a monotone cubic Hermite spline through the
+	 * given non-decreasing values with the method of Fritsch and Carlson.
+	 * 
+	 * @param values
+	 *            the non-decreasing values at equidistant knots
+	 * @param step
+	 *            the distance of two knots
+	 * @return the slope at each knot
+	 */
+	protected static double[] getSlopes(double[] values, double step) {
+		int n = values.length;
+		double[] secants = new double[n - 1];
+		for (int i = 0; i < n - 1; i++) {
+			secants[i] = (values[i + 1] - values[i]) / step;
+		}
+
+		double[] slopes = new double[n];
+		slopes[0] = secants[0];
+		slopes[n - 1] = secants[n - 2];
+		for (int i = 1; i < n - 1; i++) {
+			slopes[i] = (secants[i - 1] + secants[i]) / 2;
+		}
+
+		for (int i = 0; i < n - 1; i++) {
+			if (secants[i] == 0) {
+				slopes[i] = 0;
+				slopes[i + 1] = 0;
+			} else {
+				double alpha = slopes[i] / secants[i];
+				double beta = slopes[i + 1] / secants[i];
+				double norm = alpha * alpha + beta * beta;
+				if (norm > 9) {
+					double tau = 3 / Math.sqrt(norm);
+					slopes[i] = tau * alpha * secants[i];
+					slopes[i + 1] = tau * beta * secants[i];
+				}
+			}
+		}
+		return slopes;
+	}
+
+}
@@ -18,6 +18,13 @@ package org.jreliability.function;
 /**
  * The {@link DensityFunction} determines the density {@code f(x)} of a
  * {@link Function} {@code F(x)}.
+ * <p>
+ * The density of a {@link DifferentiableReliabilityFunction} or of a
+ * {@link ReliabilityFunction} with an equivalent
+ * {@link AnalyticReliabilityFunction} and of their
+ * {@link UnreliabilityFunction}s is determined exactly, see
+ * {@link AnalyticReliabilityFunction#of(ReliabilityFunction, Class)}. Any other
+ * {@link Function} is differentiated by a finite difference.
  * 
  * @author glass
  * 
@@ -30,6 +37,12 @@ public class DensityFunction {
 	 */
 	protected final Function function;
 
+	/**
+	 * The {@link ReliabilityFunction} of the {@link Function} or of its
+	 * {@link UnreliabilityFunction} or {@code null}.
+	 */
+	protected final ReliabilityFunction reliabilityFunction;
+
 	/**
 	 * Constructs a {@link DensityFunction} with a given
 	 * {@link Function}.
@@ -39,6 +52,11 @@ public class DensityFunction {
 	 */
 	public DensityFunction(Function function) {
 		this.function = function;
+		Function f = function;
+		if (f instanceof UnreliabilityFunction) {
+			f = ((UnreliabilityFunction) f).reliabilityFunction;
+		}
+		this.reliabilityFunction = (f instanceof ReliabilityFunction) ? (ReliabilityFunction) f : null;
 	}
 
 	/**
@@ -49,6 +67,13 @@ public class DensityFunction {
 	 * @return the y for y = f(x)
 	 */
 	public double getY(double x) {
+		if (reliabilityFunction != null) {
+			DifferentiableReliabilityFunction differentiable = AnalyticReliabilityFunction.of(reliabilityFunction,
+					DifferentiableReliabilityFunction.class);
+			if (differentiable != null) {
+				return Math.abs(differentiable.getDensity(x));
+			}
+		}
 		double deltaT = 0.00000001;
 		double y = function.getY(x);
 		double yPrime = function.getY(x + deltaT);
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.function;
+
+/**
+ * The {@link DifferentiableReliabilityFunction} is a
+ * {@link ReliabilityFunction} {@code R(x)} that provides its density
+ * {@code f(x) = -R'(x)} and its failure rate {@code lambda(x) = f(x) / R(x)}
+ * exactly. The {@link InverseFunction} uses the density for a Newton
+ * iteration, the {@link DensityFunction} and the {@link FailureRate} use them
+ * instead of a finite difference.
+ * 
+ * @author glass
+ * 
+ */
+public interface DifferentiableReliabilityFunction extends ReliabilityFunction {
+
+	/**
+	 * Returns the density {@code f(x) = -R'(x)} of the time-to-failure.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the density at x
+	 */
+	public double getDensity(double x);
+
+	/**
+	 * Returns the failure rate {@code lambda(x) = f(x) / R(x)}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the failure rate at x
+	 */
+	public default double getFailureRate(double x) {
+		return getDensity(x) / getY(x);
+	}
+
+}
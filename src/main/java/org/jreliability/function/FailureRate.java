@@ -20,6 +20,12 @@ package org.jreliability.function;
  * {@link ReliabilityFunction} and is defined as
  * <p>
  * {@code lambda(x) = f(x) / R(x)}.
+ * <p>
+ * The failure rate of a {@link DifferentiableReliabilityFunction} or of a
+ * {@link ReliabilityFunction} with an equivalent
+ * {@link AnalyticReliabilityFunction} is determined exactly, cf.
+ * {@link DifferentiableReliabilityFunction#getFailureRate(double)} and
+ * {@link AnalyticReliabilityFunction#of(ReliabilityFunction, Class)}.
  * 
  * @author glass
  * 
@@ -58,6 +64,11 @@ public class FailureRate {
 	 * @return the failure rate at value x
 	 */
 	public double getY(double x) {
+		DifferentiableReliabilityFunction differentiable = AnalyticReliabilityFunction.of(reliabilityFunction,
+				DifferentiableReliabilityFunction.class);
+		if (differentiable != null) {
+			return differentiable.getFailureRate(x);
+		}
 		double density = densityFunction.getY(x);
 		double reliability = reliabilityFunction.getY(x);
 		double y = density / reliability;
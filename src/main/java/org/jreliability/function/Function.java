@@ -43,4 +43,21 @@ public interface Function {
 	 */
 	public List<Double> getY(List<Double> xs);
 
+	/**
+	 * Writes the {@code y} values for the given {@code x} values to the given
+	 * array without boxing. By default, each {@code y} value is calculated by
+	 * {@link #getY(double)}.
+	 * 
+	 * @param xs
+	 *            the x values
+	 * @param ys
+	 *            the array to write the y values to, at least as long as the
+	 *            x values
+	 */
+	public default void getY(double[] xs, double[] ys) {
+		for (int i = 0; i < xs.length; i++) {
+			ys[i] = getY(xs[i]);
+		}
+	}
+
 }
@@ -18,48 +18,112 @@ package org.jreliability.function;
 /**
  * The {@link InverseFunction} determines the inverse reliability {@code
  * R^-1(x)}. It calculates a {@code y} in {@code x = R(y)} for a given {@code x}
- * and the {@link ReliabilityFunction} {@code R(x)} via a bisection approach.
+ * and the {@link ReliabilityFunction} {@code R(x)}. If the
+ * {@link ReliabilityFunction} is an {@link InvertibleReliabilityFunction} or
+ * has an equivalent {@link AnalyticReliabilityFunction}, its inverse is used
+ * directly, see
+ * {@link AnalyticReliabilityFunction#of(ReliabilityFunction, Class)}.
+ * <p>
+ * Otherwise, the root of {@code R(y) - x} is bracketed by doubling or halving
+ * from a warm start, i.e., the result of the previous call, and refined by a
+ * Newton iteration if the {@link ReliabilityFunction} is a
+ * {@link DifferentiableReliabilityFunction} or by a secant iteration
+ * otherwise. Steps that leave the bracket or do not reduce it fast enough are
+ * replaced by a bisection step. The iteration stops once the relative change
+ * of {@code y} is below {@code epsilon}. The result of the previous call is
+ * only the start of the iteration, such that each call evaluates the current
+ * {@link ReliabilityFunction}.
  * 
  * @author glass
  * 
  */
 public class InverseFunction extends SequentialFunction {
 
+	/**
+	 * The default relative tolerance on the determined {@code y}.
+	 */
+	public static final double TOLERANCE = 1.0E-10;
+
+	/**
+	 * The maximal number of iterations, e.g., for noisy
+	 * {@link ReliabilityFunction}s.
+	 */
+	protected static final int ITERATIONS = 200;
+
 	/**
 	 * The {@link ReliabilityFunction} for which the inverse is to determine.
 	 */
 	protected final ReliabilityFunction reliabilityFunction;
 
 	/**
-	 * The allowed error {@code epsilon} for embedded bisection method.
+	 * The {@link ReliabilityFunction} as a
+	 * {@link DifferentiableReliabilityFunction} or {@code null} if the secant
+	 * iteration is used.
+	 */
+	protected final DifferentiableReliabilityFunction differentiableFunction;
+
+	/**
+	 * The relative tolerance {@code epsilon} on the determined {@code y}. A
+	 * tolerance of {@code 0} iterates until no further progress is possible.
 	 */
 	protected final double epsilon;
 
+	/**
+	 * The {@code y} determined by the last call as the warm start of the next
+	 * iteration. The field is volatile such that the {@link InverseFunction}
+	 * can be shared between threads.
+	 */
+	protected volatile double last = 1.0;
+
 	/**
 	 * Constructs an {@link InverseFunction} with a given
-	 * {@link ReliabilityFunction} and an error {@code epsilon} for the embedded
-	 * bisection method.
+	 * {@link ReliabilityFunction} and a relative tolerance {@code epsilon} on
+	 * the determined {@code y}.
+	 * <p>
+	 * Note that {@code epsilon} bounds the relative change of {@code y} in the
+	 * last step of the iteration. It is no longer the absolute error of
+	 * {@code R(y)} of the former bisection method, which had a default of
+	 * {@code 1.0E-7} and resolved {@code y} only coarsely where {@code R} is
+	 * flat.
 	 * 
 	 * @param reliabilityFunction
 	 *            the reliabilityFunction
 	 * 
 	 * @param epsilon
-	 *            the error of the bisection method
+	 *            the relative tolerance of the iteration on {@code y}
 	 */
 	public InverseFunction(ReliabilityFunction reliabilityFunction, double epsilon) {
 		this.reliabilityFunction = reliabilityFunction;
 		this.epsilon = epsilon;
+		if (reliabilityFunction instanceof DifferentiableReliabilityFunction) {
+			this.differentiableFunction = (DifferentiableReliabilityFunction) reliabilityFunction;
+		} else {
+			this.differentiableFunction = null;
+		}
 	}
 
 	/**
 	 * Constructs an {@link InverseFunction} with a given
-	 * {@link ReliabilityFunction} and an acceptable error of 1.0E-5.
+	 * {@link ReliabilityFunction} and the relative tolerance
+	 * {@link #TOLERANCE}.
 	 * 
 	 * @param reliabilityFunction
 	 *            the reliabilityFunction
 	 */
 	public InverseFunction(ReliabilityFunction reliabilityFunction) {
-		this(reliabilityFunction, 1.0E-7);
+		this(reliabilityFunction, TOLERANCE);
+	}
+
+	/**
+	 * Returns a copy of this {@link InverseFunction} with its own warm start.
+	 * Since the warm start affects the result within the tolerance, concurrent
+	 * threads that require results that are independent of the order of their
+	 * calls use their own copies.
+	 * 
+	 * @return the copy
+	 */
+	public InverseFunction copy() {
+		return new InverseFunction(reliabilityFunction, epsilon);
 	}
 
 	/*
@@ -69,35 +133,119 @@ public class InverseFunction extends SequentialFunction {
 	 */
 	@Override
 	public double getY(double x) {
-		double y;
-		double diff;
-		double low = 0;
-		double high = 2;
-
-		// Fast calculation of the bounds
-		while (reliabilityFunction.getY(high) > x) {
-			low = high;
-			high *= 2;
+		InvertibleReliabilityFunction invertible = AnalyticReliabilityFunction.of(reliabilityFunction,
+				InvertibleReliabilityFunction.class);
+		if (invertible != null) {
+			return invertible.getX(x);
 		}
+		return solve(x);
+	}
 
-		// Bisection
-		double lastX = 0;
-		do {
-			y = high - ((high - low) / 2);
-			double tmpX = reliabilityFunction.getY(y);
-			if (tmpX < x) {
-				high = y;
-			} else {
-				low = y;
+	/**
+	 * Calculates the {@code y} in {@code x = R(y)} starting from the result of
+	 * the previous call.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the y for x = R(y)
+	 */
+	protected double solve(double x) {
+		double start = last;
+		if (!(start > 0 && start < Double.POSITIVE_INFINITY)) {
+			start = 1.0;
+		}
+		double y = solve(x, start);
+		last = y;
+		return y;
+	}
+
+	/**
+	 * Calculates the {@code y} in {@code x = R(y)} starting from a given
+	 * {@code y}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @param start
+	 *            the positive start value of y
+	 * @return the y for x = R(y)
+	 */
+	protected double solve(double x, double start) {
+		// Bracket the root of g(y) = R(y) - x with g(low) > 0 >= g(high)
+		double low;
+		double high;
+		double gLow;
+		double gHigh;
+		double g = reliabilityFunction.getY(start) - x;
+		if (g == 0) {
+			return start;
+		} else if (g > 0) {
+			low = start;
+			gLow = g;
+			high = 2 * start;
+			gHigh = reliabilityFunction.getY(high) - x;
+			while (gHigh > 0) {
+				if (high > Double.MAX_VALUE / 2) {
+					return high;
+				}
+				low = high;
+				gLow = gHigh;
+				high *= 2;
+				gHigh = reliabilityFunction.getY(high) - x;
 			}
-			if (lastX == tmpX) { // no progress by bisection possible
-				diff = 0;
+		} else {
+			high = start;
+			gHigh = g;
+			low = start / 2;
+			gLow = reliabilityFunction.getY(low) - x;
+			while (gLow <= 0) {
+				if (low < Double.MIN_NORMAL) {
+					return 0;
+				}
+				high = low;
+				gHigh = gLow;
+				low /= 2;
+				gLow = reliabilityFunction.getY(low) - x;
+			}
+		}
+
+		// Newton or secant iteration safeguarded by bisection
+		double y = low + (high - low) * gLow / (gLow - gHigh);
+		double step = high - low;
+		double lastY = low;
+		double lastG = gLow;
+		for (int i = 0; i < ITERATIONS; i++) {
+			g = reliabilityFunction.getY(y) - x;
+			if (g == 0) {
+				return y;
+			} else if (g > 0) {
+				low = y;
 			} else {
-				diff = Math.abs(x - tmpX);
+				high = y;
 			}
-			lastX = tmpX;
-		} while (diff > epsilon);
 
+			double slope;
+			if (differentiableFunction != null) {
+				slope = -differentiableFunction.getDensity(y);
+			} else {
+				slope = (g - lastG) / (y - lastY);
+			}
+			double next = y - g / slope;
+			double lastStep = step;
+			step = Math.abs(next - y);
+			if (!(next > low && next < high) || 2 * step > lastStep) {
+				next = low + (high - low) / 2;
+				step = high - low;
+				if (next <= low || next >= high) {
+					return y;
+				}
+			}
+			if (Math.abs(next - y) <= epsilon * next) {
+				return next;
+			}
+			lastY = y;
+			lastG = g;
+			y = next;
+		}
 		return y;
 	}
 
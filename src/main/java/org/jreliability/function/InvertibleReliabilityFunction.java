@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.function;
+
+/**
+ * The {@link InvertibleReliabilityFunction} is a {@link ReliabilityFunction}
+ * {@code R(x)} that provides its inverse {@code R^-1(y)} directly, e.g., in
+ * closed form. The {@link InverseFunction} and thus the
+ * {@link org.jreliability.evaluator.InverseEvaluator} and the simulation use
+ * this inverse instead of a numerical root finding.
+ * <p>
+ * Since {@code R(X)} is uniformly distributed for a random time-to-failure
+ * {@code X}, the inverse also allows to sample a time-to-failure
+ * {@code R^-1(u)} from a uniformly distributed random number {@code u}.
+ * 
+ * @author glass
+ * 
+ */
+public interface InvertibleReliabilityFunction extends ReliabilityFunction {
+
+	/**
+	 * Returns the {@code x} value for {@code y = R(x)}.
+	 * 
+	 * @param y
+	 *            the y value between 0 and 1
+	 * @return the x for y = R(x)
+	 */
+	public double getX(double y);
+
+}
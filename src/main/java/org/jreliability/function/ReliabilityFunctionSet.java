@@ -73,6 +73,16 @@ public abstract class ReliabilityFunctionSet implements ReliabilityFunction {
 		functions.add(function);
 	}
 
+	/**
+	 * Returns an {@link AnalyticReliabilityFunction} that is equivalent to this
+	 * set or {@code null} if there is none, which is the default.
+	 * 
+	 * @return the equivalent analytic reliability function or {@code null}
+	 */
+	public AnalyticReliabilityFunction getAnalyticFunction() {
+		return null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -80,9 +90,15 @@ public abstract class ReliabilityFunctionSet implements ReliabilityFunction {
 	 */
 	@Override
 	public List<Double> getY(List<Double> xs) {
-		List<Double> ys = new ArrayList<Double>();
-		for (Double x : xs) {
-			ys.add(getY(x));
+		double[] x = new double[xs.size()];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = xs.get(i);
+		}
+		double[] y = new double[x.length];
+		getY(x, y);
+		List<Double> ys = new ArrayList<Double>(y.length);
+		for (double value : y) {
+			ys.add(value);
 		}
 		return ys;
 	}
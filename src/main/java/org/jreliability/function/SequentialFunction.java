@@ -20,7 +20,9 @@ import java.util.List;
 /**
  * The {@link SequentialFunction} is an abstract implementation for all
  * {@link Function}s that will calculate {@code y} values sequentially in case a
- * list of {@code x} values is given.
+ * list of {@code x} values is given. The list is evaluated by
+ * {@link #getY(double[], double[])} such that subclasses only override the
+ * evaluation of arrays.
  * 
  * @author glass
  *
@@ -34,9 +36,15 @@ public abstract class SequentialFunction implements Function {
 	 */
 	@Override
 	public List<Double> getY(List<Double> xs) {
-		List<Double> ys = new ArrayList<Double>();
-		for (Double x : xs) {
-			ys.add(getY(x));
+		double[] x = new double[xs.size()];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = xs.get(i);
+		}
+		double[] y = new double[x.length];
+		getY(x, y);
+		List<Double> ys = new ArrayList<Double>(y.length);
+		for (double value : y) {
+			ys.add(value);
 		}
 		return ys;
 	}
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.jreliability.function.common;
 
+import org.jreliability.function.DifferentiableReliabilityFunction;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.SequentialFunction;
 
@@ -25,7 +26,7 @@ import org.jreliability.function.SequentialFunction;
  * @author glass
  *
  */
-public class ConstantReliabilityFunction extends SequentialFunction implements ReliabilityFunction {
+public class ConstantReliabilityFunction extends SequentialFunction implements DifferentiableReliabilityFunction {
 
 	protected final double successProbability;
 
@@ -41,4 +42,16 @@ public class ConstantReliabilityFunction extends SequentialFunction implements R
 		return successProbability;
 	}
 
+	/**
+	 * Returns the density {@code f(x) = 0}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the density at x
+	 */
+	@Override
+	public double getDensity(double x) {
+		return 0;
+	}
+
 }
@@ -41,4 +41,17 @@ public class ExponentialFailureFunction extends ExponentialReliabilityFunction {
 		return y;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.common.ExponentialReliabilityFunction#getY(
+	 * double[], double[])
+	 */
+	@Override
+	public void getY(double[] xs, double[] ys) {
+		for (int i = 0; i < xs.length; i++) {
+			ys[i] = 1.0 - Math.exp(-(alpha * xs[i]));
+		}
+	}
+
 }
@@ -15,6 +15,7 @@
 
 package org.jreliability.function.common;
 
+import org.jreliability.function.AnalyticReliabilityFunction;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.SequentialFunction;
 
@@ -30,7 +31,7 @@ import org.jreliability.function.SequentialFunction;
  * @author glass
  * 
  */
-public class ExponentialReliabilityFunction extends SequentialFunction implements ReliabilityFunction {
+public class ExponentialReliabilityFunction extends SequentialFunction implements AnalyticReliabilityFunction {
 
 	/**
 	 * The parameter {@code alpha} corresponds to the failure-rate
@@ -63,6 +64,68 @@ public class ExponentialReliabilityFunction extends SequentialFunction implement
 		return y;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.Function#getY(double[], double[])
+	 */
+	@Override
+	public void getY(double[] xs, double[] ys) {
+		for (int i = 0; i < xs.length; i++) {
+			ys[i] = Math.exp(-(alpha * xs[i]));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.InvertibleReliabilityFunction#getX(double)
+	 */
+	@Override
+	public double getX(double y) {
+		return -Math.log(y) / alpha;
+	}
+
+	/**
+	 * Returns the {@code n}-th moment {@code E(X^n) = n! / alpha^n}.
+	 * 
+	 * @param n
+	 *            the moment
+	 * @return the n-th moment
+	 */
+	@Override
+	public double getMoment(int n) {
+		double moment = 1.0;
+		for (int i = 1; i <= n; i++) {
+			moment *= i / alpha;
+		}
+		return moment;
+	}
+
+	/**
+	 * Returns the density {@code f(x) = alpha * e^-(alpha * x)}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the density at x
+	 */
+	@Override
+	public double getDensity(double x) {
+		return alpha * Math.exp(-(alpha * x));
+	}
+
+	/**
+	 * Returns the constant failure rate {@code lambda(x) = alpha}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the failure rate at x
+	 */
+	@Override
+	public double getFailureRate(double x) {
+		return alpha;
+	}
+
 	/**
 	 * The {@code alpha} parameter.
 	 * 
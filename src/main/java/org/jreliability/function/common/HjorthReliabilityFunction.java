@@ -15,6 +15,8 @@
 
 package org.jreliability.function.common;
 
+import org.jreliability.function.DifferentiableReliabilityFunction;
+import org.jreliability.function.InvertibleReliabilityFunction;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.SequentialFunction;
 
@@ -33,7 +35,8 @@ import org.jreliability.function.SequentialFunction;
  * @author glass
  * 
  */
-public class HjorthReliabilityFunction extends SequentialFunction implements ReliabilityFunction {
+public class HjorthReliabilityFunction extends SequentialFunction
+		implements InvertibleReliabilityFunction, DifferentiableReliabilityFunction {
 
 	/**
 	 * The {@code beta} parameter scales the {@link HjorthReliabilityFunction}.
@@ -85,4 +88,97 @@ public class HjorthReliabilityFunction extends SequentialFunction implements Rel
 		double y = numerator / denominator;
 		return y;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.Function#getY(double[], double[])
+	 */
+	@Override
+	public void getY(double[] xs, double[] ys) {
+		double exponent = theta / beta;
+		for (int i = 0; i < xs.length; i++) {
+			double x = xs[i];
+			ys[i] = Math.exp(-(delta * x * x) / 2) / Math.pow(1 + (beta * x), exponent);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.InvertibleReliabilityFunction#getX(double)
+	 */
+	@Override
+	public double getX(double y) {
+		double hazard = -Math.log(y);
+		if (hazard <= 0) {
+			return 0;
+		} else if (Double.isInfinite(hazard)) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		// Bracket the root of the cumulative hazard
+		double low = 0;
+		double high = 1;
+		while (getHazard(high) < hazard) {
+			low = high;
+			high *= 2;
+		}
+
+		// Newton's method safeguarded by bisection
+		double x = (low + high) / 2;
+		for (int i = 0; i < 100; i++) {
+			double diff = getHazard(x) - hazard;
+			if (diff > 0) {
+				high = x;
+			} else {
+				low = x;
+			}
+			double next = x - diff / (delta * x + theta / (1 + beta * x));
+			if (!(next > low && next < high)) {
+				next = (low + high) / 2;
+			}
+			if (Math.abs(next - x) <= 1.0E-12 * next) {
+				return next;
+			}
+			x = next;
+		}
+		return x;
+	}
+
+	/**
+	 * Returns the cumulative hazard {@code -ln(R(x))}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the cumulative hazard
+	 */
+	protected double getHazard(double x) {
+		return delta * x * x / 2 + theta / beta * Math.log1p(beta * x);
+	}
+
+	/**
+	 * Returns the density {@code f(x) = R(x) * lambda(x)}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the density at x
+	 */
+	@Override
+	public double getDensity(double x) {
+		return getY(x) * getFailureRate(x);
+	}
+
+	/**
+	 * Returns the failure rate
+	 * {@code lambda(x) = delta * x + theta / (1 + beta * x)}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the failure rate at x
+	 */
+	@Override
+	public double getFailureRate(double x) {
+		return delta * x + theta / (1 + beta * x);
+	}
 }
@@ -15,6 +15,8 @@
 
 package org.jreliability.function.common;
 
+import org.jreliability.common.StandardNormal;
+import org.jreliability.function.AnalyticReliabilityFunction;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.SequentialFunction;
 
@@ -32,7 +34,7 @@ import org.jreliability.function.SequentialFunction;
  * @author glass, khosravi
  * 
  */
-public class LognormalReliabilityFunction extends SequentialFunction implements ReliabilityFunction {
+public class LognormalReliabilityFunction extends SequentialFunction implements AnalyticReliabilityFunction {
 
 	/**
 	 * The used mean of the natural logarithms of the times-to-failure.
@@ -82,6 +84,59 @@ public class LognormalReliabilityFunction extends SequentialFunction implements
 		return y;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.Function#getY(double[], double[])
+	 */
+	@Override
+	public void getY(double[] xs, double[] ys) {
+		double denominator = rho * Math.sqrt(2);
+		for (int i = 0; i < xs.length; i++) {
+			ys[i] = 0.5 - 0.5 * erf((Math.log(xs[i]) - mu) / denominator);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.InvertibleReliabilityFunction#getX(double)
+	 */
+	@Override
+	public double getX(double y) {
+		return Math.exp(mu + rho * StandardNormal.quantile(1 - y));
+	}
+
+	/**
+	 * Returns the {@code n}-th moment
+	 * {@code E(X^n) = e^(n * mu + n^2 * rho^2 / 2)}.
+	 * 
+	 * @param n
+	 *            the moment
+	 * @return the n-th moment
+	 */
+	@Override
+	public double getMoment(int n) {
+		return Math.exp(n * mu + n * n * rho * rho / 2);
+	}
+
+	/**
+	 * Returns the density
+	 * {@code f(x) = e^-((ln(x) - mu)^2 / (2 * rho^2)) / (x * rho * sqrt(2 * pi))}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the density at x
+	 */
+	@Override
+	public double getDensity(double x) {
+		if (x <= 0) {
+			return 0.0;
+		}
+		double z = (Math.log(x) - mu) / rho;
+		return Math.exp(-z * z / 2) / (x * rho * Math.sqrt(2 * Math.PI));
+	}
+
 	/**
 	 * Estimated Error Function (from the Formula 7.1.26 in "Handbook of
 	 * Mathematical Functions" by M. Abramowitz and I. A. Stegun.)
@@ -15,6 +15,7 @@
 
 package org.jreliability.function.common;
 
+import org.jreliability.function.DifferentiableReliabilityFunction;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.SequentialFunction;
 
@@ -37,7 +38,7 @@ import org.jreliability.function.SequentialFunction;
  * @author glass
  * 
  */
-public class NMWDReliabilityFunction extends SequentialFunction implements ReliabilityFunction {
+public class NMWDReliabilityFunction extends SequentialFunction implements DifferentiableReliabilityFunction {
 
 	/**
 	 * The {@code lambda} parameter somehow resembles the failure-rate
@@ -87,4 +88,42 @@ public class NMWDReliabilityFunction extends SequentialFunction implements Relia
 		double y = Math.exp(exponent);
 		return y;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.Function#getY(double[], double[])
+	 */
+	@Override
+	public void getY(double[] xs, double[] ys) {
+		for (int i = 0; i < xs.length; i++) {
+			double x = xs[i];
+			ys[i] = Math.exp(-a * Math.pow(x, b) * Math.exp(lambda * x));
+		}
+	}
+
+	/**
+	 * Returns the density {@code f(x) = R(x) * lambda(x)}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the density at x
+	 */
+	@Override
+	public double getDensity(double x) {
+		return getY(x) * getFailureRate(x);
+	}
+
+	/**
+	 * Returns the failure rate
+	 * {@code lambda(x) = a * x^(b - 1) * (b + lambda * x) * e^(lambda * x)}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the failure rate at x
+	 */
+	@Override
+	public double getFailureRate(double x) {
+		return a * Math.pow(x, b - 1) * (b + lambda * x) * Math.exp(lambda * x);
+	}
 }
@@ -15,6 +15,8 @@
 
 package org.jreliability.function.common;
 
+import org.jreliability.function.DifferentiableReliabilityFunction;
+import org.jreliability.function.InvertibleReliabilityFunction;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.SequentialFunction;
 
@@ -31,7 +33,8 @@ import org.jreliability.function.SequentialFunction;
  * @author khosravi
  * 
  */
-public class NormalReliabilityFunction extends SequentialFunction implements ReliabilityFunction {
+public class NormalReliabilityFunction extends SequentialFunction
+		implements InvertibleReliabilityFunction, DifferentiableReliabilityFunction {
 
 	/**
 	 * The used mean of the natural logarithms of the times-to-failure.
@@ -85,4 +88,28 @@ public class NormalReliabilityFunction extends SequentialFunction implements Rel
 			return this.lognormalReliabilityFunction.getY(Math.exp(x));
 		}
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.InvertibleReliabilityFunction#getX(double)
+	 */
+	@Override
+	public double getX(double y) {
+		return Math.log(lognormalReliabilityFunction.getX(y));
+	}
+
+	/**
+	 * Returns the density
+	 * {@code f(x) = e^-((x - mu)^2 / (2 * rho^2)) / (rho * sqrt(2 * pi))}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the density at x
+	 */
+	@Override
+	public double getDensity(double x) {
+		double z = (x - mu) / rho;
+		return Math.exp(-z * z / 2) / (rho * Math.sqrt(2 * Math.PI));
+	}
 }
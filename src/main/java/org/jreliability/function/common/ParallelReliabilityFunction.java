@@ -15,6 +15,7 @@
 
 package org.jreliability.function.common;
 
+import java.util.Arrays;
 import java.util.Set;
 
 import org.jreliability.function.ReliabilityFunction;
@@ -71,4 +72,27 @@ public class ParallelReliabilityFunction extends ReliabilityFunctionSet {
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.Function#getY(double[], double[])
+	 */
+	@Override
+	public void getY(double[] xs, double[] ys) {
+		if (functions.size() == 0) {
+			throw new IllegalStateException("Trying to evaluate empty ParallelReliabilityFunction.");
+		}
+		Arrays.fill(ys, 0, xs.length, 1.0);
+		double[] buffer = new double[xs.length];
+		for (ReliabilityFunction function : functions) {
+			function.getY(xs, buffer);
+			for (int i = 0; i < xs.length; i++) {
+				ys[i] *= (1.0 - buffer[i]);
+			}
+		}
+		for (int i = 0; i < xs.length; i++) {
+			ys[i] = 1.0 - ys[i];
+		}
+	}
+
 }
@@ -15,8 +15,10 @@
 
 package org.jreliability.function.common;
 
+import java.util.Arrays;
 import java.util.Set;
 
+import org.jreliability.function.AnalyticReliabilityFunction;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.ReliabilityFunctionSet;
 
@@ -26,6 +28,10 @@ import org.jreliability.function.ReliabilityFunctionSet;
  * {@link SerialReliabilityFunction} holds a set of {@link ReliabilityFunction}s
  * and multiplies their {@code y}-values to derive the {@code y}-value of the
  * whole serial-structure.
+ * <p>
+ * A serial-structure of {@link ExponentialReliabilityFunction}s and
+ * {@link WeibullReliabilityFunction}s with the same shape is itself an
+ * exponential or Weibull function, see {@link #getAnalyticFunction()}.
  * 
  * @author glass
  * 
@@ -69,4 +75,66 @@ public class SerialReliabilityFunction extends ReliabilityFunctionSet {
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.Function#getY(double[], double[])
+	 */
+	@Override
+	public void getY(double[] xs, double[] ys) {
+		if (functions.size() == 0) {
+			throw new IllegalStateException("Trying to evaluate empty SerialReliabilityFunction.");
+		}
+		Arrays.fill(ys, 0, xs.length, 1.0);
+		double[] buffer = new double[xs.length];
+		for (ReliabilityFunction function : functions) {
+			function.getY(xs, buffer);
+			for (int i = 0; i < xs.length; i++) {
+				ys[i] *= buffer[i];
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link ExponentialReliabilityFunction} with the sum of the
+	 * failure-rates if all functions are exponential, or the
+	 * {@link WeibullReliabilityFunction} with
+	 * {@code alpha = (sum alpha_i^beta)^(1 / beta)} if all functions are
+	 * exponential or Weibull with the same shape {@code beta}. Otherwise,
+	 * {@code null} is returned.
+	 * 
+	 * @return the equivalent analytic reliability function or {@code null}
+	 * @see org.jreliability.function.ReliabilityFunctionSet#getAnalyticFunction()
+	 */
+	@Override
+	public AnalyticReliabilityFunction getAnalyticFunction() {
+		if (functions.isEmpty()) {
+			return null;
+		}
+		double beta = Double.NaN;
+		double sum = 0.0;
+		for (ReliabilityFunction function : functions) {
+			final double alpha;
+			final double shape;
+			if (function instanceof ExponentialReliabilityFunction) {
+				alpha = ((ExponentialReliabilityFunction) function).getAlpha();
+				shape = 1.0;
+			} else if (function instanceof WeibullReliabilityFunction) {
+				alpha = ((WeibullReliabilityFunction) function).getAlpha();
+				shape = ((WeibullReliabilityFunction) function).getBeta();
+			} else {
+				return null;
+			}
+			if (!Double.isNaN(beta) && beta != shape) {
+				return null;
+			}
+			beta = shape;
+			sum += Math.pow(alpha, shape);
+		}
+		if (beta == 1.0) {
+			return new ExponentialReliabilityFunction(sum);
+		}
+		return new WeibullReliabilityFunction(Math.pow(sum, 1 / beta), beta);
+	}
+
 }
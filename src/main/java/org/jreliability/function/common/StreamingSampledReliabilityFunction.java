@@ -0,0 +1,338 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.function.common;
+
+import org.jreliability.function.ReliabilityFunction;
+import org.jreliability.function.SequentialFunction;
+
+/**
+ * The {@link StreamingSampledReliabilityFunction} approximates a
+ * {@link ReliabilityFunction} from a stream of samples without storing them.
+ * The samples are counted in logarithmic bins such that each bin covers the
+ * interval {@code (gamma^(i-1), gamma^i]} with
+ * {@code gamma = (1 + a) / (1 - a)} for the relative accuracy {@code a}. The
+ * memory is bounded by the maximum number of bins and does not grow with the
+ * number of samples. If the samples span more bins, the lowest bins are
+ * collapsed into one.
+ * <p>
+ * Functions with the same relative accuracy can be merged, e.g., to combine
+ * the partial results of parallel workers. A single function is not
+ * thread-safe.
+ * 
+ * @author glass
+ *
+ */
+public class StreamingSampledReliabilityFunction extends SequentialFunction implements ReliabilityFunction {
+
+	/**
+	 * The default relative accuracy.
+	 */
+	public static final double ACCURACY = 0.01;
+
+	/**
+	 * The default maximum number of bins.
+	 */
+	public static final int BINS = 2048;
+
+	/**
+	 * The initial number of bins.
+	 */
+	protected static final int INITIAL_BINS = 64;
+
+	/**
+	 * The relative accuracy.
+	 */
+	protected final double accuracy;
+
+	/**
+	 * The logarithm of the ratio of the upper to the lower bound of each bin.
+	 */
+	protected final double logGamma;
+
+	/**
+	 * The maximum number of bins.
+	 */
+	protected final int maxBins;
+
+	/**
+	 * The counts of the bins, starting with the bin {@code offset}.
+	 */
+	protected long[] counts = new long[0];
+
+	/**
+	 * The index of the first bin in {@code counts}.
+	 */
+	protected int offset = 0;
+
+	/**
+	 * The index of the lowest non-empty bin.
+	 */
+	protected int minIndex = Integer.MAX_VALUE;
+
+	/**
+	 * The index of the highest non-empty bin.
+	 */
+	protected int maxIndex = Integer.MIN_VALUE;
+
+	/**
+	 * The number of samples that are zero.
+	 */
+	protected long zeros = 0;
+
+	/**
+	 * The number of samples.
+	 */
+	protected long n = 0;
+
+	/**
+	 * The smallest sample.
+	 */
+	protected double min = Double.POSITIVE_INFINITY;
+
+	/**
+	 * The largest sample.
+	 */
+	protected double max = Double.NEGATIVE_INFINITY;
+
+	/**
+	 * The number of samples below each bin, derived from {@code counts} on
+	 * demand. The array is assigned only once it is complete such that
+	 * concurrent calls of {@link #getY(double)} never see partial sums.
+	 */
+	protected volatile long[] cumulative = null;
+
+	/**
+	 * Constructs a {@link StreamingSampledReliabilityFunction} with the default
+	 * relative accuracy and maximum number of bins.
+	 */
+	public StreamingSampledReliabilityFunction() {
+		this(ACCURACY, BINS);
+	}
+
+	/**
+	 * Constructs a {@link StreamingSampledReliabilityFunction} with a given
+	 * relative accuracy and maximum number of bins.
+	 * 
+	 * @param accuracy
+	 *            the relative accuracy in {@code (0,1)}
+	 * @param maxBins
+	 *            the maximum number of bins
+	 */
+	public StreamingSampledReliabilityFunction(double accuracy, int maxBins) {
+		if (!(accuracy > 0 && accuracy < 1)) {
+			throw new IllegalArgumentException("The relative accuracy must be in (0,1).");
+		} else if (maxBins < 1) {
+			throw new IllegalArgumentException("At least one bin is required.");
+		}
+		this.accuracy = accuracy;
+		this.logGamma = Math.log((1 + accuracy) / (1 - accuracy));
+		this.maxBins = maxBins;
+	}
+
+	/**
+	 * Adds a sample.
+	 * 
+	 * @param x
+	 *            the sample
+	 */
+	public void add(double x) {
+		if (!(x >= 0) || Double.isInfinite(x)) {
+			throw new IllegalArgumentException("Samples must be finite and non-negative but is " + x + ".");
+		}
+		if (x == 0) {
+			zeros++;
+		} else {
+			add(getIndex(x), 1);
+		}
+		n++;
+		min = Math.min(min, x);
+		max = Math.max(max, x);
+	}
+
+	/**
+	 * Adds all given samples.
+	 * 
+	 * @param samples
+	 *            the samples
+	 */
+	public void addAll(double[] samples) {
+		for (double x : samples) {
+			add(x);
+		}
+	}
+
+	/**
+	 * Merges the samples of another {@link StreamingSampledReliabilityFunction}
+	 * with the same relative accuracy into this function.
+	 * 
+	 * @param other
+	 *            the function to merge
+	 */
+	public void merge(StreamingSampledReliabilityFunction other) {
+		if (other.logGamma != logGamma) {
+			throw new IllegalArgumentException("Only functions with the same relative accuracy can be merged.");
+		}
+		for (int i = other.minIndex; i <= other.maxIndex; i++) {
+			long count = other.counts[i - other.offset];
+			if (count > 0) {
+				add(i, count);
+			}
+		}
+		zeros += other.zeros;
+		n += other.n;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+	/**
+	 * Returns the number of samples.
+	 * 
+	 * @return the number of samples
+	 */
+	public long getCount() {
+		return n;
+	}
+
+	/**
+	 * Returns the relative accuracy.
+	 * 
+	 * @return the relative accuracy
+	 */
+	public double getAccuracy() {
+		return accuracy;
+	}
+
+	/**
+	 * Returns the number of non-empty and empty bins between the lowest and
+	 * highest non-empty bin.
+	 * 
+	 * @return the number of bins
+	 */
+	public int getBins() {
+		return minIndex > maxIndex ? 0 : maxIndex - minIndex + 1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.Function#getY(double)
+	 */
+	@Override
+	public double getY(double x) {
+		if (n == 0) {
+			throw new IllegalStateException("The reliability function is not defined without samples.");
+		} else if (x < 0) {
+			return 1.0;
+		} else if (x >= max) {
+			return 0.0;
+		}
+		double failed = zeros;
+		if (x > 0 && minIndex <= maxIndex) {
+			long[] cumulative = this.cumulative;
+			if (cumulative == null) {
+				// Publish the prefix sums only once they are complete
+				cumulative = new long[counts.length + 1];
+				for (int i = 0; i < counts.length; i++) {
+					cumulative[i + 1] = cumulative[i] + counts[i];
+				}
+				this.cumulative = cumulative;
+			}
+			int index = Math.min(Math.max(getIndex(x), minIndex - 1), maxIndex + 1);
+			if (index >= minIndex) {
+				int i = Math.min(index, maxIndex) - offset;
+				failed += cumulative[i];
+				if (index <= maxIndex) {
+					// Interpolate linearly within the bin
+					double lower = Math.max(Math.exp((index - 1) * logGamma), min);
+					double upper = Math.min(Math.exp(index * logGamma), max);
+					double fraction = upper > lower ? (x - lower) / (upper - lower) : 1.0;
+					failed += Math.min(Math.max(fraction, 0.0), 1.0) * counts[i];
+				} else {
+					failed += counts[i];
+				}
+			}
+		}
+		return 1.0 - failed / n;
+	}
+
+	/**
+	 * Returns the index of the bin of a positive sample.
+	 * 
+	 * @param x
+	 *            the sample
+	 * @return the index of the bin
+	 */
+	protected int getIndex(double x) {
+		return (int) Math.ceil(Math.log(x) / logGamma);
+	}
+
+	/**
+	 * Adds a count to a bin. If the bins would exceed the maximum number of
+	 * bins, the lowest bins are collapsed.
+	 * 
+	 * @param index
+	 *            the index of the bin
+	 * @param count
+	 *            the count
+	 */
+	protected void add(int index, long count) {
+		cumulative = null;
+		if (index < offset || index >= offset + counts.length) {
+			int lower = Math.min(minIndex, index);
+			int upper = Math.max(maxIndex, index);
+			if ((long) upper - lower + 1 > maxBins) {
+				lower = upper - maxBins + 1;
+			}
+			int size = (int) Math.min(maxBins, Math.max((long) upper - lower + 1, 2L * counts.length));
+			size = Math.max(size, Math.min(maxBins, INITIAL_BINS));
+			final int start;
+			if (minIndex > maxIndex) {
+				start = index - size / 2;
+			} else if (index < minIndex) {
+				start = upper - size + 1;
+			} else {
+				start = lower;
+			}
+			resize(start, size);
+		}
+		index = Math.max(index, offset);
+		counts[index - offset] += count;
+		minIndex = Math.min(minIndex, index);
+		maxIndex = Math.max(maxIndex, index);
+	}
+
+	/**
+	 * Moves the bins to a new array starting with the bin {@code start}. Bins
+	 * below {@code start} are collapsed into it.
+	 * 
+	 * @param start
+	 *            the index of the first bin
+	 * @param size
+	 *            the number of bins
+	 */
+	protected void resize(int start, int size) {
+		long[] bins = new long[size];
+		for (int i = minIndex; i <= maxIndex; i++) {
+			bins[Math.max(i, start) - start] += counts[i - offset];
+		}
+		counts = bins;
+		offset = start;
+		if (minIndex <= maxIndex) {
+			minIndex = Math.max(minIndex, start);
+		}
+	}
+
+}
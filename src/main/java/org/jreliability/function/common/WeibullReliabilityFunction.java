@@ -15,6 +15,7 @@
 
 package org.jreliability.function.common;
 
+import org.jreliability.function.AnalyticReliabilityFunction;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.SequentialFunction;
 
@@ -33,7 +34,7 @@ import org.jreliability.function.SequentialFunction;
  * @author glass
  * 
  */
-public class WeibullReliabilityFunction extends SequentialFunction implements ReliabilityFunction {
+public class WeibullReliabilityFunction extends SequentialFunction implements AnalyticReliabilityFunction {
 
 	/**
 	 * The {@code alpha} parameter somehow resembles the failure-rate
@@ -73,4 +74,124 @@ public class WeibullReliabilityFunction extends SequentialFunction implements Re
 		double y = Math.exp(-(Math.pow((alpha * x), beta)));
 		return y;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.Function#getY(double[], double[])
+	 */
+	@Override
+	public void getY(double[] xs, double[] ys) {
+		if (beta == 1.0) {
+			for (int i = 0; i < xs.length; i++) {
+				ys[i] = Math.exp(-(alpha * xs[i]));
+			}
+		} else if (beta == 2.0) {
+			for (int i = 0; i < xs.length; i++) {
+				double ax = alpha * xs[i];
+				ys[i] = Math.exp(-(ax * ax));
+			}
+		} else {
+			for (int i = 0; i < xs.length; i++) {
+				ys[i] = Math.exp(-(Math.pow((alpha * xs[i]), beta)));
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.InvertibleReliabilityFunction#getX(double)
+	 */
+	@Override
+	public double getX(double y) {
+		return Math.pow(-Math.log(y), 1 / beta) / alpha;
+	}
+
+	/**
+	 * Returns the {@code n}-th moment
+	 * {@code E(X^n) = Gamma(1 + n / beta) / alpha^n}.
+	 * 
+	 * @param n
+	 *            the moment
+	 * @return the n-th moment
+	 */
+	@Override
+	public double getMoment(int n) {
+		return gamma(1 + n / beta) / Math.pow(alpha, n);
+	}
+
+	/**
+	 * Returns the density
+	 * {@code f(x) = alpha * beta * (alpha * x)^(beta - 1) * e^-((alpha * x)^beta)}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the density at x
+	 */
+	@Override
+	public double getDensity(double x) {
+		double ax = alpha * x;
+		return alpha * beta * Math.pow(ax, beta - 1) * Math.exp(-(Math.pow(ax, beta)));
+	}
+
+	/**
+	 * Returns the failure rate
+	 * {@code lambda(x) = alpha * beta * (alpha * x)^(beta - 1)}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the failure rate at x
+	 */
+	@Override
+	public double getFailureRate(double x) {
+		return alpha * beta * Math.pow(alpha * x, beta - 1);
+	}
+
+	/**
+	 * The {@code alpha} parameter.
+	 * 
+	 * @return the alpha value
+	 */
+	public double getAlpha() {
+		return alpha;
+	}
+
+	/**
+	 * The {@code beta} parameter.
+	 * 
+	 * @return the beta value
+	 */
+	public double getBeta() {
+		return beta;
+	}
+
+	/**
+	 * Returns the gamma function {@code Gamma(x)} based on the Lanczos
+	 * approximation with a relative error of about {@code 1.0E-15}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the gamma function of x
+	 */
+	public static double gamma(double x) {
+		// constants
+		final double[] p = { 0.99999999999980993, 676.5203681218851, -1259.1392167224028, 771.32342877765313,
+				-176.61502916214059, 12.507343278686905, -0.13857109526572012, 9.9843695780195716e-6,
+				1.5056327351493116e-7 };
+
+		if (x < 0.5) {
+			// Reflection formula
+			return Math.PI / (Math.sin(Math.PI * x) * gamma(1 - x));
+		}
+		x -= 1;
+		double a = p[0];
+		double t = x + 7.5;
+		for (int i = 1; i < p.length; i++) {
+			a += p[i] / (x + i);
+		}
+		// Split the power to avoid an overflow before the exponential
+		double power = Math.pow(t, (x + 0.5) / 2);
+		return Math.sqrt(2 * Math.PI) * power * (power * Math.exp(-t)) * a;
+	}
 }
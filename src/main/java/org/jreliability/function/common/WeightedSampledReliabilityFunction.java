@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.function.common;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.jreliability.common.Estimate;
+import org.jreliability.common.StandardNormal;
+import org.jreliability.function.ReliabilityFunction;
+import org.jreliability.function.SequentialFunction;
+
+/**
+ * The {@link WeightedSampledReliabilityFunction} approximates a
+ * {@link ReliabilityFunction} from a set of weighted samples as they result
+ * from importance sampling: each sample is a time-to-failure together with its
+ * likelihood ratio. The unreliability at {@code x} is estimated by the sum of
+ * the weights of the samples that are at most {@code x} divided by the number
+ * of samples. In contrast to the {@link SampledReliabilityFunction}, the
+ * samples are not binned such that even unreliabilities far below the
+ * reciprocal number of samples are represented.
+ * 
+ * @author glass
+ * 
+ */
+public class WeightedSampledReliabilityFunction extends SequentialFunction implements ReliabilityFunction {
+
+	/**
+	 * The sorted samples.
+	 */
+	protected final double[] samples;
+
+	/**
+	 * The cumulative weights of the sorted samples.
+	 */
+	protected final double[] weights;
+
+	/**
+	 * The cumulative squared weights of the sorted samples.
+	 */
+	protected final double[] squares;
+
+	/**
+	 * Constructs a {@link WeightedSampledReliabilityFunction} with the given
+	 * samples and their weights.
+	 * 
+	 * @param samples
+	 *            the samples
+	 * @param weights
+	 *            the weights of the samples
+	 */
+	public WeightedSampledReliabilityFunction(double[] samples, double[] weights) {
+		if (samples.length != weights.length) {
+			throw new IllegalArgumentException("The number of samples and weights differ.");
+		}
+		int n = samples.length;
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparingDouble(i -> samples[i]));
+
+		this.samples = new double[n];
+		this.weights = new double[n];
+		this.squares = new double[n];
+		double weight = 0;
+		double square = 0;
+		for (int i = 0; i < n; i++) {
+			this.samples[i] = samples[order[i]];
+			double w = weights[order[i]];
+			weight += w;
+			square += w * w;
+			this.weights[i] = weight;
+			this.squares[i] = square;
+		}
+	}
+
+	/**
+	 * Returns the number of samples that are at most {@code x}.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @return the number of samples that are at most x
+	 */
+	protected int count(double x) {
+		int low = 0;
+		int high = samples.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (samples[mid] <= x) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.Function#getY(double)
+	 */
+	@Override
+	public double getY(double x) {
+		int k = count(x);
+		double unreliability = (k == 0) ? 0 : weights[k - 1] / samples.length;
+		return Math.max(0, Math.min(1, 1 - unreliability));
+	}
+
+	/**
+	 * Returns the estimate of the unreliability at {@code x} with its
+	 * confidence interval based on the central limit theorem.
+	 * 
+	 * @param x
+	 *            the x value
+	 * @param confidence
+	 *            the confidence level of the interval, e.g., {@code 0.95}
+	 * @return the estimate of the unreliability
+	 */
+	public Estimate estimateUnreliability(double x, double confidence) {
+		int n = samples.length;
+		int k = count(x);
+		double mean = (k == 0) ? 0 : weights[k - 1] / n;
+		double square = (k == 0) ? 0 : squares[k - 1] / n;
+		double variance = Math.max(0, square - mean * mean) * n / Math.max(1, n - 1);
+		double z = StandardNormal.quantile(1 - (1 - confidence) / 2);
+		double halfWidth = z * Math.sqrt(variance / n);
+		return new Estimate(mean, mean - halfWidth, mean + halfWidth, confidence, n);
+	}
+
+	/**
+	 * Returns the sorted samples.
+	 * 
+	 * @return the sorted samples
+	 */
+	public double[] getSamples() {
+		return samples;
+	}
+
+}
@@ -15,12 +15,12 @@
 
 package org.jreliability.importancemeasures;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.bdd.BDD;
-import org.jreliability.bdd.BDDTTRF;
 import org.jreliability.function.ReliabilityFunction;
 
 
@@ -38,8 +38,8 @@ import org.jreliability.function.ReliabilityFunction;
 public class ABGT<T> implements TimeDependentImportanceMeasure<T> {
 	protected final BDD<T> bdd;
 	protected final Transformer<T, ReliabilityFunction> transformer;
-	protected final BDDTTRF<T> bddTTRF;
 	protected final CriticalityCalculator<T> critCalc;
+	protected final ExecutorService executor;
 	
 	/**
 	 * Returns a {@link ABGT} calculator for a specific system with its {@link BDD}
@@ -53,11 +53,31 @@ public class ABGT<T> implements TimeDependentImportanceMeasure<T> {
 	 * 			variables present in the {@link BDD} 
 	 */
 	public ABGT(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer) {
+		this(bdd, transformer, null);
+	}
+	
+	/**
+	 * Returns a {@link ABGT} calculator for a specific system with its {@link BDD}
+	 * and {@link ReliabilityFunction} {@link Transformer} that evaluates the components 
+	 * in parallel with the given {@link ExecutorService}. 
+	 * 
+	 * @param bdd
+	 * 			The {@link BDD} representing the system structure function
+	 * 
+	 * @param transformer
+	 * 			The {@link Transformer} used to get the {@link ReliabilityFunction} of
+	 * 			variables present in the {@link BDD}, must be thread-safe if an executor is used 
+	 * 
+	 * @param executor
+	 * 			The {@link ExecutorService} used to evaluate the components or {@code null}
+	 * 			for a sequential evaluation
+	 */
+	public ABGT(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer, ExecutorService executor) {
 		this.bdd = bdd;
 		this.transformer = transformer;
-		bddTTRF = new BDDTTRF<>(bdd.getProvider());
+		this.executor = executor;
 		
-		critCalc = new CriticalityCalculator<>(bdd, transformer);
+		critCalc = new CriticalityCalculator<>(bdd, transformer, executor);
 	}
 	
 	/**
@@ -75,22 +95,19 @@ public class ABGT<T> implements TimeDependentImportanceMeasure<T> {
 	 * 			  at time t.
 	 */
 	public Map<T, Double> calculate(double time) {
-		Map<T, Double> results = new HashMap<>();		
+		Map<T, Double> results = new LinkedHashMap<>();		
 
 		if (time <= 0) {
 			throw new IllegalArgumentException("Importance measure not defined for time <= 0.");
 		}
 		
+		/* The criticalities are evaluated in parallel by the critCalc */
+		Map<T, CriticalityValues> criticalities = critCalc.getCriticalityValues(time);
 		for (T var: bdd.getVariables()) {				
-			CriticalityBDDs<T> critBdds = critCalc.getCriticalityBDDs(var);
-			
-			/* Equation 15 of [ABGT17] */
-			BDD<T> abgtBdd = critBdds.getFailureCriticalityBDD().or(critBdds.getRepairCriticalityBdd());
-			
-			/* Equation 23 of [ABGT17] */
-			double abgt_im = bddTTRF.convert(abgtBdd, transformer).getY(time);	
+			CriticalityValues values = criticalities.get(var);
 			
-			results.put(var, abgt_im);
+			/* Equations 15 & 23 of [ABGT17], the failure and repair criticality BDDs are disjoint */
+			results.put(var, values.getFailureCriticality() + values.getRepairCriticality());
 		}		
 		
 		return results;
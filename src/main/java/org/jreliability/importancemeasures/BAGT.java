@@ -15,13 +15,17 @@
 
 package org.jreliability.importancemeasures;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.bdd.BDD;
 import org.jreliability.bdd.BDDProvider;
 import org.jreliability.bdd.BDDTTRF;
+import org.jreliability.bdd.BDDTopEvent;
 import org.jreliability.evaluator.MomentEvaluator;
 import org.jreliability.function.ReliabilityFunction;
 
@@ -42,7 +46,9 @@ public class BAGT<T> implements ImportanceMeasure {
 	protected final Transformer<T, ReliabilityFunction> transformer;
 	protected final BDDProvider<T> provider;
 	protected final BDDTTRF<T> bddTTRF;
+	protected final ExecutorService executor;
 	protected final MomentEvaluator moment;
+	protected final BDDTopEvent<T> topEvent;
 	
 	protected final double mttf;
 	
@@ -65,11 +71,33 @@ public class BAGT<T> implements ImportanceMeasure {
 	 * 			variables present in the {@link BDD} 
 	 */
 	public BAGT(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer) {
+		this(bdd, transformer, null);
+	}
+	
+	/**
+	 * Returns a {@link BAGT} calculator for a specific system with its {@link BDD}
+	 * and {@link ReliabilityFunction} {@link Transformer} that evaluates the components 
+	 * in parallel with the given {@link ExecutorService}. 
+	 * 
+	 * @param bdd
+	 * 			The {@link BDD} representing the system structure function
+	 * 
+	 * @param transformer
+	 * 			The {@link Transformer} used to get the {@link ReliabilityFunction} of
+	 * 			variables present in the {@link BDD}, must be thread-safe if an executor is used 
+	 * 
+	 * @param executor
+	 * 			The {@link ExecutorService} used to evaluate the components or {@code null}
+	 * 			for a sequential evaluation
+	 */
+	public BAGT(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer, ExecutorService executor) {
 		this.bdd = bdd;
 		this.transformer = transformer;
+		this.executor = executor;
 		provider = bdd.getProvider();
 		bddTTRF = new BDDTTRF<>(provider);
 		moment = new MomentEvaluator(1);
+		topEvent = new BDDTopEvent<>(bdd);
 				
 		/* bddTTRF deallocates the bdd parameter -> copy is needed */
 		mttf = moment.evaluate(bddTTRF.convert(bdd.copy(), transformer));	
@@ -91,36 +119,39 @@ public class BAGT<T> implements ImportanceMeasure {
 	 * 
 	 */
 	public Map<T, Double> calculate(Variant variant) {
-		Map<T, Double> results = new HashMap<>();
-		BDD<T> restrictedBdd;
-		double bagt_im;
+		Map<T, Callable<Double>> tasks = new LinkedHashMap<>();
 	
-		for (T var: bdd.getVariables()) {			
+		/* The tasks only evaluate restrictions of the shared topEvent */
+		List<T> variables = topEvent.getVariables();
+		ReliabilityFunction[] functions = ImportanceMeasures.getFunctions(topEvent, transformer);
+		for (int i = 0; i < functions.length; i++) {
+			int index = i;
+			double value;
 			if (variant == Variant.MINUS || variant == Variant.MINUS_NORMALIZED) {
-				restrictedBdd = bdd.restrict(provider.get(var).not());	/* Fix var to 0 ie. Component never works */
+				value = 0.0;	/* Fix var to 0 ie. Component never works */
 			}
 			else {
-				restrictedBdd = bdd.restrict(provider.get(var));		/* Fix var to 1 ie. Component always works */
+				value = 1.0;	/* Fix var to 1 ie. Component always works */
 			}
-
-			ReliabilityFunction restrictedReliability = bddTTRF.convert(restrictedBdd, transformer);
 			
-			/* This will cause infinite run time for some cases (eg. BAGT+ of TCNC component 1 ) */
-			double restrictedMttf = moment.evaluate(restrictedReliability);
-						
-			if (variant == Variant.MINUS_NORMALIZED || variant == Variant.PLUS_NORMALIZED) {
-				/* Equation 19 of [BAGT16] */
-				bagt_im = Math.abs(mttf - restrictedMttf) / mttf;
-			}
-			else {
-				/* Equation 18 of [BAGT16] */
-				bagt_im = Math.abs(mttf - restrictedMttf);
-			}
-			
-			results.put(var, bagt_im);
+			tasks.put(variables.get(i), () -> {
+				ReliabilityFunction restrictedReliability = new RestrictedReliabilityFunction<>(topEvent, functions, index, value);
+				
+				/* This will cause infinite run time for some cases (eg. BAGT+ of TCNC component 1 ) */
+				double restrictedMttf = moment.evaluate(restrictedReliability);
+							
+				if (variant == Variant.MINUS_NORMALIZED || variant == Variant.PLUS_NORMALIZED) {
+					/* Equation 19 of [BAGT16] */
+					return Math.abs(mttf - restrictedMttf) / mttf;
+				}
+				else {
+					/* Equation 18 of [BAGT16] */
+					return Math.abs(mttf - restrictedMttf);
+				}
+			});
 		}		
 	
-	return results;
+	return ImportanceMeasures.invokeAll(tasks, executor);
 		
 	}
 }
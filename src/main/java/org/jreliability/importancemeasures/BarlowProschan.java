@@ -16,14 +16,15 @@
 package org.jreliability.importancemeasures;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.bdd.BDD;
-import org.jreliability.bdd.BDDProvider;
-import org.jreliability.bdd.BDDTTRF;
+import org.jreliability.bdd.BDDTopEvent;
 import org.jreliability.evaluator.MomentEvaluator;
 import org.jreliability.function.DensityFunction;
 import org.jreliability.function.ReliabilityFunction;
@@ -46,9 +47,9 @@ import org.jreliability.function.UnreliabilityFunction;
 public class BarlowProschan <T> implements ImportanceMeasure {
 	protected final BDD<T> bdd;
 	protected final Transformer<T, ReliabilityFunction> transformer;
-	protected final BDDProvider<T> provider;
-	protected final BDDTTRF<T> bddTTRF;
+	protected final ExecutorService executor;
 	protected final MomentEvaluator moment;
+	protected final BDDTopEvent<T> topEvent;
 	
 	
 	protected class BarlowProschanFunction implements ReliabilityFunction {
@@ -93,11 +94,31 @@ public class BarlowProschan <T> implements ImportanceMeasure {
 	 * 			variables present in the {@link BDD} 
 	 */
 	public BarlowProschan(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer) {
+		this(bdd, transformer, null);
+	}
+	
+	/**
+	 * Returns a {@link BarlowProschan} calculator for a specific system with its {@link BDD}
+	 * and {@link ReliabilityFunction} {@link Transformer} that evaluates the components 
+	 * in parallel with the given {@link ExecutorService}. 
+	 * 
+	 * @param bdd
+	 * 			The {@link BDD} representing the system structure function
+	 * 
+	 * @param transformer
+	 * 			The {@link Transformer} used to get the {@link ReliabilityFunction} of
+	 * 			variables present in the {@link BDD}, must be thread-safe if an executor is used 
+	 * 
+	 * @param executor
+	 * 			The {@link ExecutorService} used to evaluate the components or {@code null}
+	 * 			for a sequential evaluation
+	 */
+	public BarlowProschan(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer, ExecutorService executor) {
 		this.bdd = bdd;
 		this.transformer = transformer;
-		provider = bdd.getProvider();
-		bddTTRF = new BDDTTRF<>(provider);
+		this.executor = executor;
 		moment = new MomentEvaluator(1);
+		topEvent = new BDDTopEvent<>(bdd);
 	}
 
 	/**
@@ -117,25 +138,25 @@ public class BarlowProschan <T> implements ImportanceMeasure {
 	 * 
 	 */
 	public Map<T, Double> calculate() throws ArithmeticException {
-		Map<T, Double> results = new HashMap<>();
-
-		for (T var: bdd.getVariables()) {
-			
-			BDD<T> restrictedBdd_1 = bdd.restrict(provider.get(var));			/* Fix var to 1 ie. Component always works */
-			BDD<T> restrictedBdd_0 = bdd.restrict(provider.get(var).not());		/* Fix var to 0 ie. Component never works */
+		Map<T, Callable<Double>> tasks = new LinkedHashMap<>();
 
-			ReliabilityFunction restrictedReliability_1 = bddTTRF.convert(restrictedBdd_1, transformer);
-			ReliabilityFunction restrictedReliability_0 = bddTTRF.convert(restrictedBdd_0, transformer);
-			
-			DensityFunction failureDensity = new DensityFunction(new UnreliabilityFunction(transformer.transform(var)));
-			
-			ReliabilityFunction bp_function = new BarlowProschanFunction(restrictedReliability_1, restrictedReliability_0, failureDensity);
-			
-			double bp_im = moment.evaluate(bp_function);
+		/* The tasks only evaluate restrictions of the shared topEvent */
+		List<T> variables = topEvent.getVariables();
+		ReliabilityFunction[] functions = ImportanceMeasures.getFunctions(topEvent, transformer);
+		for (int i = 0; i < functions.length; i++) {
+			int index = i;
 			
-			results.put(var, bp_im);
+			tasks.put(variables.get(i), () -> {
+				ReliabilityFunction restrictedReliability_1 = new RestrictedReliabilityFunction<>(topEvent, functions, index, 1.0);	/* Fix var to 1 ie. Component always works */
+				ReliabilityFunction restrictedReliability_0 = new RestrictedReliabilityFunction<>(topEvent, functions, index, 0.0);	/* Fix var to 0 ie. Component never works */
+				
+				DensityFunction failureDensity = new DensityFunction(new UnreliabilityFunction(functions[index]));
+				
+				ReliabilityFunction bp_function = new BarlowProschanFunction(restrictedReliability_1, restrictedReliability_0, failureDensity);
+				return moment.evaluate(bp_function);
+			});
 		}
 		
-		return results;
+		return ImportanceMeasures.invokeAll(tasks, executor);
 	}
 }
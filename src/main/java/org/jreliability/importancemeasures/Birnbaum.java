@@ -17,6 +17,7 @@ package org.jreliability.importancemeasures;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.bdd.BDD;
@@ -53,6 +54,26 @@ public class Birnbaum<T> implements TimeDependentImportanceMeasure<T> {
 	 */
 	public Birnbaum(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer) {
 		critCalc = new CriticalityCalculator<>(bdd, transformer);
+	}
+	
+	/**
+	 * Returns a {@link Birnbaum} calculator for a specific system with its {@link BDD}
+	 * and {@link ReliabilityFunction} {@link Transformer} that evaluates the components 
+	 * in parallel with the given {@link ExecutorService}. 
+	 * 
+	 * @param bdd
+	 * 			The {@link BDD} representing the system structure function
+	 * 
+	 * @param transformer
+	 * 			The {@link Transformer} used to get the {@link ReliabilityFunction} of
+	 * 			variables present in the {@link BDD}, must be thread-safe if an executor is used 
+	 * 
+	 * @param executor
+	 * 			The {@link ExecutorService} used to evaluate the components or {@code null}
+	 * 			for a sequential evaluation
+	 */
+	public Birnbaum(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer, ExecutorService executor) {
+		critCalc = new CriticalityCalculator<>(bdd, transformer, executor);
 	}	
 
 	/**
@@ -15,13 +15,17 @@
 
 package org.jreliability.importancemeasures;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.bdd.BDD;
 import org.jreliability.bdd.BDDProvider;
-import org.jreliability.bdd.BDDTTRF;
+import org.jreliability.bdd.BDDTopEvent;
+import org.jreliability.bdd.BDDTopEvent.Unateness;
 import org.jreliability.function.ReliabilityFunction;
 
 
@@ -31,6 +35,14 @@ import org.jreliability.function.ReliabilityFunction;
  * Uses [ABGT17] in order to calculate the {@link CriticalityBDDs} and the corresponding {@link CriticalityValues}
  * via boolean expression.
  * 
+ * For components that the system is positive or negative unate in, the criticalities
+ * equal the partial derivative of the system reliability. These are calculated for all
+ * such components at once by a single forward and backward pass over the {@link BDDTopEvent}
+ * of the system. For the remaining (binate) components, the probabilities of the
+ * {@link CriticalityBDDs} are calculated on the {@link BDDTopEvent} as well, see
+ * {@link BDDTopEvent#calculateCriticality(double[], int, boolean)}, such that no {@link BDD}
+ * operations are needed.
+ * 
  * [ABGT17] ( https://doi.org/10.1016/j.ress.2016.12.013 )
  * 
  * @author oehmen
@@ -42,7 +54,8 @@ public class CriticalityCalculator<T> {
 	protected final BDD<T> bdd;
 	protected final Transformer<T, ReliabilityFunction> transformer;
 	protected final BDDProvider<T> provider;
-	protected final BDDTTRF<T> bddTTRF;
+	protected final ExecutorService executor;
+	protected final BDDTopEvent<T> topEvent;
 	
 	/**
 	 * Returns a {@link CriticalityCalculator} for a specific system with its {@link BDD}
@@ -56,10 +69,31 @@ public class CriticalityCalculator<T> {
 	 * 			variables present in the {@link BDD} 
 	 */
 	public CriticalityCalculator(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer) {
+		this(bdd, transformer, null);
+	}
+	
+	/**
+	 * Returns a {@link CriticalityCalculator} for a specific system with its {@link BDD}
+	 * and {@link ReliabilityFunction} {@link Transformer} that evaluates the components 
+	 * in parallel with the given {@link ExecutorService}. 
+	 * 
+	 * @param bdd
+	 * 			The {@link BDD} representing the system structure function
+	 * 
+	 * @param transformer
+	 * 			The {@link Transformer} used to get the {@link ReliabilityFunction} of
+	 * 			variables present in the {@link BDD}, must be thread-safe if an executor is used 
+	 * 
+	 * @param executor
+	 * 			The {@link ExecutorService} used to evaluate the components or {@code null}
+	 * 			for a sequential evaluation
+	 */
+	public CriticalityCalculator(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer, ExecutorService executor) {
 		this.bdd = bdd;
 		this.transformer = transformer;
+		this.executor = executor;
 		provider = bdd.getProvider();
-		bddTTRF = new BDDTTRF<>(provider);
+		topEvent = new BDDTopEvent<>(bdd);
 	}
 	
 	/**
@@ -76,23 +110,43 @@ public class CriticalityCalculator<T> {
 	 * 			  Map of components and their respective {@link CriticalityValues} values at time t.
 	 */
 	public Map<T, CriticalityValues> getCriticalityValues(double time) {
-		Map<T, CriticalityValues> criticalities = new HashMap<>();		
+		Map<T, Callable<CriticalityValues>> tasks = new LinkedHashMap<>();
 
 		if (time <= 0) {
 			throw new IllegalArgumentException("Criticality not defined for time <= 0.");
 		}
 		
-		for (T var: bdd.getVariables()) {			
-			CriticalityBDDs<T> critBdds = getCriticalityBDDs(var);
-			
-			/* Equations 5 & 6 of [ABGT17] */
-			double failureCriticality = bddTTRF.convert(critBdds.getFailureCriticalityBDD(), transformer).getY(time);	
-			double repairCriticality = bddTTRF.convert(critBdds.getRepairCriticalityBdd(), transformer).getY(time);
+		/* Partial derivatives of the system reliability for all components in one pass */
+		List<T> variables = topEvent.getVariables();
+		double[] probabilities = new double[variables.size()];
+		for (int i = 0; i < probabilities.length; i++) {
+			probabilities[i] = transformer.transform(variables.get(i)).getY(time);
+		}
+		double[] derivatives = new double[probabilities.length];
+		topEvent.calculateDerivatives(probabilities, derivatives);
+		
+		/* The tasks only read the probabilities and the shared topEvent */
+		for (int i = 0; i < probabilities.length; i++) {
+			T var = variables.get(i);
+			Unateness unateness = topEvent.getUnateness(i);
+			double derivative = derivatives[i];
 			
-			criticalities.put(var, new CriticalityValues(failureCriticality, repairCriticality));
+			if (unateness == Unateness.POSITIVE) {
+				/* The component can only be failure critical */
+				tasks.put(var, () -> new CriticalityValues(derivative, 0.0));
+			} else if (unateness == Unateness.NEGATIVE) {
+				/* The component can only be repair critical */
+				tasks.put(var, () -> new CriticalityValues(0.0, -derivative));
+			} else {
+				int index = i;
+				
+				/* Equations 5 & 6 of [ABGT17] on the restrictions of the topEvent */
+				tasks.put(var, () -> new CriticalityValues(topEvent.calculateCriticality(probabilities, index, true),
+						topEvent.calculateCriticality(probabilities, index, false)));
+			}
 		}	
 		
-		return criticalities;
+		return ImportanceMeasures.invokeAll(tasks, executor);
 	}
 	
 	/**
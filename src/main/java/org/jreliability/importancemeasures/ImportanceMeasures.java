@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.importancemeasures;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.collections15.Transformer;
+import org.jreliability.bdd.BDDTopEvent;
+import org.jreliability.function.ReliabilityFunction;
+
+/**
+ * The {@link ImportanceMeasures} is a utility class that evaluates the
+ * per-component tasks of the importance measures either sequentially or with a
+ * given {@link ExecutorService}.
+ * <p>
+ * The {@link org.jreliability.bdd.BDDProvider}s are not thread-safe. Thus, the
+ * tasks must not perform any {@link org.jreliability.bdd.BDD} operations.
+ * Instead, the {@link org.jreliability.bdd.BDD} of the system is compiled once
+ * into a {@link org.jreliability.bdd.BDDTopEvent} whose nodes are shared by
+ * all tasks, and each task evaluates the restriction to its component with its
+ * own buffers, e.g., by a {@link RestrictedReliabilityFunction}.
+ * 
+ * @author oehmen
+ * 
+ */
+public abstract class ImportanceMeasures {
+
+	/**
+	 * Evaluates the tasks of all components. If no {@link ExecutorService} is
+	 * given, the tasks are evaluated sequentially by the calling thread.
+	 * 
+	 * @param <T>
+	 *            the type of the components
+	 * @param <V>
+	 *            the type of the results
+	 * @param tasks
+	 *            the task of each component
+	 * @param executor
+	 *            the executor or {@code null}
+	 * @return the result of each component
+	 */
+	public static <T, V> Map<T, V> invokeAll(Map<T, Callable<V>> tasks, ExecutorService executor) {
+		Map<T, V> results = new HashMap<>();
+		try {
+			if (executor == null) {
+				for (Map.Entry<T, Callable<V>> entry : tasks.entrySet()) {
+					results.put(entry.getKey(), entry.getValue().call());
+				}
+			} else {
+				List<T> components = new ArrayList<>(tasks.keySet());
+				List<Callable<V>> callables = new ArrayList<>(tasks.values());
+				List<Future<V>> futures = executor.invokeAll(callables);
+				for (int i = 0; i < components.size(); i++) {
+					results.put(components.get(i), futures.get(i).get());
+				}
+			}
+		} catch (ExecutionException e) {
+			throw unchecked(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while calculating the importance measure.", e);
+		} catch (Exception e) {
+			throw unchecked(e);
+		}
+		return results;
+	}
+
+	/**
+	 * Returns the {@link ReliabilityFunction}s of the variables of the
+	 * {@link BDDTopEvent} in the order of {@link BDDTopEvent#getVariables()}.
+	 * 
+	 * @param <T>
+	 *            the type of the variables
+	 * @param topEvent
+	 *            the top event
+	 * @param transformer
+	 *            the transformer of the variables
+	 * @return the reliability function of each variable
+	 */
+	public static <T> ReliabilityFunction[] getFunctions(BDDTopEvent<T> topEvent,
+			Transformer<T, ReliabilityFunction> transformer) {
+		List<T> variables = topEvent.getVariables();
+		ReliabilityFunction[] functions = new ReliabilityFunction[variables.size()];
+		for (int i = 0; i < functions.length; i++) {
+			functions[i] = transformer.transform(variables.get(i));
+		}
+		return functions;
+	}
+
+	/**
+	 * Returns the given {@link Throwable} as unchecked exception.
+	 * 
+	 * @param throwable
+	 *            the throwable
+	 * @return the unchecked exception
+	 */
+	protected static RuntimeException unchecked(Throwable throwable) {
+		if (throwable instanceof RuntimeException) {
+			return (RuntimeException) throwable;
+		} else if (throwable instanceof Error) {
+			throw (Error) throwable;
+		}
+		return new IllegalStateException(throwable);
+	}
+}
@@ -15,13 +15,15 @@
 
 package org.jreliability.importancemeasures;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.bdd.BDD;
-import org.jreliability.bdd.BDDProvider;
-import org.jreliability.bdd.BDDTTRF;
+import org.jreliability.bdd.BDDTopEvent;
 import org.jreliability.function.ReliabilityFunction;
 
 
@@ -40,8 +42,8 @@ public class RRW<T> implements TimeDependentImportanceMeasure<T> {
 	
 	protected final BDD<T> bdd;
 	protected final Transformer<T, ReliabilityFunction> transformer;
-	protected final BDDProvider<T> provider;
-	protected final BDDTTRF<T> bddTTRF;
+	protected final ExecutorService executor;
+	protected final BDDTopEvent<T> topEvent;
 	
 	/**
 	 * Returns a {@link RRW} calculator for a specific system with its {@link BDD}
@@ -55,10 +57,30 @@ public class RRW<T> implements TimeDependentImportanceMeasure<T> {
 	 * 			variables present in the {@link BDD} 
 	 */
 	public RRW(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer) {
+		this(bdd, transformer, null);
+	}
+	
+	/**
+	 * Returns a {@link RRW} calculator for a specific system with its {@link BDD}
+	 * and {@link ReliabilityFunction} {@link Transformer} that evaluates the components 
+	 * in parallel with the given {@link ExecutorService}. 
+	 * 
+	 * @param bdd
+	 * 			The {@link BDD} representing the system structure function
+	 * 
+	 * @param transformer
+	 * 			The {@link Transformer} used to get the {@link ReliabilityFunction} of
+	 * 			variables present in the {@link BDD}, must be thread-safe if an executor is used 
+	 * 
+	 * @param executor
+	 * 			The {@link ExecutorService} used to evaluate the components or {@code null}
+	 * 			for a sequential evaluation
+	 */
+	public RRW(BDD<T> bdd, Transformer<T, ReliabilityFunction> transformer, ExecutorService executor) {
 		this.bdd = bdd;
 		this.transformer = transformer;
-		provider = bdd.getProvider();
-		bddTTRF = new BDDTTRF<>(provider);
+		this.executor = executor;
+		topEvent = new BDDTopEvent<>(bdd);
 	}	
 	
 	/**
@@ -82,31 +104,36 @@ public class RRW<T> implements TimeDependentImportanceMeasure<T> {
 	 * 			  Map of components and their respective RRW values at time t.
 	 */
 	public Map<T, Double> calculate(double time) {
-		Map<T, Double> results = new HashMap<>();
-		BDD<T> restrictedBdd;
-		ReliabilityFunction restrictedSystemReliabilityFunction;
+		Map<T, Callable<Double>> tasks = new LinkedHashMap<>();
 		
 		if (time <= 0) {
 			throw new IllegalArgumentException("Importance measure not defined for time <= 0.");
 		}
 		
-		/* bddTTRF.convert() deallocates bdd -> use a copy */
-		ReliabilityFunction systemReliabilityFunction = bddTTRF.convert(bdd.copy(), transformer);	
-		double systemUnreliability = 1 - systemReliabilityFunction.getY(time);
+		/* Component reliabilities at time t, the tasks only read them and the shared topEvent */
+		List<T> variables = topEvent.getVariables();
+		double[] probabilities = new double[variables.size()];
+		for (int i = 0; i < probabilities.length; i++) {
+			probabilities[i] = transformer.transform(variables.get(i)).getY(time);
+		}
+		double systemUnreliability = 1 - topEvent.calculate(probabilities, new double[topEvent.size() + 2]);
 				
-		for (T var: bdd.getVariables()) {						
-			restrictedBdd = bdd.restrict(provider.get(var));		/* Fix var to 1 ie. Component always works */
-			restrictedSystemReliabilityFunction = bddTTRF.convert(restrictedBdd, transformer);
+		for (int i = 0; i < probabilities.length; i++) {
+			int index = i;
 			
-			/* System Unreliability at time t with var i working */
-			double u_i_plus = 1 - restrictedSystemReliabilityFunction.getY(time);
-			
-			/* Equation 4.12 of [ABGT17] */
-			double rrw = systemUnreliability / u_i_plus;
-			
-			results.put(var, rrw);
+			tasks.put(variables.get(i), () -> {
+				double[] restricted = probabilities.clone();
+				restricted[index] = 1.0;	/* Fix var to 1 ie. Component always works */
+				double restrictedSystemReliability = topEvent.calculate(restricted, new double[topEvent.size() + 2]);
+				
+				/* System Unreliability at time t with var i working */
+				double u_i_plus = 1 - restrictedSystemReliability;
+				
+				/* Equation 4.12 of [ABGT17] */
+				return systemUnreliability / u_i_plus;
+			});
 		}	
 		
-		return results;
+		return ImportanceMeasures.invokeAll(tasks, executor);
 	}
 }
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.importancemeasures;
+
+import org.jreliability.bdd.BDD;
+import org.jreliability.bdd.BDDTopEvent;
+import org.jreliability.function.ReliabilityFunction;
+import org.jreliability.function.SequentialFunction;
+
+
+/**
+ * The {@link RestrictedReliabilityFunction} is the {@link ReliabilityFunction} of a
+ * system with one component fixed to working (1) or failed (0), i.e., of the restriction
+ * of the {@link BDD} of the system to this component.
+ * 
+ * Instead of restricting and converting the {@link BDD}, the value of the component is
+ * fixed in the probabilities that are propagated through the shared {@link BDDTopEvent}
+ * of the system. Since the {@link BDDTopEvent} and the {@link ReliabilityFunction}s
+ * of the components are only read and each {@link RestrictedReliabilityFunction} has
+ * its own buffers, one instance per task can be evaluated concurrently.
+ * 
+ * @author oehmen
+ *
+ * @param <T>
+ *            The type of the variables of the {@link BDD} of the system
+ */
+public class RestrictedReliabilityFunction<T> extends SequentialFunction implements ReliabilityFunction {
+	protected final BDDTopEvent<T> topEvent;
+	protected final ReliabilityFunction[] functions;
+	protected final int variable;
+	protected final double value;
+	protected final double[] probabilities;
+	protected final double[] buffer;
+	
+	/**
+	 * Returns a {@link RestrictedReliabilityFunction} of a system with the given
+	 * component fixed to the given value.
+	 * 
+	 * @param topEvent
+	 * 			The compiled {@link BDDTopEvent} of the system
+	 * 
+	 * @param functions
+	 * 			The {@link ReliabilityFunction}s of the components in the order of
+	 * 			{@link BDDTopEvent#getVariables()}, cf.
+	 * 			{@link ImportanceMeasures#getFunctions(BDDTopEvent, org.apache.commons.collections15.Transformer)}
+	 * 
+	 * @param variable
+	 * 			The index of the fixed component in {@link BDDTopEvent#getVariables()}
+	 * 
+	 * @param value
+	 * 			The value of the fixed component, 1 if it always works or 0 if it never works
+	 */
+	public RestrictedReliabilityFunction(BDDTopEvent<T> topEvent, ReliabilityFunction[] functions, int variable, double value) {
+		this.topEvent = topEvent;
+		this.functions = functions;
+		this.variable = variable;
+		this.value = value;
+		probabilities = new double[functions.length];
+		buffer = new double[topEvent.size() + 2];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.Function#getY(double)
+	 */
+	@Override
+	public double getY(double x) {
+		for (int i = 0; i < functions.length; i++) {
+			probabilities[i] = (i == variable) ? value : functions[i].getY(x);
+		}
+		return topEvent.calculate(probabilities, buffer);
+	}
+}
@@ -14,28 +14,64 @@
  *******************************************************************************/
 package org.jreliability.sl;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.BitSet;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-import java.util.Stack;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
 
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.booleanfunction.Term;
+import org.jreliability.booleanfunction.TermDAG;
 import org.jreliability.booleanfunction.common.ANDTerm;
 import org.jreliability.booleanfunction.common.FALSETerm;
+import org.jreliability.booleanfunction.common.LinearTerm;
+import org.jreliability.booleanfunction.common.LinearTerm.Comparator;
 import org.jreliability.booleanfunction.common.LiteralTerm;
 import org.jreliability.booleanfunction.common.NOTTerm;
 import org.jreliability.booleanfunction.common.ORTerm;
 import org.jreliability.booleanfunction.common.TRUETerm;
+import org.jreliability.common.Estimate;
+import org.jreliability.common.StandardNormal;
 import org.jreliability.common.StructureFunction;
 
 /**
  * The {@link SL} uses the concept of stochastic logic [A] to evaluate a given
  * {@link Term}. Note that the implementation for {@link StructureFunction}
  * works solely for coherent systems.
+ * <p>
+ * The {@link Term} is compiled via a {@link TermDAG}, such that shared subterms
+ * are evaluated once, into a sequence of instructions that operate on a
+ * preallocated register file of {@code long} words, each holding 64 bits of a
+ * bit stream. The register file holds one register per variable plus the
+ * registers for intermediate bit streams, which are reused once their last use
+ * has been evaluated, such that no bit streams are allocated during the
+ * evaluation. A {@link LinearTerm} is evaluated with bit-sliced adders: the
+ * weighted sums of 64 bits are accumulated in parallel in the bit planes of a
+ * two's complement number, whose sign and zero planes yield the result of the
+ * comparison. The bit streams are processed in blocks of {@link #BLOCK}
+ * words to keep the register file small for long bit streams. Each block draws
+ * its bits from its own random number generator split from a seeded one, such
+ * that the blocks can be evaluated in parallel by an {@link ExecutorService}
+ * with reproducible results.
+ * <p>
+ * Each bit of a variable is drawn independently from one uniform variate that
+ * is compared to the probability of the variable. The probabilities of the top
+ * event for multiple points (e.g., points in time) are evaluated with the same
+ * variates for all points, i.e., with correlated bit streams. Thus, the bits of
+ * a variable are monotone in its probability and the random streams are
+ * generated only once for all points.
+ * <p>
+ * Instead of a single bit stream of the configured length, bit streams may be
+ * evaluated until a targeted precision is reached, see
+ * {@link #estimateProbability(ToDoubleFunction, double, double)}.
  * 
  * [A] Aliee, H. and Zarandi, H.R.. Fault tree analysis using stochastic logic:
  * A reliable and high speed computing. In Proceedings of the Annual Reliability
@@ -47,6 +83,49 @@ import org.jreliability.common.StructureFunction;
  */
 public class SL<T> implements StructureFunction<T> {
 
+	/**
+	 * The maximal number of words of a bit stream that are evaluated at once.
+	 * Since one uniform variate is kept per bit and variable, the blocks are
+	 * small.
+	 */
+	protected static final int BLOCK = 1 << 6;
+	/**
+	 * The maximal number of bit streams that are evaluated to estimate a
+	 * probability with a targeted precision.
+	 */
+	protected static final int MAX_STREAMS = 1 << 10;
+	/**
+	 * The number of bits used to represent a probability for the generation of
+	 * the bit streams.
+	 */
+	protected static final int PRECISION = 32;
+
+	/**
+	 * The instruction that sets its target to an all-0 bit stream.
+	 */
+	protected static final int FALSE = 0;
+	/**
+	 * The instruction that sets its target to an all-1 bit stream.
+	 */
+	protected static final int TRUE = 1;
+	/**
+	 * The instruction that sets its target to the AND of its operands.
+	 */
+	protected static final int AND = 2;
+	/**
+	 * The instruction that sets its target to the OR of its operands.
+	 */
+	protected static final int OR = 3;
+	/**
+	 * The instruction that sets its target to the flipped bits of its operand.
+	 */
+	protected static final int NOT = 4;
+	/**
+	 * The instruction that sets its target to the result of a linear constraint
+	 * on its operands.
+	 */
+	protected static final int LINEAR = 5;
+
 	/**
 	 * The {@link Term} to be evaluated.
 	 */
@@ -56,39 +135,85 @@ public class SL<T> implements StructureFunction<T> {
 	 */
 	protected final int bitStreamLength;
 	/**
-	 * A list that orders the terms in such a way that they can later be
-	 * sequentially evaluated using a stack.
+	 * The {@link TermDAG} of the {@link Term}.
 	 */
-	protected List<Term> termsForStackProcessing = new ArrayList<>();
+	protected final TermDAG dag;
 	/**
-	 * The number of operands for each term which are then popped from the stack.
+	 * The variables of the {@link Term}. In stochastic logic, equal variables
+	 * have to be modeled using exactly the same bit stream (since they are
+	 * actually the same!). Thus, the i-th variable is represented by the i-th
+	 * register.
 	 */
-	protected Map<Term, Integer> numberOfOperands = new HashMap<>();
+	protected final List<T> variables = new ArrayList<>();
 	/**
-	 * The stack to process the terms.
+	 * The operation of each instruction.
 	 */
-	protected Stack<BitSet> operandsStack = new Stack<>();
+	protected int[] instructions;
 	/**
-	 * In stochastic logic, equal variables have to be modeled using exactly the
-	 * same bit stream (since they are actually the same!). This is realized by the
-	 * term cache.
+	 * The target register of each instruction.
 	 */
-	protected Map<Term, BitSet> termCache = new HashMap<>();
+	protected int[] targets;
+	/**
+	 * The operand registers of each instruction.
+	 */
+	protected int[][] operands;
+	/**
+	 * The coefficients of the operands of each {@link #LINEAR} instruction.
+	 */
+	protected int[][] coefficients;
+	/**
+	 * The {@link Comparator} of each {@link #LINEAR} instruction.
+	 */
+	protected Comparator[] comparators;
+	/**
+	 * The right-hand-side of each {@link #LINEAR} instruction.
+	 */
+	protected int[] rightHandSides;
+	/**
+	 * The register that holds the bit stream of the top event after the
+	 * evaluation.
+	 */
+	protected int result;
+	/**
+	 * The number of registers.
+	 */
+	protected int registerCount;
+	/**
+	 * The register file for the sequential evaluation of the probability.
+	 */
+	protected long[][] registers;
+	/**
+	 * The uniform variates of each bit of each variable for the sequential
+	 * evaluation.
+	 */
+	protected int[][] uniforms;
+	/**
+	 * The used random number generator from which the random number generators
+	 * of the blocks are split.
+	 */
+	protected final SplittableRandom random;
+	/**
+	 * The used {@link ExecutorService} or {@code null} if the blocks are
+	 * evaluated sequentially.
+	 */
+	protected final ExecutorService executor;
 
 	/**
 	 * The length of the bit stream when using the
-	 * {@link StructureFunction} interface. A length of 1 is sufficient for coherent
+	 * {@link StructureFunction} interface. A length of 1 is sufficient for coherent
 	 * systems.
 	 */
 	protected int bitStreamLengthStructureFunction = 1;
 
 	/**
-	 * Constructs an {@link SL} with a given {@link Term}.
+	 * Constructs an {@link SL} with a given {@link Term} and bit streams of
+	 * length 100000. Since the bits are independent samples, this bounds the
+	 * standard error of a determined probability by {@code 0.0016}.
 	 * 
 	 * @param term the term to evaluate
 	 */
 	public SL(Term term) {
-		this(term, 10000);
+		this(term, 100000);
 	}
 
 	/**
@@ -99,35 +224,135 @@ public class SL<T> implements StructureFunction<T> {
 	 * @param bitStreamLength the length of the bit streams
 	 */
 	public SL(Term term, int bitStreamLength) {
+		this(term, bitStreamLength, System.currentTimeMillis());
+	}
+
+	/**
+	 * Constructs an {@link SL} with a given {@link Term}, a given length of the
+	 * bit streams to use, and a seed for reproducible bit streams.
+	 * 
+	 * @param term            the term to evaluate
+	 * @param bitStreamLength the length of the bit streams
+	 * @param seed            the seed of the random number generator
+	 */
+	public SL(Term term, int bitStreamLength, long seed) {
+		this(term, bitStreamLength, seed, null);
+	}
+
+	/**
+	 * Constructs an {@link SL} with a given {@link Term}, a given length of the
+	 * bit streams to use, a seed for reproducible bit streams, and an
+	 * {@link ExecutorService} for the parallel evaluation of the blocks of the bit
+	 * streams.
+	 * 
+	 * @param term            the term to evaluate
+	 * @param bitStreamLength the length of the bit streams
+	 * @param seed            the seed of the random number generator
+	 * @param executor        the executor or {@code null} for a sequential
+	 *                        evaluation
+	 */
+	public SL(Term term, int bitStreamLength, long seed, ExecutorService executor) {
 		this.term = term;
 		this.bitStreamLength = bitStreamLength;
-		this.initialize(term);
+		this.random = new SplittableRandom(seed);
+		this.executor = executor;
+		this.dag = new TermDAG(term);
+		this.compile();
+		if (executor == null) {
+			this.registers = new long[registerCount][Math.min(words(bitStreamLength), BLOCK)];
+		}
 	}
 
 	/**
-	 * Initializes the {@link SL} by ordering the {@link Term} for the stack
-	 * processing.
-	 * 
-	 * @param term the term to initialize
-	 */
-	protected void initialize(Term term) {
-		if (term instanceof NOTTerm) {
-			initialize(((NOTTerm) term).get());
-			numberOfOperands.put(term, 1);
-		} else {
-			List<Term> terms = new ArrayList<Term>();
-			if (term instanceof ANDTerm) {
-				terms = ((ANDTerm) term).getTerms();
-				numberOfOperands.put(term, terms.size());
+	 * Compiles the nodes of the {@link TermDAG} into instructions on registers.
+	 * The first registers hold the bit streams of the variables, the remaining
+	 * registers hold intermediate bit streams and are reused once the last use
+	 * of their node has been evaluated.
+	 */
+	private void compile() {
+		int[] nodeRegisters = new int[dag.size()];
+		for (int node = 0; node < dag.size(); node++) {
+			Term term = dag.getTerm(node);
+			if (term instanceof LiteralTerm) {
+				@SuppressWarnings("unchecked")
+				T variable = ((LiteralTerm<T>) term).get();
+				nodeRegisters[node] = variables.size();
+				variables.add(variable);
+			}
+		}
+
+		int offset = variables.size();
+		int temporaries = 0;
+		Deque<Integer> free = new ArrayDeque<>();
+		boolean[] released = new boolean[dag.size()];
+		List<Integer> codes = new ArrayList<>();
+		List<Integer> targetList = new ArrayList<>();
+		List<int[]> operandList = new ArrayList<>();
+		List<LinearTerm> linearTerms = new ArrayList<>();
+
+		for (int node = 0; node < dag.size(); node++) {
+			Term term = dag.getTerm(node);
+			int code;
+			if (term instanceof LiteralTerm) {
+				continue;
+			} else if (term instanceof FALSETerm) {
+				code = FALSE;
+			} else if (term instanceof TRUETerm) {
+				code = TRUE;
+			} else if (term instanceof ANDTerm) {
+				code = AND;
 			} else if (term instanceof ORTerm) {
-				terms = ((ORTerm) term).getTerms();
-				numberOfOperands.put(term, terms.size());
+				code = OR;
+			} else if (term instanceof NOTTerm) {
+				code = NOT;
+			} else if (term instanceof LinearTerm) {
+				code = LINEAR;
+			} else {
+				throw new IllegalArgumentException("SL does not support terms of class " + term.getClass());
+			}
+			int[] nodeOperands = dag.getOperands(node);
+			int[] ops = new int[nodeOperands.length];
+			for (int i = 0; i < ops.length; i++) {
+				ops[i] = nodeRegisters[nodeOperands[i]];
+			}
+			int target = free.isEmpty() ? offset + temporaries++ : free.pop();
+			codes.add(code);
+			targetList.add(target);
+			operandList.add(ops);
+			linearTerms.add((code == LINEAR) ? (LinearTerm) term : null);
+			nodeRegisters[node] = target;
+
+			// Release the intermediate bit streams that are not needed anymore
+			for (int operand : nodeOperands) {
+				if (dag.getLastUse(operand) == node && nodeRegisters[operand] >= offset && !released[operand]) {
+					released[operand] = true;
+					free.push(nodeRegisters[operand]);
+				}
 			}
-			for (Term subTerm : terms) {
-				initialize(subTerm);
+		}
+
+		instructions = new int[codes.size()];
+		targets = new int[codes.size()];
+		operands = operandList.toArray(new int[codes.size()][]);
+		coefficients = new int[codes.size()][];
+		comparators = new Comparator[codes.size()];
+		rightHandSides = new int[codes.size()];
+		for (int i = 0; i < instructions.length; i++) {
+			instructions[i] = codes.get(i);
+			targets[i] = targetList.get(i);
+			LinearTerm linearTerm = linearTerms.get(i);
+			if (linearTerm != null) {
+				List<Integer> termCoefficients = linearTerm.getCoefficients();
+				coefficients[i] = new int[termCoefficients.size()];
+				for (int j = 0; j < coefficients[i].length; j++) {
+					coefficients[i][j] = termCoefficients.get(j);
+				}
+				comparators[i] = linearTerm.getComparator();
+				rightHandSides[i] = linearTerm.getRHS();
 			}
 		}
-		termsForStackProcessing.add(term);
+		result = nodeRegisters[dag.getRoot()];
+		registerCount = offset + temporaries;
 	}
 
 	/**
@@ -138,194 +363,471 @@ public class SL<T> implements StructureFunction<T> {
 	 * @return the probability of the top event
 	 */
 	public double getProbabiliy(Transformer<T, Double> transformer) {
-		operandsStack.clear();
-		termCache.clear();
-		evaluateProbability(transformer);
-		// Evaluate leaves the final bit stream of the top event on the stack
-		BitSet bitstream = operandsStack.pop();
-		double probability = (double) bitstream.cardinality() / bitstream.size();
-		return probability;
+		return getProbabilityPrimitive(transformer::transform);
 	}
 
+	/**
+	 * Calculates the probability of the {@link Term} (i.e. the top event) based on
+	 * a given primitive probabilities of the basic events.
+	 * 
+	 * @param function the probabilities of the basic events
+	 * @return the probability of the top event
+	 */
+	public double getProbabilityPrimitive(ToDoubleFunction<T> function) {
+		long[] thresholds = new long[variables.size()];
+		for (int i = 0; i < thresholds.length; i++) {
+			thresholds[i] = toThreshold(function.applyAsDouble(variables.get(i)));
+		}
+		long cardinality = evaluateProbability(thresholds);
+		return (double) cardinality / bitStreamLength;
+	}
+
+	/**
+	 * Estimates the probability of the {@link Term} (i.e. the top event) based on
+	 * given primitive probabilities of the basic events. Bit streams of the
+	 * configured length are evaluated until the half-width of the Wilson score
+	 * interval of the probability is at most the given half-width. The interval
+	 * is valid since all bits of the top event are independent samples. The
+	 * evaluation stops after {@link #MAX_STREAMS} bit streams even if the
+	 * precision is not reached, the returned estimate contains the achieved
+	 * interval.
+	 * 
+	 * @param function   the probabilities of the basic events
+	 * @param halfWidth  the targeted half-width of the confidence interval
+	 * @param confidence the confidence level of the interval, e.g., {@code 0.95}
+	 * @return the estimate of the probability of the top event
+	 */
+	public Estimate estimateProbability(ToDoubleFunction<T> function, double halfWidth, double confidence) {
+		if (!(halfWidth > 0)) {
+			throw new IllegalArgumentException("The half-width has to be positive but is " + halfWidth);
+		} else if (!(confidence > 0 && confidence < 1)) {
+			throw new IllegalArgumentException("The confidence has to be in (0,1) but is " + confidence);
+		}
+		long[] thresholds = new long[variables.size()];
+		for (int i = 0; i < thresholds.length; i++) {
+			thresholds[i] = toThreshold(function.applyAsDouble(variables.get(i)));
+		}
+		double z = StandardNormal.quantile(1 - (1 - confidence) / 2);
+
+		long cardinality = 0;
+		long n = 0;
+		for (int streams = 1;; streams++) {
+			cardinality += evaluateProbability(thresholds);
+			n += bitStreamLength;
+			// The Wilson score interval remains valid for probabilities close to 0
+			// or 1
+			double z2 = z * z;
+			double center = (cardinality + z2 / 2) / (n + z2);
+			double width = z / (n + z2) * Math.sqrt((double) cardinality * (n - cardinality) / n + z2 / 4);
+			if (width <= halfWidth || streams >= MAX_STREAMS) {
+				double lower = Math.max(0, center - width);
+				double upper = Math.min(1, center + width);
+				return new Estimate((double) cardinality / n, lower, upper, confidence, n);
+			}
+		}
+	}
+
+	/**
+	 * Calculates the probabilities of the {@link Term} (i.e. the top event) for
+	 * multiple points based on the given probabilities of the basic events at
+	 * each point. All points are evaluated in one pass with correlated bit
+	 * streams, i.e., the probability of the top event is monotone in the
+	 * probabilities of the basic events for coherent systems.
+	 * 
+	 * @param function the probability of a basic event at a point, given by its
+	 *                 index
+	 * @param points   the number of points
+	 * @return the probabilities of the top event at each point
+	 */
+	public double[] getProbabilities(ToDoubleBiFunction<T, Integer> function, int points) {
+		long[][] thresholds = new long[variables.size()][points];
+		for (int i = 0; i < thresholds.length; i++) {
+			T variable = variables.get(i);
+			for (int k = 0; k < points; k++) {
+				thresholds[i][k] = toThreshold(function.applyAsDouble(variable, k));
+			}
+		}
+
+		long[] cardinalities = evaluateProbabilities(thresholds, points);
+		double[] probabilities = new double[points];
+		for (int k = 0; k < points; k++) {
+			probabilities[k] = (double) cardinalities[k] / bitStreamLength;
+		}
+		return probabilities;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.jreliability.common.StructureFunction#isProvidingService(java.util.Map)
+	 */
 	@Override
 	public boolean isProvidingService(Map<T, Boolean> variables) {
-		operandsStack.clear();
-		termCache.clear();
-		// Evaluate leaves the final bit stream of the top event on the stack
-		evaluateStructureFunction(variables);
-		BitSet bitstream = operandsStack.pop();
-		System.err.println(bitstream);
-		return bitstream.cardinality() > 0;
+		int words = words(bitStreamLengthStructureFunction);
+		long[][] registers = new long[registerCount][words];
+		for (int i = 0; i < this.variables.size(); i++) {
+			// Default: Set all entries to 1 (captures 1 variables and all non-specified
+			// ones)
+			// Careful, this only works in coherent systems!
+			Boolean value = variables.get(this.variables.get(i));
+			fill(registers[i], words, (value == null || value) ? -1L : 0L);
+		}
+		evaluate(registers, words);
+		return count(registers[result], bitStreamLengthStructureFunction) > 0;
 	}
 
 	/**
-	 * The evaluation performs the actual stochastic logic calculations by a
-	 * sequential processing of the different terms according to their order and
-	 * using a stack. Note that this function leaves its current result on the stack
-	 * - eventually, the result for the top event will remain on the stack!
+	 * Evaluates the bit stream block-wise, sequentially or with the given
+	 * {@link ExecutorService}, and returns the number of 1s in the bit stream of
+	 * the top event.
 	 * 
-	 * @param transformer the probability of the basic events
+	 * @param thresholds the probabilities of the variables as fixed-point
+	 *                   thresholds
+	 * @return the number of 1s in the bit stream of the top event
 	 */
-	protected void evaluateProbability(Transformer<T, Double> transformer) {
-		for (Term term : termsForStackProcessing) {
-			if (term instanceof LiteralTerm) {
-				BitSet bitstream = termCache.get(term);
-				if (bitstream == null) {
-					@SuppressWarnings("unchecked")
-					LiteralTerm<T> component = (LiteralTerm<T>) term;
-					bitstream = generateRandomBitstream(transformer.transform(component.get()));
-					termCache.put(term, bitstream);
+	protected long evaluateProbability(long[] thresholds) {
+		long[][] points = new long[thresholds.length][];
+		for (int i = 0; i < thresholds.length; i++) {
+			points[i] = new long[] { thresholds[i] };
+		}
+		return evaluateProbabilities(points, 1)[0];
+	}
+
+	/**
+	 * Evaluates the correlated bit streams for multiple points block-wise,
+	 * sequentially or with the given {@link ExecutorService}, and returns the
+	 * number of 1s in the bit stream of the top event for each point.
+	 * 
+	 * @param thresholds the probabilities of the variables at each point as
+	 *                   fixed-point thresholds
+	 * @param points     the number of points
+	 * @return the number of 1s in the bit stream of the top event for each point
+	 */
+	protected long[] evaluateProbabilities(long[][] thresholds, int points) {
+		List<Callable<long[]>> blocks = new ArrayList<>();
+		for (long from = 0; from < bitStreamLength; from += (long) BLOCK * Long.SIZE) {
+			int bits = (int) Math.min(bitStreamLength - from, (long) BLOCK * Long.SIZE);
+			SplittableRandom blockRandom = random.split();
+			if (executor == null) {
+				if (uniforms == null) {
+					uniforms = new int[variables.size()][Math.min(words(bitStreamLength), BLOCK) * Long.SIZE];
 				}
-				operandsStack.push(bitstream);
+				blocks.add(() -> evaluateBlock(registers, uniforms, thresholds, points, bits, blockRandom));
 			} else {
-				evaluateNonLiteralTerms(term, bitStreamLength);
+				blocks.add(() -> evaluateBlock(new long[registerCount][words(bits)],
+						new int[variables.size()][words(bits) * Long.SIZE], thresholds, points, bits, blockRandom));
 			}
 		}
+		return invoke(blocks, points);
 	}
 
 	/**
-	 * Evaluates the {@link Term} as SL would, but a bit stream length of 1
+	 * Invokes the evaluations of the blocks, sequentially or with the given
+	 * {@link ExecutorService}, and sums up their results.
 	 * 
-	 * @param variables
+	 * @param blocks the evaluations of the blocks
+	 * @param points the number of results of each block
+	 * @return the sums of the results
 	 */
-	protected void evaluateStructureFunction(Map<T, Boolean> variables) {
-		for (Term term : termsForStackProcessing) {
-			if (term instanceof LiteralTerm) {
-				BitSet bitstream = termCache.get(term);
-				if (bitstream == null) {
-					@SuppressWarnings("unchecked")
-					LiteralTerm<T> component = (LiteralTerm<T>) term;
-					T variable = component.get();
-					bitstream = new BitSet(bitStreamLengthStructureFunction);
-					// Default: Set all entries to 1 (captures 1 variables and all non-specified
-					// ones)
-					// Careful, this only works in coherent systems!
-					bitstream.set(0, bitstream.size(), true);
-					// Pull 0 variables to all 0 bit streams
-					if (variables.containsKey(variable)) {
-						boolean isFailed = !variables.get(variable);
-						if (isFailed) {
-							bitstream.clear();
-						}
-					}
-					termCache.put(term, bitstream);
+	protected long[] invoke(List<Callable<long[]>> blocks, int points) {
+		long[] cardinalities = new long[points];
+		try {
+			if (executor == null) {
+				for (Callable<long[]> block : blocks) {
+					add(cardinalities, block.call());
 				}
-				operandsStack.push(bitstream);
 			} else {
-				evaluateNonLiteralTerms(term, bitStreamLengthStructureFunction);
+				for (Future<long[]> future : executor.invokeAll(blocks)) {
+					add(cardinalities, future.get());
+				}
 			}
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while evaluating the bit streams.", e);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
 		}
+		return cardinalities;
 	}
 
 	/**
-	 * Helper function to process all terms that are not {@link LiteralTerm}s to
-	 * enhance code re-use.
+	 * Evaluates a block of the correlated bit streams for multiple points and
+	 * returns the number of 1s in the bit stream of the top event for each point.
 	 * 
-	 * @param term            the term to evaluate
-	 * @param bitstreamlength the length of the bit stream
-	 */
-	protected void evaluateNonLiteralTerms(Term term, int bitstreamlength) {
-		if (term instanceof FALSETerm) {
-			BitSet bitstream = new BitSet(bitStreamLength);
-			bitstream.clear();
-			operandsStack.push(bitstream);
-		} else if (term instanceof TRUETerm) {
-			BitSet bitstream = new BitSet(bitStreamLength);
-			bitstream.set(0, bitstream.size(), true);
-			operandsStack.push(bitstream);
-		} else if (term instanceof ANDTerm) {
-			evaluateAND(term);
-		} else if (term instanceof ORTerm) {
-			evaluateOR(term);
-		} else if (term instanceof NOTTerm) {
-			evaluateNOT(term);
-		} else {
-			throw new IllegalArgumentException("SL does not support terms of class " + term.getClass());
+	 * @param registers  the register file
+	 * @param uniforms   the buffers for the uniform variates of each variable
+	 * @param thresholds the probabilities of the variables at each point as
+	 *                   fixed-point thresholds
+	 * @param points     the number of points
+	 * @param bits       the number of bits of the block
+	 * @param random     the random number generator of the block
+	 * @return the number of 1s in the block of the top event for each point
+	 */
+	protected long[] evaluateBlock(long[][] registers, int[][] uniforms, long[][] thresholds, int points, int bits,
+			SplittableRandom random) {
+		int words = words(bits);
+		for (int i = 0; i < thresholds.length; i++) {
+			int[] uniform = uniforms[i];
+			for (int j = 0; j < words * Long.SIZE; j += 2) {
+				long r = random.nextLong();
+				uniform[j] = (int) r;
+				uniform[j + 1] = (int) (r >>> Integer.SIZE);
+			}
+		}
+		long[] cardinalities = new long[points];
+		for (int k = 0; k < points; k++) {
+			for (int i = 0; i < thresholds.length; i++) {
+				generateCorrelatedBitstream(registers[i], words, uniforms[i], thresholds[i][k]);
+			}
+			evaluate(registers, words);
+			cardinalities[k] = count(registers[result], bits);
+		}
+		return cardinalities;
+	}
+
+	/**
+	 * Executes the instructions on the first words of the registers. The
+	 * registers of the variables have to be set beforehand.
+	 * 
+	 * @param registers the register file
+	 * @param words     the number of words to evaluate
+	 */
+	protected void evaluate(long[][] registers, int words) {
+		for (int i = 0; i < instructions.length; i++) {
+			long[] target = registers[targets[i]];
+			int[] ops = operands[i];
+			switch (instructions[i]) {
+			case FALSE:
+				fill(target, words, 0L);
+				break;
+			case TRUE:
+				fill(target, words, -1L);
+				break;
+			case AND:
+				initializeTarget(registers, target, ops, words, -1L);
+				for (int j = 1; j < ops.length; j++) {
+					long[] operand = registers[ops[j]];
+					for (int w = 0; w < words; w++) {
+						target[w] &= operand[w];
+					}
+				}
+				break;
+			case OR:
+				initializeTarget(registers, target, ops, words, 0L);
+				for (int j = 1; j < ops.length; j++) {
+					long[] operand = registers[ops[j]];
+					for (int w = 0; w < words; w++) {
+						target[w] |= operand[w];
+					}
+				}
+				break;
+			case NOT:
+				long[] operand = registers[ops[0]];
+				for (int w = 0; w < words; w++) {
+					target[w] = ~operand[w];
+				}
+				break;
+			case LINEAR:
+				evaluateLinear(registers, target, ops, coefficients[i], comparators[i], rightHandSides[i], words);
+				break;
+			default:
+				throw new IllegalStateException("Unknown instruction " + instructions[i]);
+			}
 		}
 	}
 
 	/**
-	 * The evaluation of an {@link ANDTerm} with respective AND operation on the bit
-	 * streams of the operands.
+	 * Evaluates a linear constraint with bit-sliced adders. For each word, the
+	 * difference of the weighted sum and the right-hand-side is accumulated for
+	 * all 64 bits in parallel in the bit planes of a two's complement number by
+	 * ripple-carry additions. The comparison is then derived from its sign plane
+	 * and the OR of all planes, which is 0 where the difference is zero.
 	 * 
-	 * @param term the ANDTerm to evaluate
-	 */
-	protected void evaluateAND(Term term) {
-		int myNumberOfOperands = numberOfOperands.get(term);
-		List<BitSet> operands = new ArrayList<>();
-		while (myNumberOfOperands > 0) {
-			operands.add(operandsStack.pop());
-			myNumberOfOperands--;
+	 * @param registers    the register file
+	 * @param target       the target register
+	 * @param ops          the operand registers
+	 * @param coefficients the coefficients of the operands
+	 * @param comparator   the comparator
+	 * @param rhs          the right-hand-side
+	 * @param words        the number of words
+	 */
+	protected static void evaluateLinear(long[][] registers, long[] target, int[] ops, int[] coefficients,
+			Comparator comparator, int rhs, int words) {
+		long min = -(long) rhs;
+		long max = -(long) rhs;
+		for (int coefficient : coefficients) {
+			if (coefficient > 0) {
+				max += coefficient;
+			} else {
+				min += coefficient;
+			}
+		}
+		// The number of bits of the two's complement of all reachable values
+		int planes = Long.SIZE - Long.numberOfLeadingZeros(Math.max(max, ~min)) + 1;
+		long[] sum = new long[planes];
+
+		for (int w = 0; w < words; w++) {
+			for (int j = 0; j < planes; j++) {
+				sum[j] = (((-(long) rhs) >> j) & 1) != 0 ? -1L : 0L;
+			}
+			for (int i = 0; i < ops.length; i++) {
+				long x = registers[ops[i]][w];
+				long coefficient = coefficients[i];
+				long carry = 0;
+				for (int j = 0; j < planes; j++) {
+					long a = sum[j];
+					long b = ((coefficient >> j) & 1) != 0 ? x : 0L;
+					sum[j] = a ^ b ^ carry;
+					carry = (a & b) | (carry & (a ^ b));
+					if (carry == 0 && (coefficient >> (j + 1)) == 0) {
+						// The remaining planes are not changed
+						break;
+					}
+				}
+			}
+
+			long negative = sum[planes - 1];
+			long nonZero = 0;
+			for (int j = 0; j < planes; j++) {
+				nonZero |= sum[j];
+			}
+			switch (comparator) {
+			case EQUAL:
+				target[w] = ~nonZero;
+				break;
+			case GREATER:
+				target[w] = ~negative & nonZero;
+				break;
+			case GREATEREQUAL:
+				target[w] = ~negative;
+				break;
+			case LESS:
+				target[w] = negative;
+				break;
+			default: // LESSEQUAL
+				target[w] = negative | ~nonZero;
+			}
 		}
+	}
 
-		// Initialize result with a TRUE bitstream and then AND
-		BitSet result = new BitSet(bitStreamLength);
-		result.set(0, result.size(), true);
-		for (BitSet operand : operands) {
-			result.and(operand);
+	/**
+	 * Initializes the target register of an AND or OR instruction with its first
+	 * operand or, if there is none, with the neutral element.
+	 * 
+	 * @param registers the register file
+	 * @param target    the target register
+	 * @param ops       the operand registers
+	 * @param words     the number of words
+	 * @param neutral   the neutral element of the operation
+	 */
+	protected static void initializeTarget(long[][] registers, long[] target, int[] ops, int words, long neutral) {
+		if (ops.length == 0) {
+			fill(target, words, neutral);
+		} else if (registers[ops[0]] != target) {
+			System.arraycopy(registers[ops[0]], 0, target, 0, words);
 		}
-		operandsStack.push(result);
 	}
 
 	/**
-	 * The evaluation of an {@link ORTerm} with respective OR operation on the bit
-	 * streams of the operands.
+	 * Generates the bit stream where each bit is 1 if its uniform variate is below
+	 * the threshold.
 	 * 
-	 * @param term the ORTerm to evaluate
-	 */
-	protected void evaluateOR(Term term) {
-		int myNumberOfOperands = numberOfOperands.get(term);
-		List<BitSet> operands = new ArrayList<>();
-		while (myNumberOfOperands > 0) {
-			operands.add(operandsStack.pop());
-			myNumberOfOperands--;
+	 * @param stream    the stream to fill
+	 * @param words     the number of words to fill
+	 * @param uniform   the uniform variates of the bits as unsigned integers
+	 * @param threshold the probability as fixed-point threshold
+	 */
+	protected static void generateCorrelatedBitstream(long[] stream, int words, int[] uniform, long threshold) {
+		for (int w = 0; w < words; w++) {
+			long word = 0;
+			int offset = w * Long.SIZE;
+			for (int b = 0; b < Long.SIZE; b++) {
+				// The difference is negative if and only if the variate is below the
+				// threshold
+				word |= (((uniform[offset + b] & 0xffffffffL) - threshold) >>> (Long.SIZE - 1)) << b;
+			}
+			stream[w] = word;
 		}
+	}
 
-		// Initialize result with a FALSE bitstream and then OR
-		BitSet result = new BitSet(bitStreamLength);
-		result.clear();
-		for (BitSet operand : operands) {
-			result.or(operand);
+	/**
+	 * Returns the fixed-point threshold with {@link #PRECISION} bits for a
+	 * probability.
+	 * 
+	 * @param probability the probability
+	 * @return the threshold
+	 */
+	protected static long toThreshold(double probability) {
+		if (!(probability > 0)) {
+			return 0;
 		}
-		operandsStack.push(result);
+		return Math.min(Math.round(probability * (1L << PRECISION)), 1L << PRECISION);
 	}
 
 	/**
-	 * The evaluation of an {@link NOTTerm} with respective flip of the bit streams
-	 * of the operand.
+	 * Returns the number of words needed for a bit stream of the given length.
 	 * 
-	 * @param term the NOTTerm to evaluate
+	 * @param bits the length of the bit stream
+	 * @return the number of words
 	 */
-	protected void evaluateNOT(Term term) {
-		BitSet operand = operandsStack.pop();
-		BitSet result = (BitSet) operand.clone();
-		result.flip(0, result.size());
-		operandsStack.push(result);
+	protected static int words(long bits) {
+		return (int) ((bits + Long.SIZE - 1) / Long.SIZE);
 	}
 
 	/**
-	 * Generates a {@link BitSet} representing the bit stream where the ratio of 1s
-	 * and 0s resembles the given probability. This implementation does not apply
-	 * this probability on a per-bit basis but considers the bit length with
-	 * respective rounding effects!
+	 * Adds the values of an array to the values of another.
 	 * 
-	 * @param probability the probability to model with the bit stream
-	 * @return the bit stream
+	 * @param sums   the array to add to
+	 * @param values the values to add
 	 */
-	protected BitSet generateRandomBitstream(double probability) {
-		BitSet bitstream = new BitSet(bitStreamLength);
-		int rValue = (int) Math.round(probability * bitstream.size());
+	protected static void add(long[] sums, long[] values) {
+		for (int i = 0; i < sums.length; i++) {
+			sums[i] += values[i];
+		}
+	}
 
-		ArrayList<Integer> randomIndex = new ArrayList<>();
-		for (int i = 0; i < bitstream.size(); i++) {
-			randomIndex.add(i);
+	/**
+	 * Sets the first words of a stream to a value.
+	 * 
+	 * @param stream the stream
+	 * @param words  the number of words
+	 * @param value  the value
+	 */
+	protected static void fill(long[] stream, int words, long value) {
+		for (int w = 0; w < words; w++) {
+			stream[w] = value;
 		}
-		Collections.shuffle(randomIndex);
+	}
 
-		for (int i = 0; i < rValue; i++) {
-			bitstream.set(randomIndex.get(i), true);
+	/**
+	 * Counts the 1s in the first bits of a stream.
+	 * 
+	 * @param stream the stream
+	 * @param bits   the number of bits to consider
+	 * @return the number of 1s
+	 */
+	protected static long count(long[] stream, int bits) {
+		int full = bits / Long.SIZE;
+		long count = 0;
+		for (int w = 0; w < full; w++) {
+			count += Long.bitCount(stream[w]);
+		}
+		int rest = bits % Long.SIZE;
+		if (rest > 0) {
+			count += Long.bitCount(stream[full] & ((1L << rest) - 1));
 		}
-		return bitstream;
+		return count;
 	}
 
 	/**
@@ -348,4 +850,4 @@ public class SL<T> implements StructureFunction<T> {
 		this.bitStreamLengthStructureFunction = bitStreamLengthStructureFunction;
 	}
 
-}
\ No newline at end of file
+}
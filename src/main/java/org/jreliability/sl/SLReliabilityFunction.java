@@ -14,6 +14,9 @@
  *******************************************************************************/
 package org.jreliability.sl;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.SequentialFunction;
@@ -21,7 +24,9 @@ import org.jreliability.function.UnreliabilityFunction;
 
 /**
  * The {@link SLReliabilityFunction} represents the {@link ReliabilityFunction}
- * using stochastic logic as implemented by {@link SL}.
+ * using stochastic logic as implemented by {@link SL}. Multiple {@code x} values
+ * are evaluated in one pass with correlated bit streams, see
+ * {@link SL#getProbabilities(java.util.function.ToDoubleBiFunction, int)}.
  * 
  * @author glass, jlee
  * 
@@ -62,20 +67,41 @@ public class SLReliabilityFunction<T> extends SequentialFunction implements Reli
 	@Override
 	public double getY(final double x) {
 
-		final Transformer<T, Double> t = new Transformer<T, Double>() {
-			/**
-			 * Default {@link Transformer}.
-			 * 
-			 * @param a parameter a
-			 * @return the double value of a
-			 */
-			@Override
-			public Double transform(T a) {
-				return functionTransformer.transform(a).getY(x);
-			}
-		};
+		return stochasticLogic.getProbabilityPrimitive(a -> functionTransformer.transform(a).getY(x));
+	}
 
-		return stochasticLogic.getProbabiliy(t);
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.function.SequentialFunction#getY(java.util.List)
+	 */
+	@Override
+	public List<Double> getY(List<Double> xs) {
+		double[] x = new double[xs.size()];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = xs.get(i);
+		}
+		double[] y = new double[x.length];
+		getY(x, y);
+		List<Double> ys = new ArrayList<>(y.length);
+		for (double value : y) {
+			ys.add(value);
+		}
+		return ys;
+	}
+
+	/**
+	 * Calculates the {@code y} values for the given {@code x} values in one pass
+	 * of the {@link SL}.
+	 * 
+	 * @param xs the x values
+	 * @param ys the array to write the y values to
+	 */
+	@Override
+	public void getY(double[] xs, double[] ys) {
+		double[] probabilities = stochasticLogic
+				.getProbabilities((a, k) -> functionTransformer.transform(a).getY(xs[k]), xs.length);
+		System.arraycopy(probabilities, 0, ys, 0, xs.length);
 	}
 
 }
@@ -15,7 +15,10 @@
 
 package org.jreliability.bdd;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.collections15.Transformer;
@@ -26,6 +29,7 @@ import org.jreliability.booleanfunction.common.LiteralTerm;
 import org.jreliability.booleanfunction.common.ORTerm;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.common.ExponentialReliabilityFunction;
+import org.jreliability.function.common.ParallelReliabilityFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -85,6 +89,80 @@ public class BDDReliabilityFunctionTest {
 		Assertions.assertEquals(0.9048374, function.getY(10), 1.0E-5);
 	}
 
+	@Test
+	public void testGetYBatch() {
+		Term s1 = new LiteralTerm<>("sensor1");
+		Term s2 = new LiteralTerm<>("sensor2");
+		Term s3 = new LiteralTerm<>("sensor3");
+		ORTerm or = new ORTerm();
+		or.add(s1, s2);
+		ANDTerm and = new ANDTerm();
+		and.add(or, s3);
+
+		BDDTTRF<String> ttrf = new BDDTTRF<String>(provider);
+		BDD<String> bdd = ttrf.convertToBDD(and);
+
+		BDDReliabilityFunction<String> function = new BDDReliabilityFunction<String>(bdd, new TestTransformer());
+
+		double[] xs = new double[600];
+		List<Double> list = new ArrayList<Double>();
+		for (int i = 0; i < xs.length; i++) {
+			xs[i] = i;
+			list.add((double) i);
+		}
+		double[] ys = function.getY(xs);
+		List<Double> ysList = function.getY(list);
+		for (int i = 0; i < xs.length; i++) {
+			Assertions.assertEquals(function.getY(xs[i]), ys[i], 1.0E-12);
+			Assertions.assertEquals(ys[i], ysList.get(i), 1.0E-12);
+		}
+	}
+
+	@Test
+	public void testGetDensity() {
+		ORTerm or = new ORTerm();
+		or.add(new LiteralTerm<>("sensor1"), new LiteralTerm<>("sensor2"));
+		ANDTerm and = new ANDTerm();
+		and.add(or, new LiteralTerm<>("sensor3"));
+
+		BDDTTRF<String> ttrf = new BDDTTRF<String>(provider);
+		BDD<String> bdd = ttrf.convertToBDD(and);
+
+		BDDReliabilityFunction<String> function = new BDDReliabilityFunction<String>(bdd, new TestTransformer());
+
+		/* R = 2r^2 - r^3 with r = e^-(0.005x) */
+		for (double x = 0; x < 1000; x += 10) {
+			double r = Math.exp(-0.005 * x);
+			double density = (4 * r - 3 * r * r) * 0.005 * r;
+			Assertions.assertEquals(density, function.getDensity(x), 1.0E-15);
+			Assertions.assertEquals(density / (2 * r * r - r * r * r), function.getFailureRate(x), 1.0E-12);
+		}
+	}
+
+	@Test
+	public void testGetDensityApproximated() {
+		ORTerm or = new ORTerm();
+		or.add(new LiteralTerm<>("sensor1"), new LiteralTerm<>("sensor2"));
+
+		BDDTTRF<String> ttrf = new BDDTTRF<String>(provider);
+		BDD<String> bdd = ttrf.convertToBDD(or);
+
+		final ReliabilityFunction parallel = new ParallelReliabilityFunction(
+				Collections.<ReliabilityFunction>singleton(new ExponentialReliabilityFunction(0.005)));
+		BDDReliabilityFunction<String> function = new BDDReliabilityFunction<String>(bdd,
+				new Transformer<String, ReliabilityFunction>() {
+					@Override
+					public ReliabilityFunction transform(String input) {
+						return parallel;
+					}
+				});
+		BDDReliabilityFunction<String> exact = new BDDReliabilityFunction<String>(bdd, new TestTransformer());
+
+		for (double x = 0; x < 1000; x += 10) {
+			Assertions.assertEquals(exact.getDensity(x), function.getDensity(x), 1.0E-6);
+		}
+	}
+
 	@Test
 	public void testGetBDD() {
 		String var1 = "sensor1";
@@ -15,6 +15,9 @@
 
 package org.jreliability.bdd;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
 import org.apache.commons.collections15.Predicate;
 import org.apache.commons.collections15.Transformer;
 import org.apache.commons.collections15.functors.AllPredicate;
@@ -22,11 +25,16 @@ import org.apache.commons.collections15.functors.EqualPredicate;
 import org.jreliability.bdd.javabdd.JBDDProviderFactory;
 import org.jreliability.booleanfunction.Term;
 import org.jreliability.booleanfunction.common.ANDTerm;
+import org.jreliability.booleanfunction.common.LinearTerm;
+import org.jreliability.booleanfunction.common.LinearTerm.Comparator;
 import org.jreliability.booleanfunction.common.LiteralTerm;
 import org.jreliability.booleanfunction.common.ORTerm;
+import org.jreliability.common.Estimate;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.common.ExponentialReliabilityFunction;
 import org.jreliability.function.common.SampledReliabilityFunction;
+import org.jreliability.function.common.StreamingSampledReliabilityFunction;
+import org.jreliability.function.common.WeightedSampledReliabilityFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -101,6 +109,23 @@ public class BDDTTRFSimulativeTest {
 		Assertions.assertEquals(samples, function.getSamples().size(), 1.0E-5);
 	}
 
+	@Test
+	public void testConvertStreaming() {
+		String var1 = "sensor1";
+		String var2 = "sensor2";
+		Term s1 = new LiteralTerm<>(var1);
+		Term s2 = new LiteralTerm<>(var2);
+		ANDTerm and = new ANDTerm();
+		and.add(s1, s2);
+
+		BDDTTRFSimulative<String> ttrf = new BDDTTRFSimulative<>(provider, 0.001, 0);
+		StreamingSampledReliabilityFunction function = ttrf.convertStreaming(and, new TestTransformer(), null,
+				200000);
+
+		Assertions.assertEquals(200000, function.getCount());
+		Assertions.assertEquals(Math.exp(-0.01 * 100.0), function.getY(100.0), 0.005);
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Test
 	public void testConvertOneBDD() {
@@ -120,4 +145,112 @@ public class BDDTTRFSimulativeTest {
 		}
 	}
 
+	@Test
+	public void testSimulateReproducible() {
+		Term term = getSeries();
+
+		ExecutorService executor = new ForkJoinPool(4);
+		try {
+			double[] sequential = new BDDTTRFSimulative<>(provider, 0.001, 42).simulateTimesToFailure(term,
+					new TestTransformer(), null, 3000);
+			double[] parallel = new BDDTTRFSimulative<>(provider, 0.001, 42, executor).simulateTimesToFailure(term,
+					new TestTransformer(), null, 3000);
+
+			Assertions.assertArrayEquals(sequential, parallel);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testSimulateParallel() {
+		Term term = getSeries();
+
+		ExecutorService executor = new ForkJoinPool(4);
+		try {
+			BDDTTRFSimulative<String> ttrf = new BDDTTRFSimulative<>(provider, 0.001, 0, executor);
+			double[] times = ttrf.simulateTimesToFailure(term, new TestTransformer(), null, 20000);
+
+			double sum = 0;
+			for (double time : times) {
+				sum += time;
+			}
+			// Two components in series with a failure rate of 0.005 each
+			Assertions.assertEquals(100.0, sum / times.length, 3.0);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testSimulateTimeToFailureOfBDD() {
+		BDD<String> bdd = new BDDTTRF<>(provider).convertToBDD(getSeries(), null);
+
+		BDDTTRFSimulative<String> ttrf = new BDDTTRFSimulative<>(provider, 0.001, 0);
+		double sum = 0;
+		for (int i = 0; i < 5000; i++) {
+			sum += ttrf.simulateTimeToFailure(bdd, new TestTransformer());
+		}
+		Assertions.assertEquals(2, ttrf.getFailures(bdd, new TestTransformer()).size());
+		Assertions.assertEquals(100.0, sum / 5000, 5.0);
+	}
+
+	@Test
+	public void testSimulateAdaptive() {
+		Term term = getSeries();
+
+		BDDTTRFSimulative<String> ttrf = new BDDTTRFSimulative<>(provider, 0.01, 0);
+		Estimate estimate = ttrf.estimateMeanTimeToFailure(term, new TestTransformer(), null, 0.95);
+
+		// The exponential distribution requires about (1.96 / 0.01)^2 runs
+		Assertions.assertTrue(estimate.getSamples() > 30000);
+		Assertions.assertTrue(estimate.getHalfWidth() <= 0.01 * estimate.getValue());
+		Assertions.assertTrue(estimate.getLower() < 100.0 && 100.0 < estimate.getUpper());
+	}
+
+	@Test
+	public void testSimulateAdaptiveGivenPrecision() {
+		Term term = getSeries();
+
+		BDDTTRFSimulative<String> ttrf = new BDDTTRFSimulative<>(provider, 0.001, 0);
+		Estimate estimate = ttrf.estimateMeanTimeToFailure(term, new TestTransformer(), null, 0.02, 0.95);
+
+		// The exponential distribution requires about (1.96 / 0.02)^2 runs
+		Assertions.assertTrue(estimate.getSamples() > 7000 && estimate.getSamples() < 30000);
+		Assertions.assertTrue(estimate.getHalfWidth() <= 0.02 * estimate.getValue());
+		Assertions.assertEquals(0.95, estimate.getConfidence());
+	}
+
+	@Test
+	public void testImportanceSampling() {
+		// 2-out-of-3 system of components with an unreliability of about 1e-5
+		LinearTerm term = new LinearTerm(Comparator.GREATEREQUAL, 2);
+		term.add(new LiteralTerm<>("x"));
+		term.add(new LiteralTerm<>("y"));
+		term.add(new LiteralTerm<>("z"));
+		Transformer<String, ReliabilityFunction> transformer = a -> new ExponentialReliabilityFunction(1.0E-6);
+
+		BDDTTRFSimulative<String> ttrf = new BDDTTRFSimulative<>(provider, 0.001, 0);
+		WeightedSampledReliabilityFunction function = ttrf.convertByImportanceSampling(term, transformer, null,
+				10000, 10.0);
+		double unreliability = 1 - new BDDTTRF<>(provider).convert(term, transformer).getY(10.0);
+		Estimate estimate = function.estimateUnreliability(10.0, 0.95);
+
+		Assertions.assertEquals(unreliability, estimate.getValue(), 0.05 * unreliability);
+		Assertions.assertTrue(estimate.getHalfWidth() < 0.05 * unreliability);
+		Assertions.assertEquals(1 - estimate.getValue(), function.getY(10.0), 1.0E-15);
+	}
+
+	/**
+	 * Returns a series system of two sensors.
+	 * 
+	 * @return the term of the system
+	 */
+	protected Term getSeries() {
+		ANDTerm and = new ANDTerm();
+		and.add(new LiteralTerm<>("sensor1"), new LiteralTerm<>("sensor2"));
+		return and;
+	}
+
 }
@@ -14,6 +14,9 @@
  *******************************************************************************/
 package org.jreliability.bdd;
 
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.bdd.javabdd.JBDDProviderFactory;
 import org.junit.jupiter.api.Assertions;
@@ -76,4 +79,219 @@ public class BDDTopEventTest {
 
 		Assertions.assertEquals(0.891, result, 0.000001);
 	}
+
+	@Test
+	public void testCalculateArray() {
+		BDD<String> a = provider.get("a");
+		BDD<String> b = provider.get("b");
+		BDD<String> bdd = a.or(b);
+		BDD<String> c = provider.get("c");
+		bdd = bdd.and(c);
+
+		BDDTopEvent<String> event = new BDDTopEvent<>(bdd);
+		List<String> variables = event.getVariables();
+		Assertions.assertEquals(3, variables.size());
+
+		double[] probabilities = new double[variables.size()];
+		probabilities[variables.indexOf("a")] = 0.9;
+		probabilities[variables.indexOf("b")] = 0.8;
+		probabilities[variables.indexOf("c")] = 0.5;
+
+		Assertions.assertEquals(0.49, event.calculate(probabilities), 0.000001);
+	}
+
+	@Test
+	public void testCalculateFunction() {
+		BDD<String> a = provider.get("a");
+		BDD<String> b = provider.get("b");
+		BDD<String> bdd = a.or(b);
+		BDD<String> c = provider.get("c");
+		bdd = bdd.and(c);
+
+		BDDTopEvent<String> event = new BDDTopEvent<>(bdd);
+		ToDoubleFunction<String> function = input -> input.equals("a") ? 0.9 : (input.equals("b") ? 0.8 : 0.5);
+
+		Assertions.assertEquals(0.49, event.calculatePrimitive(function), 0.000001);
+		Assertions.assertEquals(0.49, BDDs.calculateTopPrimitive(bdd, function), 0.000001);
+		/* A lambda still resolves to the Transformer variants */
+		Assertions.assertEquals(0.49, event.calculate(input -> function.applyAsDouble(input)), 0.000001);
+		Assertions.assertEquals(0.49, BDDs.calculateTop(bdd, input -> function.applyAsDouble(input)), 0.000001);
+	}
+
+	@Test
+	public void testCalculateDerivatives() {
+		BDD<String> a = provider.get("a");
+		BDD<String> b = provider.get("b");
+		BDD<String> bdd = a.or(b);
+		BDD<String> c = provider.get("c");
+		bdd = bdd.and(c);
+
+		BDDTopEvent<String> event = new BDDTopEvent<>(bdd);
+		List<String> variables = event.getVariables();
+
+		double[] probabilities = new double[variables.size()];
+		probabilities[variables.indexOf("a")] = 0.9;
+		probabilities[variables.indexOf("b")] = 0.8;
+		probabilities[variables.indexOf("c")] = 0.5;
+		double[] derivatives = new double[variables.size()];
+
+		Assertions.assertEquals(0.49, event.calculateDerivatives(probabilities, derivatives), 0.000001);
+		/* R = (a + b - ab) c */
+		Assertions.assertEquals(0.1, derivatives[variables.indexOf("a")], 0.000001);
+		Assertions.assertEquals(0.05, derivatives[variables.indexOf("b")], 0.000001);
+		Assertions.assertEquals(0.98, derivatives[variables.indexOf("c")], 0.000001);
+	}
+
+	@Test
+	public void testCalculateCriticality() {
+		BDD<String> a = provider.get("a");
+		BDD<String> b = provider.get("b");
+		BDD<String> c = provider.get("c");
+		BDD<String> d = provider.get("d");
+		/* b selects between a and not c, d is in series */
+		BDD<String> bdd = a.and(b.not());
+		bdd.orWith(b.and(c.not()));
+		bdd.andWith(d);
+
+		BDDTopEvent<String> event = new BDDTopEvent<>(bdd);
+		List<String> variables = event.getVariables();
+		double[] probabilities = new double[variables.size()];
+		for (int i = 0; i < probabilities.length; i++) {
+			probabilities[i] = 0.9 - 0.2 * i;
+		}
+		Transformer<String, Double> transformer = input -> probabilities[variables.indexOf(input)];
+		double[] buffer = new double[event.size() + 2];
+		Assertions.assertEquals(BDDs.calculateTop(bdd, transformer), event.calculate(probabilities, buffer), 1.0E-12);
+
+		for (String variable : variables) {
+			BDD<String> high = bdd.restrict(provider.get(variable));
+			BDD<String> low = bdd.restrict(provider.get(variable).not());
+			BDD<String> failure = high.and(low.not());
+			BDD<String> repair = low.and(high.not());
+
+			int index = variables.indexOf(variable);
+			Assertions.assertEquals(BDDs.calculateTop(failure, transformer),
+					event.calculateCriticality(probabilities, index, true), 1.0E-12);
+			Assertions.assertEquals(BDDs.calculateTop(repair, transformer),
+					event.calculateCriticality(probabilities, index, false), 1.0E-12);
+		}
+	}
+
+	@Test
+	public void testCalculateDual() {
+		BDD<String> a = provider.get("a");
+		BDD<String> b = provider.get("b");
+		BDD<String> bdd = a.or(b);
+		BDD<String> c = provider.get("c");
+		bdd = bdd.and(c);
+
+		BDDTopEvent<String> event = new BDDTopEvent<>(bdd);
+		List<String> variables = event.getVariables();
+
+		double[] probabilities = new double[variables.size()];
+		probabilities[variables.indexOf("a")] = 0.9;
+		probabilities[variables.indexOf("b")] = 0.8;
+		probabilities[variables.indexOf("c")] = 0.5;
+		double[] derivatives = new double[variables.size()];
+		derivatives[variables.indexOf("a")] = 1.0;
+		double[] result = new double[2];
+
+		event.calculateDual(probabilities, derivatives, result);
+		Assertions.assertEquals(0.49, result[0], 0.000001);
+		Assertions.assertEquals(0.1, result[1], 0.000001);
+
+		/* The directional derivative is the sum of the partial derivatives */
+		derivatives[variables.indexOf("b")] = 1.0;
+		derivatives[variables.indexOf("c")] = 1.0;
+		event.calculateDual(probabilities, derivatives, result);
+		Assertions.assertEquals(0.49, result[0], 0.000001);
+		Assertions.assertEquals(0.1 + 0.05 + 0.98, result[1], 0.000001);
+	}
+
+	@Test
+	public void testGetUnateness() {
+		BDD<String> a = provider.get("a");
+		BDD<String> b = provider.get("b");
+		BDD<String> c = provider.get("c");
+		BDD<String> bdd = a.and(b.not());
+		bdd.orWith(b.and(c.not()));
+
+		BDDTopEvent<String> event = new BDDTopEvent<>(bdd);
+		List<String> variables = event.getVariables();
+
+		/* b selects between a and not c */
+		Assertions.assertEquals(BDDTopEvent.Unateness.POSITIVE, event.getUnateness(variables.indexOf("a")));
+		Assertions.assertEquals(BDDTopEvent.Unateness.BINATE, event.getUnateness(variables.indexOf("b")));
+		Assertions.assertEquals(BDDTopEvent.Unateness.NEGATIVE, event.getUnateness(variables.indexOf("c")));
+	}
+
+	@Test
+	public void testPairMemo() {
+		BDDTopEvent.PairMemo memo = new BDDTopEvent.PairMemo();
+		for (int a = 2; a < 100; a++) {
+			for (int b = 0; b < 10; b++) {
+				memo.put(a, b, a * 10 + b);
+			}
+		}
+		for (int a = 2; a < 100; a++) {
+			for (int b = 0; b < 10; b++) {
+				Assertions.assertEquals(a * 10 + b, memo.get(a, b));
+			}
+		}
+		Assertions.assertTrue(Double.isNaN(memo.get(2, 10)));
+		Assertions.assertTrue(Double.isNaN(memo.get(100, 0)));
+	}
+
+	@Test
+	public void testCalculateFirstPassage() {
+		BDD<String> a = provider.get("a");
+		BDD<String> b = provider.get("b");
+		BDD<String> c = provider.get("c");
+		BDD<String> bdd = a.and(b);
+		bdd.orWith(a.and(c));
+		bdd.orWith(b.and(c));
+
+		BDDTopEvent<String> event = new BDDTopEvent<>(bdd);
+		List<String> variables = event.getVariables();
+		double[] times = new double[event.size() + 2];
+		double[] failures = new double[3];
+		failures[variables.indexOf("a")] = 1.0;
+		failures[variables.indexOf("b")] = 3.0;
+		failures[variables.indexOf("c")] = 2.0;
+
+		/* The 2-out-of-3 system fails with the second component */
+		Assertions.assertEquals(2.0, event.calculateFirstPassage(failures, times), 0.000001);
+	}
+
+	@Test
+	public void testCalculateFirstPassageNonCoherent() {
+		BDD<String> a = provider.get("a");
+		BDD<String> b = provider.get("b");
+		BDD<String> bdd = a.and(b.not());
+
+		BDDTopEvent<String> event = new BDDTopEvent<>(bdd);
+		List<String> variables = event.getVariables();
+		double[] times = new double[event.size() + 2];
+		double[] failures = new double[2];
+		failures[variables.indexOf("a")] = 5.0;
+		failures[variables.indexOf("b")] = 2.0;
+
+		/* The failure of b does not cause a system failure */
+		Assertions.assertEquals(5.0, event.calculateFirstPassage(failures, times), 0.000001);
+
+		failures[variables.indexOf("a")] = 1.0;
+		Assertions.assertEquals(1.0, event.calculateFirstPassage(failures, times), 0.000001);
+
+		BDDTopEvent<String> one = new BDDTopEvent<>(provider.one());
+		Assertions.assertEquals(Double.POSITIVE_INFINITY, one.calculateFirstPassage(new double[0], new double[2]));
+	}
+
+	@Test
+	public void testCalculateTerminal() {
+		BDDTopEvent<String> event = new BDDTopEvent<>(provider.one());
+
+		Assertions.assertTrue(event.getVariables().isEmpty());
+		Assertions.assertEquals(0, event.size());
+		Assertions.assertEquals(1.0, event.calculate(new double[0]), 0.000001);
+	}
 }
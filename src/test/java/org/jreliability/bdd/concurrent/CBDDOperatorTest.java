@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.bdd.concurrent;
+
+import org.jreliability.bdd.AbstractBDDOperatorTest;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * The {@link CBDDOperatorTest} is the {@link AbstractBDDOperatorTest} for the
+ * {@link CBDD}.
+ * 
+ * @author glass
+ * 
+ */
+public class CBDDOperatorTest extends AbstractBDDOperatorTest {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.test.AbstractBDDTest#init()
+	 */
+	@Override
+	@BeforeEach
+	public void init() {
+		this.factory = new CBDDProviderFactory();
+		initProvider();
+	}
+
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.bdd.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.jreliability.bdd.AbstractBDDProviderTest;
+import org.jreliability.bdd.BDD;
+import org.jreliability.bdd.BDDProvider;
+import org.jreliability.bdd.BDDs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link CBDDProviderTest} is the {@link AbstractBDDProviderTest} for the
+ * {@link CBDDProvider}.
+ * 
+ * @author glass
+ * 
+ */
+public class CBDDProviderTest extends AbstractBDDProviderTest {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.test.AbstractBDDProviderTest#init()
+	 */
+	@Override
+	@BeforeEach
+	public void init() {
+		this.factory = new CBDDProviderFactory();
+	}
+
+	/**
+	 * Builds a ring of exclusive-or terms of pairwise conjunctions to exercise
+	 * the unique table and the cache.
+	 * 
+	 * @param provider
+	 *            the provider
+	 * @param n
+	 *            the number of variables
+	 * @return the bdd
+	 */
+	protected BDD<String> build(BDDProvider<String> provider, int n) {
+		BDD<String> bdd = provider.zero();
+		for (int i = 0; i < n; i++) {
+			BDD<String> term = provider.get("v" + i).and(provider.get("v" + ((i + 1) % n)));
+			bdd.orWith(term.xor(provider.get("w" + i)));
+		}
+		return bdd;
+	}
+
+	@Test
+	public void testResize() {
+		CBDDProvider<String> provider = new CBDDProvider<>(16, 1 << 12);
+		BDD<String> bdd = build(provider, 200);
+		BDD<String> reference = build(factory.getProvider(), 200);
+
+		Assertions.assertTrue(provider.getOperations().getTable().getAllocatedNodes() > 1024);
+		Assertions.assertEquals(reference.nodeCount(), bdd.nodeCount());
+		Assertions.assertEquals(BDDs.calculateTop(reference, (String s) -> 0.3),
+				BDDs.calculateTop(bdd, (String s) -> 0.3), 1.0E-12);
+	}
+
+	@Test
+	public void testParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			BDDProvider<String> sequential = new CBDDProviderFactory().getProvider();
+			BDDProvider<String> parallel = new CBDDProviderFactory(pool).getProvider();
+
+			BDD<String> a = build(sequential, 40);
+			BDD<String> b = build(parallel, 40);
+
+			Assertions.assertEquals(a.nodeCount(), b.nodeCount());
+			Assertions.assertEquals(BDDs.calculateTop(a, (String s) -> 0.3), BDDs.calculateTop(b, (String s) -> 0.3),
+					1.0E-12);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testConcurrent() throws Exception {
+		BDDProvider<String> provider = factory.getProvider();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<BDD<String>>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> build(provider, 30)));
+			}
+			BDD<String> reference = build(provider, 30);
+			for (Future<BDD<String>> result : results) {
+				Assertions.assertEquals(reference, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
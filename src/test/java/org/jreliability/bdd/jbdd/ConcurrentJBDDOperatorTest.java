@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.bdd.jbdd;
+
+import org.jreliability.bdd.AbstractBDDOperatorTest;
+import org.jreliability.bdd.javabdd.ConcurrentJBDDProvider;
+import org.jreliability.bdd.javabdd.ConcurrentJBDDProviderFactory;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * The {@link ConcurrentJBDDOperatorTest} is the
+ * {@link AbstractBDDOperatorTest} for the {@link ConcurrentJBDDProvider}.
+ * 
+ * @author lukasiewycz
+ * 
+ */
+public class ConcurrentJBDDOperatorTest extends AbstractBDDOperatorTest {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.test.AbstractBDDTest#init()
+	 */
+	@Override
+	@BeforeEach
+	public void init() {
+		this.factory = new ConcurrentJBDDProviderFactory();
+		initProvider();
+	}
+
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.bdd.jbdd;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jreliability.bdd.AbstractBDDProviderTest;
+import org.jreliability.bdd.BDD;
+import org.jreliability.bdd.BDDProvider;
+import org.jreliability.bdd.BDDTTRF;
+import org.jreliability.bdd.javabdd.ConcurrentJBDDProvider;
+import org.jreliability.bdd.javabdd.ConcurrentJBDDProviderFactory;
+import org.jreliability.function.ReliabilityFunction;
+import org.jreliability.function.common.ExponentialReliabilityFunction;
+import org.jreliability.testsystems.TMR;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 
+ * The {@link ConcurrentJBDDProviderTest} is the {@link AbstractBDDProviderTest}
+ * for the {@link ConcurrentJBDDProvider}.
+ * 
+ * @author lukasiewycz
+ * 
+ */
+public class ConcurrentJBDDProviderTest extends AbstractBDDProviderTest {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.jreliability.test.AbstractBDDProviderTest#init()
+	 */
+	@Override
+	@BeforeEach
+	public void init() {
+		this.factory = new ConcurrentJBDDProviderFactory();
+	}
+
+	@Test
+	public void testVariableIndices() throws Exception {
+		ConcurrentJBDDProvider<String> provider = new ConcurrentJBDDProvider<>(10);
+		BDD<String> a = provider.get("a");
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			BDD<String> b = executor.submit(() -> provider.get("b")).get();
+			BDD<String> aOther = executor.submit(() -> provider.get("a")).get();
+
+			Assertions.assertEquals("b", provider.get(b));
+			Assertions.assertEquals("a", provider.get(aOther));
+			Assertions.assertEquals(a.var(), aOther.var());
+			Assertions.assertSame(provider, b.getProvider());
+			Assertions.assertNotSame(provider.getFactory(), executor.submit(() -> provider.getFactory()).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testConcurrentConversion() throws Exception {
+		BDDProvider<String> provider = factory.getProvider();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Double>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				results.add(executor.submit(() -> {
+					TMR system = new TMR(new ExponentialReliabilityFunction(0.01),
+							new ExponentialReliabilityFunction(0.02), new ExponentialReliabilityFunction(0.03));
+					BDDTTRF<String> ttrf = new BDDTTRF<>(provider);
+					ReliabilityFunction function = ttrf.convert(system.getTerm(), system.getTransformer());
+					return function.getY(10);
+				}));
+			}
+
+			/* R = p1 p2 + p1 p3 + p2 p3 - 2 p1 p2 p3 */
+			double p1 = Math.exp(-0.1), p2 = Math.exp(-0.2), p3 = Math.exp(-0.3);
+			double expected = p1 * p2 + p1 * p3 + p2 * p3 - 2 * p1 * p2 * p3;
+			for (Future<Double> result : results) {
+				Assertions.assertEquals(expected, result.get(), 1.0E-9);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.booleanfunction;
+
+import org.jreliability.booleanfunction.common.ANDTerm;
+import org.jreliability.booleanfunction.common.LinearTerm;
+import org.jreliability.booleanfunction.common.LinearTerm.Comparator;
+import org.jreliability.booleanfunction.common.LiteralTerm;
+import org.jreliability.booleanfunction.common.NOTTerm;
+import org.jreliability.booleanfunction.common.ORTerm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link TermDAGTest} tests the {@link TermDAG}.
+ * 
+ * @author glass
+ *
+ */
+public class TermDAGTest {
+
+	@Test
+	public void testSharing() {
+		Term first = TermUtils.getTermFromString("(OR \"a\" (AND \"b\" \"c\"))");
+		Term second = TermUtils.getTermFromString("(OR (AND \"c\" \"b\") \"a\")");
+		ANDTerm term = new ANDTerm();
+		term.add(first, second, new NOTTerm(first));
+
+		TermDAG dag = new TermDAG(term);
+		// a, b, c, AND, OR, NOT, and the root
+		Assertions.assertEquals(7, dag.size());
+		int[] operands = dag.getOperands(dag.getRoot());
+		Assertions.assertEquals(operands[0], operands[1]);
+		Assertions.assertEquals(operands[0], dag.getOperands(operands[2])[0]);
+		Assertions.assertSame(term, dag.getTerm(dag.getRoot()));
+	}
+
+	@Test
+	public void testTopologicalOrder() {
+		Term term = TermUtils.getTermFromString("(AND (OR \"a\" \"b\") (NOT (OR \"b\" \"a\")) \"c\")");
+
+		TermDAG dag = new TermDAG(term);
+		for (int node = 0; node < dag.size(); node++) {
+			for (int operand : dag.getOperands(node)) {
+				Assertions.assertTrue(operand < node);
+				Assertions.assertTrue(dag.getLastUse(operand) >= node);
+			}
+		}
+		Assertions.assertEquals(-1, dag.getLastUse(dag.getRoot()));
+	}
+
+	@Test
+	public void testLiterals() {
+		ORTerm term = new ORTerm();
+		term.add(new LiteralTerm<>("a"), new LiteralTerm<>("a"), new LiteralTerm<>("b"));
+
+		TermDAG dag = new TermDAG(term);
+		Assertions.assertEquals(3, dag.size());
+		int[] operands = dag.getOperands(dag.getRoot());
+		Assertions.assertEquals(operands[0], operands[1]);
+		Assertions.assertNotEquals(operands[0], operands[2]);
+	}
+
+	@Test
+	public void testLinearTerms() {
+		LinearTerm first = new LinearTerm(Comparator.GREATEREQUAL, 1);
+		first.add(new LiteralTerm<>("a"));
+		first.add(new LiteralTerm<>("b"));
+		LinearTerm second = new LinearTerm(Comparator.GREATEREQUAL, 2);
+		second.add(new LiteralTerm<>("a"));
+		second.add(new LiteralTerm<>("b"));
+		LinearTerm third = new LinearTerm(Comparator.GREATEREQUAL, 1);
+		third.add(new LiteralTerm<>("a"));
+		third.add(new LiteralTerm<>("b"));
+		ANDTerm term = new ANDTerm();
+		term.add(first, second, third);
+
+		TermDAG dag = new TermDAG(term);
+		int[] operands = dag.getOperands(dag.getRoot());
+		Assertions.assertNotEquals(operands[0], operands[1]);
+		Assertions.assertEquals(operands[0], operands[2]);
+	}
+
+}
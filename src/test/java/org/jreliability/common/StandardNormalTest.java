@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link StandardNormalTest} to test the {@link StandardNormal}.
+ * 
+ * @author glass
+ *
+ */
+public class StandardNormalTest {
+
+	@Test
+	public void testQuantile() {
+		Assertions.assertEquals(0.0, StandardNormal.quantile(0.5), 1.0E-9);
+		Assertions.assertEquals(1.959963985, StandardNormal.quantile(0.975), 1.0E-8);
+		Assertions.assertEquals(-2.326347874, StandardNormal.quantile(0.01), 1.0E-8);
+		Assertions.assertEquals(Double.POSITIVE_INFINITY, StandardNormal.quantile(1.0));
+		Assertions.assertEquals(Double.NEGATIVE_INFINITY, StandardNormal.quantile(0.0));
+	}
+
+}
@@ -16,6 +16,7 @@
 package org.jreliability.evaluator;
 
 import org.jreliability.function.common.ExponentialReliabilityFunction;
+import org.jreliability.function.common.WeibullReliabilityFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -47,4 +48,31 @@ public class IntegralEvaluatorTest {
 		Assertions.assertEquals(integral, 5.94119, 1.0E-5);
 	}
 
+	@Test
+	public void testEvaluateWearOut() {
+		// Flat for a long stretch and steep near the wear-out at 100
+		WeibullReliabilityFunction f = new WeibullReliabilityFunction(0.01, 20);
+		IntegralEvaluator evaluator = new IntegralEvaluator();
+		double integral = evaluator.evaluate(f, 0, 1000);
+		Assertions.assertEquals(97.35042655627, integral, 1.0E-8);
+		Assertions.assertTrue(evaluator.getEvaluations() < 1000);
+	}
+
+	@Test
+	public void testReversedBounds() {
+		ExponentialReliabilityFunction f = new ExponentialReliabilityFunction(0.01);
+		IntegralEvaluator evaluator = new IntegralEvaluator();
+		Assertions.assertEquals(-evaluator.evaluate(f, 0, 2), evaluator.evaluate(f, 2, 0), 0.0);
+		Assertions.assertEquals(0.0, evaluator.evaluate(f, 2, 2), 0.0);
+	}
+
+	@Test
+	public void testEvaluateToInfinity() {
+		ExponentialReliabilityFunction f = new ExponentialReliabilityFunction(0.01);
+		IntegralEvaluator evaluator = new IntegralEvaluator();
+		Assertions.assertEquals(100.0, evaluator.evaluateToInfinity(f, 0, 1), 1.0E-8);
+		Assertions.assertEquals(100.0, evaluator.evaluateToInfinity(f, 0, 64), 1.0E-8);
+		Assertions.assertEquals(100.0 * Math.exp(-0.5), evaluator.evaluateToInfinity(f, 50, 64), 1.0E-8);
+	}
+
 }
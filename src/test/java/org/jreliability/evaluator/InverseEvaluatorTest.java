@@ -20,6 +20,9 @@ import org.jreliability.booleanfunction.common.ANDTerm;
 import org.jreliability.booleanfunction.common.LiteralTerm;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.common.ExponentialReliabilityFunction;
+import org.jreliability.function.common.ParallelReliabilityFunction;
+import org.jreliability.function.common.SerialReliabilityFunction;
+import org.jreliability.function.common.WeibullReliabilityFunction;
 import org.jreliability.sl.SL;
 import org.jreliability.sl.SLReliabilityFunction;
 import org.junit.jupiter.api.Assertions;
@@ -40,6 +43,14 @@ public class InverseEvaluatorTest {
 		Assertions.assertEquals(evaluator.evaluate(f, 0.876), 26.4778, 1.0E-4);
 	}
 
+	@Test
+	public void testEvaluateInvertible() {
+		WeibullReliabilityFunction f = new WeibullReliabilityFunction(0.01, 2);
+		InverseEvaluator evaluator = new InverseEvaluator();
+		// Closed form: (-ln(y))^(1/beta) / alpha
+		Assertions.assertEquals(Math.sqrt(-Math.log(0.5)) * 100, evaluator.evaluate(f, 0.5), 1.0E-9);
+	}
+
 	/**
 	 * If the analysis is not sufficiently accurate, bisection may run into an
 	 * endless loop if accurracy is set too high. The evaluator should take care of
@@ -65,4 +76,25 @@ public class InverseEvaluatorTest {
 		Assertions.assertEquals(evaluator.evaluate(reliabilityFunction, 0.905), 1.0, 0.1);
 	}
 
+	@Test
+	public void testEvaluateAnalyticSerial() {
+		SerialReliabilityFunction f = new SerialReliabilityFunction();
+		f.add(new ExponentialReliabilityFunction(0.002));
+		f.add(new ExponentialReliabilityFunction(0.003));
+		InverseEvaluator evaluator = new InverseEvaluator();
+		Assertions.assertEquals(-Math.log(0.876) / 0.005, evaluator.evaluate(f, 0.876), 1.0E-12);
+	}
+
+	@Test
+	public void testEvaluateAfterAdd() {
+		ParallelReliabilityFunction f = new ParallelReliabilityFunction();
+		f.add(new ExponentialReliabilityFunction(0.1));
+		InverseEvaluator evaluator = new InverseEvaluator();
+		Assertions.assertEquals(Math.log(2) / 0.1, evaluator.evaluate(f, 0.5), 1.0E-6);
+
+		f.add(new ExponentialReliabilityFunction(0.1));
+		// 1 - (1 - exp(-0.1x))^2 = 0.5
+		Assertions.assertEquals(-Math.log(1 - Math.sqrt(0.5)) / 0.1, evaluator.evaluate(f, 0.5), 1.0E-6);
+	}
+
 }
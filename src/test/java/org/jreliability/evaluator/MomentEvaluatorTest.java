@@ -15,7 +15,14 @@
 
 package org.jreliability.evaluator;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.common.ExponentialReliabilityFunction;
+import org.jreliability.function.common.HjorthReliabilityFunction;
+import org.jreliability.function.common.SerialReliabilityFunction;
+import org.jreliability.function.common.WeibullReliabilityFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -52,4 +59,45 @@ public class MomentEvaluatorTest {
 		Assertions.assertEquals(integral, 6.0E6, 1.0E-3);
 	}
 
+	@Test
+	public void testEvaluations() {
+		HjorthReliabilityFunction f = new HjorthReliabilityFunction(0.01, 0.0001, 0.01);
+		MomentEvaluator evaluator = new MomentEvaluator(1);
+		evaluator.evaluate(f);
+		long evaluations = evaluator.getEvaluations();
+		Assertions.assertTrue(evaluations > 0);
+		evaluator.evaluate(f);
+		Assertions.assertEquals(2 * evaluations, evaluator.getEvaluations());
+	}
+
+	@Test
+	public void testLongLivedMomentEvaluate() {
+		Set<ReliabilityFunction> functions = new HashSet<>();
+		functions.add(new ExponentialReliabilityFunction(1.0E-6));
+		functions.add(new ExponentialReliabilityFunction(1.0E-6));
+		functions.add(new ExponentialReliabilityFunction(3.0E-6));
+		SerialReliabilityFunction f = new SerialReliabilityFunction(functions);
+		MomentEvaluator evaluator = new MomentEvaluator(1);
+		Assertions.assertEquals(2.0E5, evaluator.evaluate(f), 1.0E-5);
+	}
+
+	@Test
+	public void testWeibullMomentEvaluate() {
+		WeibullReliabilityFunction f = new WeibullReliabilityFunction(0.01, 2);
+		MomentEvaluator evaluator = new MomentEvaluator(1);
+		Assertions.assertEquals(50 * Math.sqrt(Math.PI), evaluator.evaluate(f), 1.0E-10);
+		Assertions.assertEquals(0, evaluator.getEvaluations());
+	}
+
+	@Test
+	public void testAnalyticSerialMomentEvaluate() {
+		SerialReliabilityFunction f = new SerialReliabilityFunction();
+		f.add(new WeibullReliabilityFunction(0.01, 2));
+		f.add(new WeibullReliabilityFunction(0.01, 2));
+		MomentEvaluator evaluator = new MomentEvaluator(2);
+		// Equivalent to a Weibull function with alpha = sqrt(2) * 0.01
+		Assertions.assertEquals(1.0E4 / 2, evaluator.evaluate(f), 1.0E-9);
+		Assertions.assertEquals(0, evaluator.getEvaluations());
+	}
+
 }
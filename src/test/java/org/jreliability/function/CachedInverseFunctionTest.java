@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.function;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jreliability.function.common.ExponentialReliabilityFunction;
+import org.jreliability.function.common.SerialReliabilityFunction;
+import org.jreliability.function.common.WeibullReliabilityFunction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link CachedInverseFunctionTest} to test the
+ * {@link CachedInverseFunction}.
+ * 
+ * @author glass
+ *
+ */
+public class CachedInverseFunctionTest {
+
+	/**
+	 * Returns a {@link ReliabilityFunction} without a closed-form inverse.
+	 * 
+	 * @return the reliability function
+	 */
+	protected ReliabilityFunction getFunction() {
+		Set<ReliabilityFunction> functions = new HashSet<>();
+		functions.add(new ExponentialReliabilityFunction(0.002));
+		functions.add(new WeibullReliabilityFunction(0.01, 2));
+		return new SerialReliabilityFunction(functions);
+	}
+
+	@Test
+	public void testCopy() {
+		CachedInverseFunction cached = new CachedInverseFunction(getFunction());
+		InverseFunction copy = cached.copy();
+
+		Assertions.assertTrue(copy instanceof CachedInverseFunction);
+		for (double y = 0.01; y < 1; y += 0.01) {
+			Assertions.assertEquals(cached.getY(y), copy.getY(y), 0.0);
+		}
+	}
+
+	@Test
+	public void testGetY() {
+		ReliabilityFunction f = getFunction();
+		InverseFunction inverse = new InverseFunction(f);
+		CachedInverseFunction cached = new CachedInverseFunction(f);
+
+		for (double y = 0.001; y < 1; y += 0.001) {
+			double x = inverse.getY(y);
+			Assertions.assertEquals(x, cached.getY(y), 1.0E-3 * x + 1.0E-6);
+		}
+	}
+
+	@Test
+	public void testMonotone() {
+		CachedInverseFunction cached = new CachedInverseFunction(getFunction());
+
+		double last = cached.getY(1.0);
+		for (double y = 1.0; y > 1.0E-6; y *= 0.99) {
+			double x = cached.getY(y);
+			Assertions.assertTrue(x >= last);
+			last = x;
+		}
+	}
+
+	@Test
+	public void testGetYBelowSpline() {
+		ReliabilityFunction f = getFunction();
+		CachedInverseFunction cached = new CachedInverseFunction(f);
+
+		Assertions.assertEquals(1.0E-14, f.getY(cached.getY(1.0E-14)), 1.0E-7);
+	}
+
+}
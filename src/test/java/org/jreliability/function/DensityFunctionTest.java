@@ -28,7 +28,13 @@
  */
 package org.jreliability.function;
 
+import org.jreliability.function.common.ConstantReliabilityFunction;
 import org.jreliability.function.common.ExponentialReliabilityFunction;
+import org.jreliability.function.common.HjorthReliabilityFunction;
+import org.jreliability.function.common.NMWDReliabilityFunction;
+import org.jreliability.function.common.NormalReliabilityFunction;
+import org.jreliability.function.common.ParallelReliabilityFunction;
+import org.jreliability.function.common.SerialReliabilityFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +52,65 @@ public class DensityFunctionTest {
 		Assertions.assertEquals(0.00452419, function.getY(20), 1.0E-5);
 	}
 
+	@Test
+	public void testGetYExact() {
+		DensityFunction function = new DensityFunction(new ExponentialReliabilityFunction(0.005));
+		Assertions.assertEquals(0.005 * Math.exp(-0.1), function.getY(20), 1.0E-15);
+	}
+
+	@Test
+	public void testGetYUnreliability() {
+		ExponentialReliabilityFunction reliabilityFunction = new ExponentialReliabilityFunction(0.005);
+		DensityFunction function = new DensityFunction(new UnreliabilityFunction(reliabilityFunction));
+		Assertions.assertEquals(reliabilityFunction.getDensity(20), function.getY(20), 1.0E-15);
+	}
+
+	@Test
+	public void testGetYAnalyticSerial() {
+		SerialReliabilityFunction reliabilityFunction = new SerialReliabilityFunction();
+		reliabilityFunction.add(new ExponentialReliabilityFunction(0.002));
+		reliabilityFunction.add(new ExponentialReliabilityFunction(0.003));
+		DensityFunction function = new DensityFunction(reliabilityFunction);
+		Assertions.assertEquals(0.005 * Math.exp(-0.1), function.getY(20), 1.0E-15);
+	}
+
+	@Test
+	public void testGetYAfterAdd() {
+		SerialReliabilityFunction reliabilityFunction = new SerialReliabilityFunction();
+		reliabilityFunction.add(new ExponentialReliabilityFunction(0.002));
+		DensityFunction function = new DensityFunction(new UnreliabilityFunction(reliabilityFunction));
+		Assertions.assertEquals(0.002 * Math.exp(-0.04), function.getY(20), 1.0E-15);
+
+		reliabilityFunction.add(new ExponentialReliabilityFunction(0.003));
+		Assertions.assertEquals(0.005 * Math.exp(-0.1), function.getY(20), 1.0E-15);
+	}
+
+	@Test
+	public void testGetYExactIsAbsolute() {
+		ExponentialReliabilityFunction reliabilityFunction = new ExponentialReliabilityFunction(1.0) {
+			@Override
+			public double getDensity(double x) {
+				return -super.getDensity(x);
+			}
+		};
+		DensityFunction function = new DensityFunction(reliabilityFunction);
+		Assertions.assertEquals(Math.exp(-1), function.getY(1), 1.0E-15);
+	}
+
+	@Test
+	public void testGetYDistributions() {
+		ReliabilityFunction[] functions = { new HjorthReliabilityFunction(0.01, 0.0001, 0.01),
+				new NMWDReliabilityFunction(0.001, 0.01, 0.5), new NormalReliabilityFunction(5.5, 1),
+				new ConstantReliabilityFunction(0.9) };
+		for (ReliabilityFunction reliabilityFunction : functions) {
+			DensityFunction function = new DensityFunction(reliabilityFunction);
+			ParallelReliabilityFunction parallel = new ParallelReliabilityFunction();
+			parallel.add(reliabilityFunction);
+			DensityFunction approximated = new DensityFunction(parallel);
+			for (double x = 1; x < 10; x++) {
+				Assertions.assertEquals(approximated.getY(x), function.getY(x), 1.0E-6);
+			}
+		}
+	}
+
 }
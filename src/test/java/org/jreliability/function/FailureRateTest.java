@@ -14,7 +14,13 @@
  *******************************************************************************/
 package org.jreliability.function;
 
+import java.util.Collections;
+
 import org.jreliability.function.common.ExponentialReliabilityFunction;
+import org.jreliability.function.common.HjorthReliabilityFunction;
+import org.jreliability.function.common.ParallelReliabilityFunction;
+import org.jreliability.function.common.SerialReliabilityFunction;
+import org.jreliability.function.common.WeibullReliabilityFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -40,10 +46,47 @@ public class FailureRateTest {
 	public void testGetYAtZero() {
 		/*
 		 * FailureRate for ExponentialDistribution equals the lambda parameter and is
-		 * constant"
+		 * constant, even if the reliability is rounded to 0"
 		 */
 		FailureRate failureRate = new FailureRate(new ExponentialReliabilityFunction(0.1));
+		Assertions.assertEquals(0.1, failureRate.getY(1.0E12), 1.0E-5);
+	}
+
+	@Test
+	public void testGetYAtZeroApproximated() {
+		/*
+		 * The approximation via the DensityFunction fails if the reliability is
+		 * rounded to 0
+		 */
+		ParallelReliabilityFunction function = new ParallelReliabilityFunction();
+		function.add(new ExponentialReliabilityFunction(0.1));
+		FailureRate failureRate = new FailureRate(function);
 		Assertions.assertEquals(Double.NaN, failureRate.getY(1.0E12), 1.0E-5);
 	}
 
+	@Test
+	public void testGetYWeibull() {
+		FailureRate failureRate = new FailureRate(new WeibullReliabilityFunction(0.01, 2));
+		Assertions.assertEquals(2 * 0.01 * 0.01 * 50, failureRate.getY(50), 1.0E-15);
+	}
+
+	@Test
+	public void testGetYHjorth() {
+		HjorthReliabilityFunction function = new HjorthReliabilityFunction(0.01, 0.0001, 0.01);
+		FailureRate failureRate = new FailureRate(function);
+		FailureRate approximated = new FailureRate(new ParallelReliabilityFunction(Collections.singleton(function)));
+		Assertions.assertEquals(approximated.getY(100), failureRate.getY(100), 1.0E-6);
+	}
+
+	@Test
+	public void testGetYAfterAdd() {
+		SerialReliabilityFunction serial = new SerialReliabilityFunction();
+		serial.add(new ExponentialReliabilityFunction(0.1));
+		FailureRate failureRate = new FailureRate(serial);
+		Assertions.assertEquals(0.1, failureRate.getY(1), 1.0E-15);
+
+		serial.add(new ExponentialReliabilityFunction(0.4));
+		Assertions.assertEquals(0.5, failureRate.getY(1), 1.0E-15);
+	}
+
 }
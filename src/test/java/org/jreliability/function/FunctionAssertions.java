@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+package org.jreliability.function;
+
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * The {@link FunctionAssertions} provide assertions that are shared by the
+ * tests of the {@link Function}s.
+ * 
+ * @author glass
+ *
+ */
+public abstract class FunctionAssertions {
+
+	/**
+	 * Asserts that {@link Function#getY(double[], double[])} equals the
+	 * pointwise {@link Function#getY(double)} of the {@link Function}.
+	 * 
+	 * @param function
+	 *            the function
+	 */
+	public static void assertGetYArray(Function function) {
+		double[] xs = { 0.0, 0.1, 0.5, 20.0, 100.0 };
+		double[] ys = new double[xs.length];
+		function.getY(xs, ys);
+		for (int i = 0; i < xs.length; i++) {
+			Assertions.assertEquals(function.getY(xs[i]), ys[i], 1.0E-15);
+		}
+	}
+
+}
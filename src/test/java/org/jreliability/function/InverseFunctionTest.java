@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.function;
+
+import org.jreliability.function.common.ExponentialReliabilityFunction;
+import org.jreliability.function.common.SerialReliabilityFunction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link InverseFunctionTest} to test the {@link InverseFunction}.
+ * 
+ * @author glass
+ *
+ */
+public class InverseFunctionTest {
+
+	/**
+	 * The {@link CountingFunction} is the reliability function
+	 * {@code R(x) = exp(-0.002x - (0.01x)^2)} without a closed-form inverse
+	 * that counts its evaluations.
+	 */
+	protected static class CountingFunction extends SequentialFunction implements ReliabilityFunction {
+
+		protected int evaluations = 0;
+
+		@Override
+		public double getY(double x) {
+			evaluations++;
+			return Math.exp(-0.002 * x - 0.0001 * x * x);
+		}
+	}
+
+	/**
+	 * The {@link DifferentiableCountingFunction} is a {@link CountingFunction}
+	 * that also provides its density.
+	 */
+	protected static class DifferentiableCountingFunction extends CountingFunction
+			implements DifferentiableReliabilityFunction {
+
+		@Override
+		public double getDensity(double x) {
+			return (0.002 + 0.0002 * x) * Math.exp(-0.002 * x - 0.0001 * x * x);
+		}
+	}
+
+	/**
+	 * Returns the exact inverse of the {@link CountingFunction}.
+	 * 
+	 * @param y
+	 *            the y value
+	 * @return the x value
+	 */
+	protected double getInverse(double y) {
+		return (-0.002 + Math.sqrt(0.002 * 0.002 - 4 * 0.0001 * Math.log(y))) / 0.0002;
+	}
+
+	@Test
+	public void testSecant() {
+		CountingFunction f = new CountingFunction();
+		InverseFunction inverse = new InverseFunction(f);
+		for (double y = 0.01; y < 1; y += 0.01) {
+			double x = getInverse(y);
+			Assertions.assertEquals(x, inverse.getY(y), 1.0E-9 * x);
+		}
+		Assertions.assertTrue(f.evaluations < 99 * 12);
+	}
+
+	@Test
+	public void testNewton() {
+		DifferentiableCountingFunction f = new DifferentiableCountingFunction();
+		InverseFunction inverse = new InverseFunction(f);
+		for (double y = 0.01; y < 1; y += 0.01) {
+			double x = getInverse(y);
+			Assertions.assertEquals(x, inverse.getY(y), 1.0E-9 * x);
+		}
+		Assertions.assertTrue(f.evaluations < 99 * 8);
+	}
+
+	@Test
+	public void testWarmStart() {
+		CountingFunction f = new CountingFunction();
+		InverseFunction inverse = new InverseFunction(f);
+		double x = inverse.getY(0.5);
+		int evaluations = f.evaluations;
+
+		// A repeated call evaluates the function again, starting at the result
+		Assertions.assertEquals(x, inverse.getY(0.5), 1.0E-9 * x);
+		Assertions.assertTrue(f.evaluations > evaluations);
+		Assertions.assertTrue(f.evaluations - evaluations < evaluations);
+
+		evaluations = f.evaluations;
+		Assertions.assertEquals(getInverse(0.501), inverse.getY(0.501), 1.0E-9 * x);
+		Assertions.assertTrue(f.evaluations - evaluations < evaluations / 2);
+	}
+
+	@Test
+	public void testCopy() {
+		CountingFunction f = new CountingFunction();
+		InverseFunction inverse = new InverseFunction(f);
+		inverse.getY(0.9);
+
+		// The copy does not depend on the warm start of the original
+		InverseFunction copy = inverse.copy();
+		Assertions.assertEquals(new InverseFunction(f).getY(0.5), copy.getY(0.5), 0.0);
+	}
+
+	@Test
+	public void testReliabilityFunctionSet() {
+		SerialReliabilityFunction serial = new SerialReliabilityFunction();
+		serial.add(new ExponentialReliabilityFunction(0.1));
+		InverseFunction inverse = new InverseFunction(serial);
+		Assertions.assertEquals(Math.log(2) / 0.1, inverse.getY(0.5), 1.0E-9);
+
+		serial.add(new ExponentialReliabilityFunction(0.4));
+		Assertions.assertEquals(Math.log(2) / 0.5, inverse.getY(0.5), 1.0E-9);
+		Assertions.assertEquals(0.5, serial.getY(inverse.getY(0.5)), 1.0E-12);
+	}
+
+	@Test
+	public void testFullPrecision() {
+		CountingFunction f = new CountingFunction();
+		InverseFunction inverse = new InverseFunction(f, 0);
+		double x = getInverse(1.0E-14);
+		Assertions.assertEquals(x, inverse.getY(1.0E-14), 1.0E-12 * x);
+		Assertions.assertEquals(0.0, inverse.getY(1.0), 1.0E-300);
+	}
+
+}
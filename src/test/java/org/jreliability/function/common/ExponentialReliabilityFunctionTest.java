@@ -15,6 +15,7 @@
 
 package org.jreliability.function.common;
 
+import org.jreliability.function.FunctionAssertions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -45,4 +46,31 @@ public class ExponentialReliabilityFunctionTest {
 		ExponentialReliabilityFunction f = new ExponentialReliabilityFunction(0.005);
 		Assertions.assertEquals(0.9048, f.getY(20), 0.0001);
 	}
+
+	@Test
+	public void testGetX() {
+		ExponentialReliabilityFunction f = new ExponentialReliabilityFunction(0.005);
+		Assertions.assertEquals(1.0, f.getX(f.getY(1)), 1.0E-4);
+		Assertions.assertEquals(26.4778, f.getX(f.getY(26.4778)), 1.0E-4);
+		Assertions.assertEquals(1000.0, f.getX(f.getY(1000)), 1.0E-4);
+	}
+
+	@Test
+	public void testGetYArray() {
+		FunctionAssertions.assertGetYArray(new ExponentialReliabilityFunction(0.005));
+	}
+
+	@Test
+	public void testGetMoment() {
+		ExponentialReliabilityFunction f = new ExponentialReliabilityFunction(0.01);
+		Assertions.assertEquals(100.0, f.getMoment(1), 1.0E-10);
+		Assertions.assertEquals(6.0E6, f.getMoment(3), 1.0E-6);
+	}
+
+	@Test
+	public void testGetDensity() {
+		ExponentialReliabilityFunction f = new ExponentialReliabilityFunction(0.005);
+		Assertions.assertEquals(0.005 * f.getY(20), f.getDensity(20), 1.0E-15);
+	}
+
 }
@@ -15,6 +15,7 @@
 
 package org.jreliability.function.common;
 
+import org.jreliability.function.FunctionAssertions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -75,4 +76,17 @@ public class HjorthReliabilityFunctionTest {
 		Assertions.assertEquals(0.0131730, f.getY(2), 0.000001);
 	}
 
+	@Test
+	public void testGetX() {
+		HjorthReliabilityFunction f = new HjorthReliabilityFunction(0.1, 0.01, 0.5);
+		Assertions.assertEquals(0.5, f.getX(f.getY(0.5)), 1.0E-4);
+		Assertions.assertEquals(3.0, f.getX(f.getY(3)), 1.0E-4);
+		Assertions.assertEquals(20.0, f.getX(f.getY(20)), 1.0E-4);
+	}
+
+	@Test
+	public void testGetYArray() {
+		FunctionAssertions.assertGetYArray(new HjorthReliabilityFunction(0.7, 2, 0.1));
+	}
+
 }
@@ -28,6 +28,8 @@
  */
 package org.jreliability.function.common;
 
+import org.jreliability.evaluator.IntegralEvaluator;
+import org.jreliability.function.FunctionAssertions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -76,4 +78,33 @@ public class LognormalReliabilityFunctionTest {
 		});
 	}
 
+	@Test
+	public void testGetX() {
+		LognormalReliabilityFunction f = new LognormalReliabilityFunction(2, 0.5);
+		Assertions.assertEquals(3.0, f.getX(f.getY(3)), 1.0E-4);
+		Assertions.assertEquals(7.4, f.getX(f.getY(7.4)), 1.0E-4);
+		Assertions.assertEquals(20.0, f.getX(f.getY(20)), 1.0E-4);
+	}
+
+	@Test
+	public void testGetYArray() {
+		FunctionAssertions.assertGetYArray(new LognormalReliabilityFunction(0.0, 0.5));
+	}
+
+	@Test
+	public void testGetMoment() {
+		// The first moment is the integral of the reliability function
+		double mean = new IntegralEvaluator().evaluateToInfinity(f, 0, 1);
+		Assertions.assertEquals(mean, f.getMoment(1), 1.0E-5);
+		Assertions.assertEquals(Math.exp(0.5), f.getMoment(2), 1.0E-12);
+	}
+
+	@Test
+	public void testGetDensity() {
+		double h = 1.0E-4;
+		double density = (f.getY(1.5 - h) - f.getY(1.5 + h)) / (2 * h);
+		Assertions.assertEquals(density, f.getDensity(1.5), 1.0E-5);
+		Assertions.assertEquals(0.0, f.getDensity(0.0), 0.0);
+	}
+
 }
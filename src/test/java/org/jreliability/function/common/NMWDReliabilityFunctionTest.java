@@ -15,6 +15,7 @@
 
 package org.jreliability.function.common;
 
+import org.jreliability.function.FunctionAssertions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -53,4 +54,10 @@ public class NMWDReliabilityFunctionTest {
 		NMWDReliabilityFunction f = new NMWDReliabilityFunction(0.01512, 0.0876, 0.389);
 		Assertions.assertEquals(0.8380313, f.getY(5), 1.0E-5);
 	}
+
+	@Test
+	public void testGetYArray() {
+		FunctionAssertions.assertGetYArray(new NMWDReliabilityFunction(0.01512, 0.0876, 0.389));
+	}
+
 }
@@ -80,4 +80,12 @@ public class NormalReliabilityFunctionTest {
 	public void testGetYAtMu() {
 		Assertions.assertEquals(0.5000, f.getY(0.0), 0.0001);
 	}
+
+	@Test
+	public void testGetX() {
+		NormalReliabilityFunction f = new NormalReliabilityFunction(10, 2);
+		Assertions.assertEquals(7.0, f.getX(f.getY(7)), 1.0E-4);
+		Assertions.assertEquals(10.5, f.getX(f.getY(10.5)), 1.0E-4);
+		Assertions.assertEquals(14.0, f.getX(f.getY(14)), 1.0E-4);
+	}
 }
@@ -31,6 +31,7 @@ package org.jreliability.function.common;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.jreliability.function.FunctionAssertions;
 import org.jreliability.function.ReliabilityFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -71,4 +72,12 @@ public class ParallelReliabilityFunctionTest {
 		Assertions.assertEquals(function.getFunctions().size(), 2);
 	}
 
+	@Test
+	public void testGetYArray() {
+		ParallelReliabilityFunction function = new ParallelReliabilityFunction();
+		function.add(new ExponentialReliabilityFunction(0.005));
+		function.add(new WeibullReliabilityFunction(0.01, 2));
+		FunctionAssertions.assertGetYArray(function);
+	}
+
 }
@@ -31,6 +31,8 @@ package org.jreliability.function.common;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.jreliability.function.AnalyticReliabilityFunction;
+import org.jreliability.function.FunctionAssertions;
 import org.jreliability.function.ReliabilityFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -71,4 +73,39 @@ public class SerialReliabilityFunctionTest {
 		Assertions.assertEquals(function.getFunctions().size(), 2);
 	}
 
+	@Test
+	public void testGetYArray() {
+		SerialReliabilityFunction function = new SerialReliabilityFunction();
+		function.add(new ExponentialReliabilityFunction(0.005));
+		function.add(new WeibullReliabilityFunction(0.01, 2));
+		FunctionAssertions.assertGetYArray(function);
+	}
+
+	@Test
+	public void testGetAnalyticFunction() {
+		SerialReliabilityFunction function = new SerialReliabilityFunction();
+		function.add(new ExponentialReliabilityFunction(0.005));
+		function.add(new ExponentialReliabilityFunction(0.004));
+		ExponentialReliabilityFunction exponential = (ExponentialReliabilityFunction) function.getAnalyticFunction();
+		Assertions.assertEquals(0.009, exponential.getAlpha(), 1.0E-15);
+		Assertions.assertEquals(function.getY(20), exponential.getY(20), 1.0E-15);
+
+		function.add(new WeibullReliabilityFunction(0.01, 2));
+		Assertions.assertNull(function.getAnalyticFunction());
+	}
+
+	@Test
+	public void testGetAnalyticWeibullFunction() {
+		SerialReliabilityFunction function = new SerialReliabilityFunction();
+		function.add(new WeibullReliabilityFunction(0.01, 2));
+		function.add(new WeibullReliabilityFunction(0.02, 2));
+		AnalyticReliabilityFunction weibull = function.getAnalyticFunction();
+		Assertions.assertTrue(weibull instanceof WeibullReliabilityFunction);
+		Assertions.assertEquals(function.getY(30), weibull.getY(30), 1.0E-15);
+
+		function.add(new HjorthReliabilityFunction(0.7, 2, 0.1));
+		Assertions.assertNull(function.getAnalyticFunction());
+		Assertions.assertNull(new SerialReliabilityFunction().getAnalyticFunction());
+	}
+
 }
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.function.common;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link StreamingSampledReliabilityFunctionTest} tests the
+ * {@link StreamingSampledReliabilityFunction}.
+ * 
+ * @author glass
+ *
+ */
+public class StreamingSampledReliabilityFunctionTest {
+
+	protected StreamingSampledReliabilityFunction f;
+
+	protected ExponentialReliabilityFunction exponential = new ExponentialReliabilityFunction(0.5);
+
+	@BeforeEach
+	public void init() {
+		f = new StreamingSampledReliabilityFunction();
+		SplittableRandom random = new SplittableRandom(0);
+		for (int i = 0; i < 100000; i++) {
+			f.add(-Math.log(1 - random.nextDouble()) / 0.5);
+		}
+	}
+
+	@Test
+	public void testGetY() {
+		Assertions.assertEquals(1.0, f.getY(-1.0), 0.0);
+		Assertions.assertEquals(0.0, f.getY(1000.0), 0.0);
+		for (double x = 0.01; x < 10; x *= 1.5) {
+			Assertions.assertEquals(exponential.getY(x), f.getY(x), 0.005);
+		}
+	}
+
+	@Test
+	public void testMerge() {
+		StreamingSampledReliabilityFunction a = new StreamingSampledReliabilityFunction();
+		StreamingSampledReliabilityFunction b = new StreamingSampledReliabilityFunction();
+		StreamingSampledReliabilityFunction all = new StreamingSampledReliabilityFunction();
+		for (int i = 1; i <= 1000; i++) {
+			double x = i * 0.37;
+			(i % 2 == 0 ? a : b).add(x);
+			all.add(x);
+		}
+		a.merge(b);
+
+		Assertions.assertEquals(1000, a.getCount());
+		for (double x = 0; x < 400; x += 3.3) {
+			Assertions.assertEquals(all.getY(x), a.getY(x), 1.0E-12);
+		}
+	}
+
+	@Test
+	public void testMergeDifferentAccuracy() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			f.merge(new StreamingSampledReliabilityFunction(0.05, 100));
+		});
+	}
+
+	@Test
+	public void testBoundedBins() {
+		StreamingSampledReliabilityFunction g = new StreamingSampledReliabilityFunction(0.01, 100);
+		for (int i = 0; i < 1000; i++) {
+			g.add(Math.pow(10, i % 10));
+		}
+		Assertions.assertEquals(100, g.getBins());
+		Assertions.assertEquals(0.1, g.getY(2.0E8), 1.0E-12);
+		Assertions.assertEquals(0.0, g.getY(1.0E9), 1.0E-12);
+		// The samples below the lowest bin are collapsed into it
+		Assertions.assertEquals(1.0, g.getY(1.0E8), 1.0E-12);
+	}
+
+	@Test
+	public void testZeros() {
+		StreamingSampledReliabilityFunction g = new StreamingSampledReliabilityFunction();
+		g.add(0.0);
+		g.add(1.0);
+		Assertions.assertEquals(0.5, g.getY(0.0), 0.0);
+		Assertions.assertEquals(0.5, g.getY(0.5), 0.0);
+		Assertions.assertEquals(0.0, g.getY(1.0), 0.0);
+	}
+
+	@Test
+	public void testNegativeSample() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			f.add(-1.0);
+		});
+	}
+
+	@Test
+	public void testNoSamples() {
+		Assertions.assertThrows(IllegalStateException.class, () -> {
+			new StreamingSampledReliabilityFunction().getY(1.0);
+		});
+	}
+
+}
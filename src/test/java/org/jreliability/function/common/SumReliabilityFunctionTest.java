@@ -33,6 +33,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.jreliability.function.FunctionAssertions;
 import org.jreliability.function.ReliabilityFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -78,4 +79,12 @@ public class SumReliabilityFunctionTest {
 		Assertions.assertEquals(function.getFunctions().size(), 2);
 	}
 
+	@Test
+	public void testGetYArray() {
+		SumReliabilityFunction function = new SumReliabilityFunction();
+		function.add(new ExponentialReliabilityFunction(0.005));
+		function.add(new WeibullReliabilityFunction(0.01, 2));
+		FunctionAssertions.assertGetYArray(function);
+	}
+
 }
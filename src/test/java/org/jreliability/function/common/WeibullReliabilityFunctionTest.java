@@ -15,6 +15,7 @@
 
 package org.jreliability.function.common;
 
+import org.jreliability.function.FunctionAssertions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -60,4 +61,43 @@ public class WeibullReliabilityFunctionTest {
 		WeibullReliabilityFunction f = new WeibullReliabilityFunction(0.01, 2);
 		Assertions.assertEquals(0.99750312, f.getY(5), 0.0001);
 	}
+
+	@Test
+	public void testGetX() {
+		WeibullReliabilityFunction f = new WeibullReliabilityFunction(0.01, 2);
+		Assertions.assertEquals(5.0, f.getX(f.getY(5)), 1.0E-4);
+		Assertions.assertEquals(100.0, f.getX(f.getY(100)), 1.0E-4);
+		Assertions.assertEquals(300.0, f.getX(f.getY(300)), 1.0E-4);
+	}
+
+	@Test
+	public void testGetYArray() {
+		FunctionAssertions.assertGetYArray(new WeibullReliabilityFunction(0.01, 2));
+		FunctionAssertions.assertGetYArray(new WeibullReliabilityFunction(0.01, 1));
+		FunctionAssertions.assertGetYArray(new WeibullReliabilityFunction(0.01, 0.7));
+	}
+
+	@Test
+	public void testGetMoment() {
+		WeibullReliabilityFunction f = new WeibullReliabilityFunction(0.01, 1);
+		Assertions.assertEquals(100.0, f.getMoment(1), 1.0E-10);
+		Assertions.assertEquals(2.0E4, f.getMoment(2), 1.0E-8);
+	}
+
+	@Test
+	public void testGamma() {
+		Assertions.assertEquals(1.0, WeibullReliabilityFunction.gamma(1), 1.0E-14);
+		Assertions.assertEquals(24.0, WeibullReliabilityFunction.gamma(5), 1.0E-12);
+		Assertions.assertEquals(Math.sqrt(Math.PI), WeibullReliabilityFunction.gamma(0.5), 1.0E-14);
+		Assertions.assertEquals(-2 * Math.sqrt(Math.PI), WeibullReliabilityFunction.gamma(-0.5), 1.0E-13);
+	}
+
+	@Test
+	public void testGetDensity() {
+		WeibullReliabilityFunction f = new WeibullReliabilityFunction(0.01, 2);
+		double h = 1.0E-4;
+		double density = (f.getY(50 - h) - f.getY(50 + h)) / (2 * h);
+		Assertions.assertEquals(density, f.getDensity(50), 1.0E-9);
+	}
+
 }
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.function.common;
+
+import org.jreliability.common.Estimate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link WeightedSampledReliabilityFunctionTest} tests the
+ * {@link WeightedSampledReliabilityFunction}.
+ * 
+ * @author glass
+ *
+ */
+public class WeightedSampledReliabilityFunctionTest {
+	protected WeightedSampledReliabilityFunction f;
+
+	@BeforeEach
+	public void init() {
+		f = new WeightedSampledReliabilityFunction(new double[] { 1.5, 0.5, 1.0, 2.0 },
+				new double[] { 0.4, 0.1, 0.2, 0.8 });
+	}
+
+	@Test
+	public void testGetY() {
+		Assertions.assertEquals(1.0, f.getY(0.0), 1.0E-12);
+		Assertions.assertEquals(1 - 0.3 / 4, f.getY(1.0), 1.0E-12);
+		Assertions.assertEquals(1 - 0.7 / 4, f.getY(1.7), 1.0E-12);
+		Assertions.assertEquals(1 - 1.5 / 4, f.getY(1.0E5), 1.0E-12);
+	}
+
+	@Test
+	public void testGetSamples() {
+		Assertions.assertArrayEquals(new double[] { 0.5, 1.0, 1.5, 2.0 }, f.getSamples(), 0.0);
+	}
+
+	@Test
+	public void testEstimateUnreliability() {
+		Estimate estimate = f.estimateUnreliability(1.0, 0.95);
+		Assertions.assertEquals(0.3 / 4, estimate.getValue(), 1.0E-12);
+		// Sample variance of the weights 0.1, 0.2, 0, 0
+		double mean = 0.3 / 4;
+		double variance = ((0.01 + 0.04) / 4 - mean * mean) * 4 / 3;
+		Assertions.assertEquals(1.959964 * Math.sqrt(variance / 4), estimate.getHalfWidth(), 1.0E-6);
+		Assertions.assertEquals(4, estimate.getSamples());
+	}
+
+	@Test
+	public void testDifferentLengths() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			new WeightedSampledReliabilityFunction(new double[] { 1.0 }, new double[0]);
+		});
+	}
+
+}
@@ -46,9 +46,9 @@ public class BAGTTest {
 		BAGT<String> im = setupCoherentTestSystem();
 		Map<String, Double> results = im.calculate(BAGT.Variant.PLUS);
 
-		Assertions.assertEquals(18.33320971180894, results.get("component1"), TEST_DELTA);
-		Assertions.assertEquals(63.333959017207775, results.get("component2"), TEST_DELTA);
-		Assertions.assertEquals(71.66672472239378, results.get("component3"), TEST_DELTA);
+		Assertions.assertEquals(18.33333333335954, results.get("component1"), TEST_DELTA);
+		Assertions.assertEquals(63.333333333359604, results.get("component2"), TEST_DELTA);
+		Assertions.assertEquals(71.66666666669296, results.get("component3"), TEST_DELTA);
 	}
 
 	@Test
@@ -56,9 +56,9 @@ public class BAGTTest {
 		BAGT<String> im = setupCoherentTestSystem();
 		Map<String, Double> results = im.calculate(BAGT.Variant.PLUS_NORMALIZED);
 
-		Assertions.assertEquals(0.40740296235326423, results.get("component1"), TEST_DELTA);
-		Assertions.assertEquals(1.4074154458916484, results.get("component2"), TEST_DELTA);
-		Assertions.assertEquals(1.5925872453884808, results.get("component3"), TEST_DELTA);
+		Assertions.assertEquals(0.40740762948855647, results.get("component1"), TEST_DELTA);
+		Assertions.assertEquals(1.4074077868728956, results.get("component2"), TEST_DELTA);
+		Assertions.assertEquals(1.592593001465752, results.get("component3"), TEST_DELTA);
 	}
 
 	@Test
@@ -66,9 +66,9 @@ public class BAGTTest {
 		BAGT<String> im = setupCoherentTestSystem();
 		Map<String, Double> results = im.calculate(BAGT.Variant.MINUS);
 
-		Assertions.assertEquals(25.00660198183078, results.get("component1"), TEST_DELTA);
-		Assertions.assertEquals(20.005272656749337, results.get("component2"), TEST_DELTA);
-		Assertions.assertEquals(11.670674336727288, results.get("component3"), TEST_DELTA);
+		Assertions.assertEquals(24.999999999935255, results.get("component1"), TEST_DELTA);
+		Assertions.assertEquals(19.999999999974808, results.get("component2"), TEST_DELTA);
+		Assertions.assertEquals(11.666666634630552, results.get("component3"), TEST_DELTA);
 	}
 
 	@Test
@@ -76,9 +76,9 @@ public class BAGTTest {
 		BAGT<String> im = setupCoherentTestSystem();
 		Map<String, Double> results = im.calculate(BAGT.Variant.MINUS_NORMALIZED);
 
-		Assertions.assertEquals(0.5556999503051907, results.get("component1"), TEST_DELTA);
-		Assertions.assertEquals(0.44455976182908424, results.get("component2"), TEST_DELTA);
-		Assertions.assertEquals(0.25934723772784307, results.get("component3"), TEST_DELTA);
+		Assertions.assertEquals(0.5555555555544233, results.get("component1"), TEST_DELTA);
+		Assertions.assertEquals(0.4444443569299902, results.get("component2"), TEST_DELTA);
+		Assertions.assertEquals(0.2592592997180854, results.get("component3"), TEST_DELTA);
 	}
 
 	private BAGT<String> setupNonCoherentTestSystem() {
@@ -96,9 +96,9 @@ public class BAGTTest {
 		BAGT<String> im = setupNonCoherentTestSystem();
 		Map<String, Double> results = im.calculate(BAGT.Variant.MINUS);
 
-		Assertions.assertEquals(74.99620399721364, results.get("component1"), TEST_DELTA);
-		Assertions.assertEquals(19.974502571796336, results.get("component2"), TEST_DELTA);
-		Assertions.assertEquals(4.989869989110801, results.get("component3"), TEST_DELTA);
+		Assertions.assertEquals(74.99999999996155, results.get("component1"), TEST_DELTA);
+		Assertions.assertEquals(19.999999999999986, results.get("component2"), TEST_DELTA);
+		Assertions.assertEquals(5.000000000000014, results.get("component3"), TEST_DELTA);
 	}
 
 	@Test
@@ -106,9 +106,9 @@ public class BAGTTest {
 		BAGT<String> im = setupNonCoherentTestSystem();
 		Map<String, Double> results = im.calculate(BAGT.Variant.MINUS_NORMALIZED);
 
-		Assertions.assertEquals(0.7895185824205213, results.get("component1"), TEST_DELTA);
-		Assertions.assertEquals(0.21028052240651565, results.get("component2"), TEST_DELTA);
-		Assertions.assertEquals(0.05253059315391258, results.get("component3"), TEST_DELTA);
+		Assertions.assertEquals(0.7894742651431665, results.get("component1"), TEST_DELTA);
+		Assertions.assertEquals(0.21052631607211236, results.get("component2"), TEST_DELTA);
+		Assertions.assertEquals(0.05263157901802828, results.get("component3"), TEST_DELTA);
 	}
 
 	/* TODO: Fix BAGT infinite run time to enable complete testing */
@@ -146,11 +146,11 @@ public class BAGTTest {
 		BAGT<String> im = setupTimeInconsistentNonCoherentTestSystem();
 		Map<String, Double> results = im.calculate(BAGT.Variant.MINUS);
 
-		Assertions.assertEquals(6.846974401650439, results.get("component1"), TEST_DELTA);
-		Assertions.assertEquals(14.276804475931169, results.get("component2"), TEST_DELTA);
-		Assertions.assertEquals(0.5717604268902505, results.get("component3"), TEST_DELTA);
-		Assertions.assertEquals(14.276804475931169, results.get("component4"), TEST_DELTA);
-		Assertions.assertEquals(0.45841530680635856, results.get("component5"), TEST_DELTA);
+		Assertions.assertEquals(6.8478260820811485, results.get("component1"), TEST_DELTA);
+		Assertions.assertEquals(14.285714050022289, results.get("component2"), TEST_DELTA);
+		Assertions.assertEquals(0.5779845973658482, results.get("component3"), TEST_DELTA);
+		Assertions.assertEquals(14.285714050022289, results.get("component4"), TEST_DELTA);
+		Assertions.assertEquals(0.4589371980676411, results.get("component5"), TEST_DELTA);
 	}
 
 	@Test
@@ -158,11 +158,11 @@ public class BAGTTest {
 		BAGT<String> im = setupTimeInconsistentNonCoherentTestSystem();
 		Map<String, Double> results = im.calculate(BAGT.Variant.MINUS_NORMALIZED);
 
-		Assertions.assertEquals(0.3078814972787515, results.get("component1"), TEST_DELTA);
-		Assertions.assertEquals(0.641971720727645, results.get("component2"), TEST_DELTA);
-		Assertions.assertEquals(0.025709816626928825, results.get("component3"), TEST_DELTA);
-		Assertions.assertEquals(0.641971720727645, results.get("component4"), TEST_DELTA);
-		Assertions.assertEquals(0.02061313256860128, results.get("component5"), TEST_DELTA);
+		Assertions.assertEquals(0.30784146414078695, results.get("component1"), TEST_DELTA);
+		Assertions.assertEquals(0.6422089505922035, results.get("component2"), TEST_DELTA);
+		Assertions.assertEquals(0.025983146473128077, results.get("component3"), TEST_DELTA);
+		Assertions.assertEquals(0.6422089505922035, results.get("component4"), TEST_DELTA);
+		Assertions.assertEquals(0.02063140176002052, results.get("component5"), TEST_DELTA);
 	}
 
 	/* TODO: Fix BAGT infinite run time to enable complete testing */
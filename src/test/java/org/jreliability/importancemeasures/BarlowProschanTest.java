@@ -18,6 +18,8 @@ package org.jreliability.importancemeasures;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.jreliability.bdd.BDD;
 import org.jreliability.bdd.BDDProviderFactory;
@@ -30,11 +32,17 @@ import org.jreliability.testsystems.TCNCSystem;
 import org.jreliability.testsystems.TMR;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class BarlowProschanTest {
 	protected final double TEST_DELTA = 0.000001;
 
 	private BarlowProschan<String> setupCoherentTestSystem() {
+		return setupCoherentTestSystem(null);
+	}
+
+	private BarlowProschan<String> setupCoherentTestSystem(ExecutorService executor) {
 		TMR system = new TMR(new ExponentialReliabilityFunction(0.01), new ExponentialReliabilityFunction(0.02),
 				new ExponentialReliabilityFunction(0.03));
 
@@ -42,7 +50,21 @@ public class BarlowProschanTest {
 		BDDTTRF<String> bddTTRF = new BDDTTRF<>(bddProviderFactory.getProvider());
 		BDD<String> bdd = bddTTRF.convertToBDD(system.getTerm());
 
-		return new BarlowProschan<>(bdd, system.getTransformer());
+		return new BarlowProschan<>(bdd, system.getTransformer(), executor);
+	}
+
+	private BarlowProschan<String> setupNonCoherentTestSystem(ExecutorService executor) {
+		TCNCSystem system = new TCNCSystem();
+
+		BDDProviderFactory bddProviderFactory = new JBDDProviderFactory();
+		BDDTTRF<String> bddTTRF = new BDDTTRF<>(bddProviderFactory.getProvider());
+		BDD<String> bdd = bddTTRF.convertToBDD(system.getTerm());
+
+		return new BarlowProschan<>(bdd, system.getTransformer(), executor);
+	}
+
+	private ExecutorService createExecutor(boolean parallel) {
+		return parallel ? Executors.newFixedThreadPool(3) : null;
 	}
 
 	@Test
@@ -71,28 +93,38 @@ public class BarlowProschanTest {
 		Assertions.assertEquals(resultsList, bpf.getY(timesList));
 	}
 
-	@Test
-	public void testCoherentSystem() {
-		BarlowProschan<String> im = setupCoherentTestSystem();
-
-		Map<String, Double> results = im.calculate();
-		Assertions.assertEquals(0.2500943301861718, results.get("component1"), TEST_DELTA);
-		Assertions.assertEquals(0.4001030622034817, results.get("component2"), TEST_DELTA);
-		Assertions.assertEquals(0.3504359866196826, results.get("component3"), TEST_DELTA);
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	public void testCoherentSystem(boolean parallel) {
+		ExecutorService executor = createExecutor(parallel);
+		try {
+			BarlowProschan<String> im = setupCoherentTestSystem(executor);
+
+			Map<String, Double> results = im.calculate();
+			Assertions.assertEquals(0.24999995576139894, results.get("component1"), TEST_DELTA);
+			Assertions.assertEquals(0.3999999286558952, results.get("component2"), TEST_DELTA);
+			Assertions.assertEquals(0.34999980410253256, results.get("component3"), TEST_DELTA);
+		} finally {
+			if (executor != null) {
+				executor.shutdown();
+			}
+		}
 	}
 
-	@Test
-	public void testNonCoherentSystem() {
-		Assertions.assertThrows(ArithmeticException.class, () -> {
-			BDDProviderFactory bddProviderFactory = new JBDDProviderFactory();
-			BDDTTRF<String> bddTTRF = new BDDTTRF<>(bddProviderFactory.getProvider());
-
-			TCNCSystem system = new TCNCSystem();
-
-			BDD<String> bdd = bddTTRF.convertToBDD(system.getTerm());
-			BarlowProschan<String> im = new BarlowProschan<>(bdd, system.getTransformer());
-
-			im.calculate();
-		});
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	public void testNonCoherentSystem(boolean parallel) {
+		ExecutorService executor = createExecutor(parallel);
+		try {
+			BarlowProschan<String> im = setupNonCoherentTestSystem(executor);
+
+			Assertions.assertThrows(ArithmeticException.class, () -> {
+				im.calculate();
+			});
+		} finally {
+			if (executor != null) {
+				executor.shutdown();
+			}
+		}
 	}
 }
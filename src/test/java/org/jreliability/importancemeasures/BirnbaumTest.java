@@ -16,6 +16,8 @@
 package org.jreliability.importancemeasures;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.jreliability.bdd.BDD;
 import org.jreliability.bdd.BDDProviderFactory;
@@ -98,6 +100,25 @@ public class BirnbaumTest {
 		Assertions.assertEquals(0.03268943622756107, results.get("component3"), TEST_DELTA);
 	}
 
+	@Test
+	public void testNonCoherentSystemParallel() {
+		TCNCSystem system = new TCNCSystem();
+
+		BDDProviderFactory bddProviderFactory = new JBDDProviderFactory();
+		BDDTTRF<String> bddTTRF = new BDDTTRF<>(bddProviderFactory.getProvider());
+		BDD<String> bdd = bddTTRF.convertToBDD(system.getTerm());
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			Birnbaum<String> parallel = new Birnbaum<>(bdd, system.getTransformer(), executor);
+			Birnbaum<String> sequential = new Birnbaum<>(bdd, system.getTransformer());
+
+			Assertions.assertEquals(sequential.calculate(50), parallel.calculate(50));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	private Birnbaum<String> setupNonCoherentTestSystem() {
 		TCNCSystem system = new TCNCSystem();
 
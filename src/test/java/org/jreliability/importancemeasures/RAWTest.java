@@ -16,6 +16,8 @@
 package org.jreliability.importancemeasures;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.jreliability.bdd.BDD;
 import org.jreliability.bdd.BDDProviderFactory;
@@ -27,6 +29,8 @@ import org.jreliability.testsystems.TINCSystem;
 import org.jreliability.testsystems.TMR;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class RAWTest {
 	protected final double TEST_DELTA = 0.000001;
@@ -58,6 +62,10 @@ public class RAWTest {
 	}
 
 	private RAW<String> setupCoherentTestSystem() {
+		return setupCoherentTestSystem(null);
+	}
+
+	private RAW<String> setupCoherentTestSystem(ExecutorService executor) {
 		TMR system = new TMR(new ExponentialReliabilityFunction(0.01), new ExponentialReliabilityFunction(0.02),
 				new ExponentialReliabilityFunction(0.03));
 
@@ -65,17 +73,25 @@ public class RAWTest {
 		BDDTTRF<String> bddTTRF = new BDDTTRF<>(bddProviderFactory.getProvider());
 		BDD<String> bdd = bddTTRF.convertToBDD(system.getTerm());
 
-		return new RAW<>(bdd, system.getTransformer());
+		return new RAW<>(bdd, system.getTransformer(), executor);
 	}
 
-	@Test
-	public void testCoherentSystemAtTime0d05() {
-		RAW<String> im = setupCoherentTestSystem();
-		Map<String, Double> results = im.calculate(0.05);
-
-		Assertions.assertEquals(909.4422672479282, results.get("component1"), TEST_DELTA);
-		Assertions.assertEquals(727.7356567645448, results.get("component2"), TEST_DELTA);
-		Assertions.assertEquals(545.9381702587863, results.get("component3"), TEST_DELTA);
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	public void testCoherentSystemAtTime0d05(boolean parallel) {
+		ExecutorService executor = parallel ? Executors.newFixedThreadPool(3) : null;
+		try {
+			RAW<String> im = setupCoherentTestSystem(executor);
+			Map<String, Double> results = im.calculate(0.05);
+
+			Assertions.assertEquals(909.4422672479282, results.get("component1"), TEST_DELTA);
+			Assertions.assertEquals(727.7356567645448, results.get("component2"), TEST_DELTA);
+			Assertions.assertEquals(545.9381702587863, results.get("component3"), TEST_DELTA);
+		} finally {
+			if (executor != null) {
+				executor.shutdown();
+			}
+		}
 	}
 
 	@Test
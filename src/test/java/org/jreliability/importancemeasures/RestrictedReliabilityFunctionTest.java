@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * JReliability is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * JReliability is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JReliability. If not, see http://www.gnu.org/licenses/.
+ *******************************************************************************/
+
+package org.jreliability.importancemeasures;
+
+import org.jreliability.bdd.BDD;
+import org.jreliability.bdd.BDDProviderFactory;
+import org.jreliability.bdd.BDDTTRF;
+import org.jreliability.bdd.BDDTopEvent;
+import org.jreliability.bdd.javabdd.JBDDProviderFactory;
+import org.jreliability.function.ReliabilityFunction;
+import org.jreliability.testsystems.TCNCSystem;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RestrictedReliabilityFunctionTest {
+	protected final double TEST_DELTA = 1.0E-12;
+
+	@Test
+	public void testGetY() {
+		TCNCSystem system = new TCNCSystem();
+
+		BDDProviderFactory bddProviderFactory = new JBDDProviderFactory();
+		BDDTTRF<String> bddTTRF = new BDDTTRF<>(bddProviderFactory.getProvider());
+		BDD<String> bdd = bddTTRF.convertToBDD(system.getTerm());
+		BDDTopEvent<String> topEvent = new BDDTopEvent<>(bdd);
+		ReliabilityFunction[] functions = ImportanceMeasures.getFunctions(topEvent, system.getTransformer());
+
+		for (String var : bdd.getVariables()) {
+			int index = topEvent.getVariables().indexOf(var);
+			ReliabilityFunction works = bddTTRF.convert(bdd.restrict(bdd.getProvider().get(var)), system.getTransformer());
+			ReliabilityFunction fails = bddTTRF.convert(bdd.restrict(bdd.getProvider().get(var).not()), system.getTransformer());
+			ReliabilityFunction restrictedWorks = new RestrictedReliabilityFunction<>(topEvent, functions, index, 1.0);
+			ReliabilityFunction restrictedFails = new RestrictedReliabilityFunction<>(topEvent, functions, index, 0.0);
+
+			for (double time = 0; time < 100; time += 5) {
+				Assertions.assertEquals(works.getY(time), restrictedWorks.getY(time), TEST_DELTA);
+				Assertions.assertEquals(fails.getY(time), restrictedFails.getY(time), TEST_DELTA);
+			}
+		}
+	}
+}
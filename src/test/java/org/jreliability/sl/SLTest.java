@@ -14,8 +14,12 @@
  *******************************************************************************/
 package org.jreliability.sl;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.collections15.Transformer;
 import org.jreliability.booleanfunction.Term;
@@ -27,8 +31,10 @@ import org.jreliability.booleanfunction.common.LiteralTerm;
 import org.jreliability.booleanfunction.common.NOTTerm;
 import org.jreliability.booleanfunction.common.ORTerm;
 import org.jreliability.booleanfunction.common.TRUETerm;
+import org.jreliability.common.Estimate;
 import org.jreliability.function.ReliabilityFunction;
 import org.jreliability.function.common.ConstantFailureFunction;
+import org.jreliability.function.common.ExponentialReliabilityFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -54,7 +60,7 @@ public class SLTest {
 		term.add(C2Literal);
 
 		SL<String> SL = new SL<>(term); // Assume standard bitstreamLength is
-										// set to suitable value (10k)
+										// set to suitable value (100k)
 		SLReliabilityFunction<String> reliabilityFunction = new SLReliabilityFunction<>(SL,
 				new Transformer<String, ReliabilityFunction>() {
 					@Override
@@ -171,9 +177,10 @@ public class SLTest {
 	@Test
 	public void testUnsupportedTerms() {
 		Assertions.assertThrows(IllegalArgumentException.class, () -> {
-			LinearTerm term = new LinearTerm(Comparator.EQUAL, 1);
+			ANDTerm term = new ANDTerm();
 			term.add(C1Literal);
-			term.add(C2Literal);
+			term.add(new Term() {
+			});
 
 			SL<String> SL = new SL<>(term, 100000);
 			SLReliabilityFunction<String> reliabilityFunction = new SLReliabilityFunction<>(SL,
@@ -223,6 +230,193 @@ public class SLTest {
 		Assertions.assertFalse(sl.isProvidingService(failedComponents));
 	}
 
+	@Test
+	public void testPartialWord() {
+		// 100 bits do not fill the last word, the remaining bits must not count
+		NOTTerm term = new NOTTerm(new FALSETerm());
+
+		SL<String> sl = new SL<>(term, 100);
+		Assertions.assertEquals(1.0, sl.getProbabilityPrimitive((String a) -> 0.5), 0.0);
+	}
+
+	@Test
+	public void testProbability() {
+		ANDTerm term = new ANDTerm();
+		term.add(C1Literal);
+		term.add(new NOTTerm(C2Literal));
+
+		SL<String> sl = new SL<>(term, 1000000);
+		Assertions.assertEquals(0.3 * 0.9, sl.getProbabilityPrimitive((String a) -> a.equals(C1) ? 0.3 : 0.1), 0.005);
+	}
+
+	@Test
+	public void testParallel() {
+		ORTerm term = new ORTerm();
+		term.add(C1Literal);
+		term.add(C2Literal);
+
+		ExecutorService executor = new ForkJoinPool(4);
+		try {
+			SL<String> sequential = new SL<>(term, 1000000, 0);
+			SL<String> parallel = new SL<>(term, 1000000, 0, executor);
+			double probability = parallel.getProbabilityPrimitive((String a) -> 0.5);
+			// Each block uses its own random number generator
+			Assertions.assertEquals(sequential.getProbabilityPrimitive((String a) -> 0.5), probability, 0.0);
+			Assertions.assertEquals(0.75, probability, 0.005);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testGetProbabilities() {
+		ANDTerm term = new ANDTerm();
+		term.add(C1Literal);
+		term.add(C2Literal);
+
+		SL<String> sl = new SL<>(term, 100000, 0);
+		double[] points = { 1.0, 0.9, 0.5, 0.1, 0.0 };
+		double[] probabilities = sl.getProbabilities((a, k) -> points[k], 5);
+		double[] expected = { 1.0, 0.81, 0.25, 0.01, 0.0 };
+		for (int k = 0; k < expected.length; k++) {
+			Assertions.assertEquals(expected[k], probabilities[k], 0.01);
+			if (k > 0) {
+				// Correlated bit streams keep the probabilities monotone
+				Assertions.assertTrue(probabilities[k] <= probabilities[k - 1]);
+			}
+		}
+	}
+
+	@Test
+	public void testGetYList() {
+		ORTerm term = new ORTerm();
+		term.add(C1Literal);
+		term.add(C2Literal);
+
+		SLReliabilityFunction<String> reliabilityFunction = new SLReliabilityFunction<>(new SL<>(term, 100000),
+				new Transformer<String, ReliabilityFunction>() {
+					@Override
+					public ReliabilityFunction transform(String input) {
+						return new ExponentialReliabilityFunction(0.1);
+					}
+				});
+		List<Double> ys = reliabilityFunction.getY(Arrays.asList(0.0, 1.0, 10.0));
+		Assertions.assertEquals(3, ys.size());
+		for (int k = 0; k < ys.size(); k++) {
+			double r = Math.exp(-0.1 * new double[] { 0.0, 1.0, 10.0 }[k]);
+			Assertions.assertEquals(1 - (1 - r) * (1 - r), ys.get(k), 0.01);
+		}
+	}
+
+	@Test
+	public void testLinear() {
+		// 2-out-of-3 system
+		LinearTerm term = new LinearTerm(Comparator.GREATEREQUAL, 2);
+		term.add(C1Literal);
+		term.add(C2Literal);
+		term.add(C3Literal);
+
+		SL<String> sl = new SL<>(term, 1000000, 0);
+		double p = 0.9;
+		Assertions.assertEquals(3 * p * p * (1 - p) + p * p * p, sl.getProbabilityPrimitive((String a) -> p), 0.005);
+	}
+
+	@Test
+	public void testLinearComparators() {
+		// Compare 2 * C1 - C2 + 3 * C3 with 2 for all assignments
+		int[][] assignments = { { 0, 0, 0 }, { 0, 0, 1 }, { 0, 1, 0 }, { 0, 1, 1 }, { 1, 0, 0 }, { 1, 0, 1 }, { 1, 1, 0 },
+				{ 1, 1, 1 } };
+		for (Comparator comparator : Comparator.values()) {
+			LinearTerm term = new LinearTerm(comparator, 2);
+			term.add(2, C1Literal);
+			term.add(-1, C2Literal);
+			term.add(3, C3Literal);
+			SL<String> sl = new SL<>(term, 1000, 0);
+
+			for (int[] assignment : assignments) {
+				int sum = 2 * assignment[0] - assignment[1] + 3 * assignment[2];
+				boolean result;
+				switch (comparator) {
+				case EQUAL:
+					result = sum == 2;
+					break;
+				case GREATER:
+					result = sum > 2;
+					break;
+				case GREATEREQUAL:
+					result = sum >= 2;
+					break;
+				case LESS:
+					result = sum < 2;
+					break;
+				default:
+					result = sum <= 2;
+				}
+				double probability = sl.getProbabilityPrimitive((String a) -> (double) assignment[a.equals(C1) ? 0
+						: a.equals(C2) ? 1 : 2]);
+				Assertions.assertEquals(result ? 1.0 : 0.0, probability, 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void testGetProbabilityConverges() {
+		// The bits are independent, such that long streams resolve small
+		// probabilities
+		SL<String> sl = new SL<>(C1Literal, 10000000, 42);
+		Assertions.assertEquals(1.0E-5, sl.getProbabilityPrimitive((String a) -> 1.0E-5), 4.0E-6);
+	}
+
+	@Test
+	public void testGetProbabilitySameGenerator() {
+		ORTerm term = new ORTerm();
+		term.add(C1Literal);
+		term.add(C2Literal);
+
+		// A single point and multiple points draw the same bit streams
+		SL<String> single = new SL<>(term, 100000, 7);
+		SL<String> multiple = new SL<>(term, 100000, 7);
+		double probability = single.getProbabilityPrimitive((String a) -> 0.3);
+		double[] probabilities = multiple.getProbabilities((a, k) -> 0.3, 1);
+		Assertions.assertEquals(probability, probabilities[0], 0.0);
+	}
+
+	@Test
+	public void testEstimateProbability() {
+		ORTerm term = new ORTerm();
+		term.add(C1Literal);
+		term.add(C2Literal);
+
+		SL<String> sl = new SL<>(term, 10000, 0);
+		Estimate estimate = sl.estimateProbability((String a) -> 0.5, 0.002, 0.95);
+		Assertions.assertTrue(estimate.getHalfWidth() <= 0.002);
+		Assertions.assertTrue(estimate.getSamples() > 10000);
+		Assertions.assertEquals(0, estimate.getSamples() % 10000);
+		Assertions.assertEquals(0.75, estimate.getValue(), 0.005);
+		Assertions.assertTrue(estimate.getLower() <= estimate.getValue() && estimate.getValue() <= estimate.getUpper());
+	}
+
+	@Test
+	public void testEstimateSmallProbability() {
+		SL<String> sl = new SL<>(C1Literal, 100000, 42);
+		Estimate estimate = sl.estimateProbability((String a) -> 1.0E-5, 2.0E-6, 0.95);
+		Assertions.assertTrue(estimate.getHalfWidth() <= 2.0E-6);
+		Assertions.assertTrue(estimate.getLower() <= 1.0E-5 && 1.0E-5 <= estimate.getUpper());
+	}
+
+	@Test
+	public void testEstimateProbabilityMaxStreams() {
+		ORTerm term = new ORTerm();
+		term.add(C1Literal);
+		term.add(C2Literal);
+
+		SL<String> sl = new SL<>(term, 100, 0);
+		Estimate estimate = sl.estimateProbability((String a) -> 0.5, 1.0E-6, 0.95);
+		Assertions.assertEquals(100L * SL.MAX_STREAMS, estimate.getSamples());
+		Assertions.assertTrue(estimate.getHalfWidth() > 1.0E-6);
+		Assertions.assertEquals(0.75, estimate.getValue(), 0.01);
+	}
+
 	@Test
 	public void testGetSetBitStreamLength() {
 		// Sensor 1 & 2 in parallel, sensor 3 in series